@@ -15,21 +15,46 @@
 
 package org.eclipse.edc.catalog.cache;
 
+import org.eclipse.edc.catalog.cache.crawler.AdaptiveCrawlScheduler;
+import org.eclipse.edc.catalog.cache.crawler.CrawlGeneration;
+import org.eclipse.edc.catalog.cache.crawler.CrawlerBulkhead;
+import org.eclipse.edc.catalog.cache.crawler.CrawlerCircuitBreaker;
+import org.eclipse.edc.catalog.cache.crawler.ExponentialBackoff;
+import org.eclipse.edc.catalog.cache.crawler.StalenessPrioritizer;
 import org.eclipse.edc.catalog.spi.CatalogCrawlerConfiguration;
 import org.eclipse.edc.crawler.spi.CrawlerActionRegistry;
+import org.eclipse.edc.crawler.spi.CrawlerMetrics;
 import org.eclipse.edc.crawler.spi.CrawlerSuccessHandler;
+import org.eclipse.edc.crawler.spi.TargetNode;
 import org.eclipse.edc.crawler.spi.TargetNodeDirectory;
 import org.eclipse.edc.crawler.spi.TargetNodeFilter;
 import org.eclipse.edc.crawler.spi.WorkItem;
+import org.eclipse.edc.crawler.spi.WorkItemQueue;
 import org.eclipse.edc.crawler.spi.model.ExecutionPlan;
 import org.eclipse.edc.crawler.spi.model.UpdateRequest;
+import org.eclipse.edc.crawler.spi.model.UpdateResponse;
 import org.eclipse.edc.spi.monitor.Monitor;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import static java.lang.String.format;
@@ -38,9 +63,43 @@ import static java.lang.String.format;
  * The execution manager is responsible for instantiating crawlers and delegating the incoming work items among them.
  * Work items are fetched directly from the {@link TargetNodeDirectory}, crawlers are instantiated before starting the run and will be reused.
  * <p>
- * Pre- and Post-Tasks can be registered to perform preparatory or cleanup operations.
+ * Every crawl run is a {@link CrawlGeneration}. A new generation is only started once the previous one has completed, i.e. all
+ * of its work items have succeeded or were discarded, or once the previous generation has timed out.
+ * <p>
+ * Pre- and Post-Tasks can be registered to perform preparatory or cleanup operations. The post-task runs once the generation
+ * has completed, generations that timed out never complete.
  * <p>
  * The ExecutionManager delegates the actual task to the {@link ExecutionPlan}, which determines, when and how often it needs to be run.
+ * <p>
+ * Crawlers either run on a fixed pool of platform threads, or - in "virtual" execution mode - every {@link WorkItem} runs on its own
+ * virtual thread, while retries are still timed by a small scheduler and then handed back to the crawler executor.
+ * <p>
+ * All work items pass through a {@link CrawlerBulkhead}, which caps the number of concurrent crawls per target node and per target host.
+ * <p>
+ * With adaptive scheduling enabled, the {@link AdaptiveCrawlScheduler} decides which nodes are due in a particular generation. Nodes
+ * that are not due retain the results of the generation in which they were last crawled successfully. Retention is tracked per
+ * node in the {@link CrawlGeneration}, so the results of all other nodes that were not crawled again, e.g. because they failed,
+ * were removed from the directory or their circuit breaker is open, are stale once the generation has completed.
+ * <p>
+ * Failed work items are retried with an {@link ExponentialBackoff}. Nodes whose crawls keep failing across generations are
+ * skipped by a {@link CrawlerCircuitBreaker} until its cool-down has elapsed.
+ * <p>
+ * If a {@link WorkItemQueue} is configured, multiple replicas share the crawl work: every replica offers all nodes to the queue,
+ * but only claims as many items as it has crawlers, and claims the next item whenever one is done. Replicas can also split
+ * the work statically with a partitioning {@link TargetNodeFilter}. Since a replica then only refreshes a share of the cache,
+ * the nodes that other replicas may crawl retain entries that are not older than one execution period plus the generation timeout.
+ * <p>
+ * Within a generation, work items are submitted in the order of a {@link StalenessPrioritizer}, i.e. the node whose last
+ * successful crawl is the oldest comes first. On the platform thread pool, crawls that wait for a crawler, including retries,
+ * are also started most stale first. In virtual execution mode, every crawl is started on its own thread as soon as it is
+ * submitted, so crawls never wait for a crawler and their staleness has no effect beyond the order of submission.
+ * <p>
+ * The duration and outcome of every crawl, scheduled retries and the depth of the crawler queues are recorded in the
+ * {@link CrawlerMetrics}.
+ * <p>
+ * The crawl of a single node fails once it exceeds the crawl timeout, and is retried like any other failure. Once a generation
+ * has timed out, its outstanding crawls are cancelled and not retried. On shutdown, the generation in progress is given the
+ * shutdown timeout to complete, after which its outstanding crawls are cancelled as well.
  */
 public class ExecutionManager {
 
@@ -51,11 +110,29 @@ public class ExecutionManager {
     private TargetNodeFilter nodeFilter;
     private CrawlerActionRegistry crawlerActionRegistry;
     private CrawlerSuccessHandler successHandler;
-    private ScheduledExecutorService crawlers;
+    private ExecutorService crawlers;
+    private ScheduledExecutorService scheduler;
+    private CrawlerBulkhead bulkhead;
+    private AdaptiveCrawlScheduler adaptiveScheduler;
+    private ExponentialBackoff retryBackoff;
+    private CrawlerCircuitBreaker circuitBreaker;
+    private StalenessPrioritizer prioritizer;
+    private Map<String, Double> nodeWeights = Map.of();
+    private WorkItemQueue workItemQueue;
+    private final PriorityBlockingQueue<PendingCrawl> pendingCrawls = new PriorityBlockingQueue<>();
+    private final AtomicLong crawlSequence = new AtomicLong();
+    private boolean partitioned;
+    private volatile Set<String> knownNodeIds = Set.of();
+    private CrawlerMetrics metrics = CrawlerMetrics.NOOP;
     private CatalogCrawlerConfiguration configuration;
+    private Consumer<CrawlGeneration> generationCompletedHandler;
+    private Clock clock;
+    private volatile CrawlGeneration currentGeneration;
+    private volatile boolean stopped;
 
     private ExecutionManager() {
         nodeFilter = n -> true;
+        clock = Clock.systemUTC();
     }
 
     public void executePlan(ExecutionPlan plan) {
@@ -65,9 +142,24 @@ public class ExecutionManager {
         }
 
         plan.run(() -> {
+            var previous = currentGeneration;
+            if (previous != null && !previous.isFinished() && !previous.hasTimedOut(clock, Duration.ofSeconds(configuration.generationTimeoutSeconds()))) {
+                monitor.debug(format("Crawl generation %d is still running (%d work items pending), skipping this run", previous.getId(), previous.getPendingCount()));
+                return;
+            }
+            if (previous != null && previous.isTimedOut()) {
+                var cancelled = previous.cancelInflight();
+                monitor.warning(format("Crawl generation %d timed out with %d work items pending, %d crawls in flight were cancelled. Its stale entries will not be purged",
+                        previous.getId(), previous.getPendingCount(), cancelled));
+            }
+
+            var generation = new CrawlGeneration(nextGenerationId(previous), clock.instant());
+            currentGeneration = generation;
             runTask("pre-execution", preExecutionTask);
-            doWork();
-            runTask("post-execution", postExecutionTask);
+            doWork(generation);
+            if (generation.seal()) {
+                onGenerationCompleted(generation);
+            }
         });
 
     }
@@ -78,46 +170,202 @@ public class ExecutionManager {
             return;
         }
         plan.stop();
+        stopped = true;
+        drain(Duration.ofSeconds(configuration.shutdownTimeoutSeconds()));
+        scheduler.shutdownNow();
+        crawlers.shutdownNow();
     }
 
-    private void doWork() {
-        var workItems = fetchWorkItems();
+    /**
+     * Returns the id of the crawl generation that was started most recently, or 0 if no crawl run has started yet.
+     */
+    public long getCurrentGeneration() {
+        var generation = currentGeneration;
+        return generation == null ? 0 : generation.getId();
+    }
+
+    /**
+     * Returns the state of all circuit breakers that are currently not closed, keyed by node ID.
+     */
+    public Map<String, CrawlerCircuitBreaker.State> getCircuitBreakerStates() {
+        return circuitBreaker.getStates();
+    }
+
+    /**
+     * Waits for the generation in progress to complete within the given timeout, and cancels its outstanding crawls otherwise.
+     */
+    private void drain(Duration timeout) {
+        var generation = currentGeneration;
+        if (generation == null || generation.isFinished()) {
+            return;
+        }
+        try {
+            generation.getCompletion().get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            var cancelled = generation.cancelInflight();
+            monitor.warning(format("Crawl generation %d did not complete within %s after shutdown, %d crawls in flight were cancelled",
+                    generation.getId(), timeout, cancelled));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            generation.cancelInflight();
+        } catch (ExecutionException e) {
+            // the completion of a generation never fails
+        }
+    }
+
+    private void doWork(CrawlGeneration generation) {
+        var workItems = fetchWorkItems(generation);
         if (workItems.isEmpty()) {
             return;
         }
 
-        monitor.debug("Loaded " + workItems.size() + " work items from storage");
+        monitor.debug("Loaded " + workItems.size() + " work items from storage for crawl generation " + generation.getId());
 
-        workItems.stream().map(this::createCrawler).forEach(crawler -> crawlers.execute(crawler));
+        workItems.forEach(item -> {
+            generation.itemStarted();
+            submit(item, generation);
+        });
     }
 
-    private Runnable createCrawler(WorkItem item) {
+    private void submit(WorkItem item, CrawlGeneration generation) {
+        bulkhead.submit(item, () -> {
+            var pending = new PendingCrawl(item, generation, prioritizer.stalenessOf(item.getId(), clock.instant()), crawlSequence.getAndIncrement());
+            pendingCrawls.add(pending);
+            try {
+                crawlers.execute(this::crawlMostStale);
+            } catch (RejectedExecutionException e) {
+                // the crawl of this task may already have been started by an earlier task, then another one is left without a task
+                var orphan = pendingCrawls.remove(pending) ? pending : pendingCrawls.poll();
+                if (orphan != null) {
+                    monitor.debug(format("WorkItem [%s] was rejected by the crawlers, which are shutting down", orphan.item().getId()));
+                    bulkhead.release(orphan.item());
+                    itemDone(orphan.item(), orphan.generation());
+                }
+            }
+        });
+    }
+
+    /**
+     * Starts the most stale of the crawls that are waiting for a crawler. Every submitted crawl schedules one such task, so
+     * that crawls that wait for a free thread of the platform pool are started in the order of their staleness, instead of the
+     * order in which they were submitted. In virtual execution mode, every task starts right away, so it usually starts the
+     * crawl it was scheduled for.
+     */
+    private void crawlMostStale() {
+        var next = pendingCrawls.poll();
+        if (next != null) {
+            createCrawler(next.item(), next.generation()).run();
+        }
+    }
+
+    private Runnable createCrawler(WorkItem item, CrawlGeneration generation) {
         return () -> {
+            if (stopped || generation.isTimedOut()) {
+                monitor.debug(format("WorkItem [%s] belongs to crawl generation %d, which was abandoned, skipping it", item.getId(), generation.getId()));
+                bulkhead.release(item);
+                itemDone(item, generation);
+                return;
+            }
             var adapter = crawlerActionRegistry.findForProtocol(item.getProtocol()).stream().findFirst();
             if (adapter.isEmpty()) {
                 monitor.warning(format("No protocol adapter found for protocol '%s'", item.getProtocol()));
+                bulkhead.release(item);
+                itemDone(item, generation);
             } else {
-                var updateRequest = new UpdateRequest(item.getId(), item.getUrl(), item.getProtocol());
-                adapter.get().apply(updateRequest)
-                        .thenAccept(successHandler)
-                        .whenComplete((v, throwable) -> onCompletion(item, throwable));
+                var deadline = configuration.crawlTimeoutSeconds() > 0 ? clock.instant().plusSeconds(configuration.crawlTimeoutSeconds()) : null;
+                var updateRequest = new UpdateRequest(item.getId(), item.getUrl(), item.getProtocol(), generation.getId(), deadline);
+                var startedAt = System.nanoTime();
+                CompletableFuture<UpdateResponse> crawl;
+                try {
+                    crawl = adapter.get().apply(updateRequest);
+                } catch (RuntimeException e) {
+                    crawl = CompletableFuture.failedFuture(e);
+                }
+                if (configuration.crawlTimeoutSeconds() > 0) {
+                    crawl = crawl.orTimeout(configuration.crawlTimeoutSeconds(), TimeUnit.SECONDS);
+                }
+                generation.track(crawl);
+                crawl
+                        .thenApplyAsync(response -> {
+                            successHandler.accept(response);
+                            return response;
+                        }, crawlers)
+                        .whenComplete((response, throwable) -> onCompletion(item, generation, startedAt, response, throwable));
             }
         };
     }
 
-    private void onCompletion(WorkItem item, Throwable throwable) {
+    private void onCompletion(WorkItem item, CrawlGeneration generation, long startedAt, UpdateResponse response, Throwable throwable) {
+        bulkhead.release(item);
+        metrics.crawlCompleted(item.getId(), Duration.ofNanos(System.nanoTime() - startedAt), throwable == null);
         if (throwable == null) {
             monitor.debug(format("WorkItem [%s] is done", item.getId()));
+            circuitBreaker.recordSuccess(item.getId());
+            adaptiveScheduler.recordSuccess(item.getId(), response != null ? response.getContentHash() : null, generation);
+            itemDone(item, generation);
         } else {
-            item.error(throwable.getMessage());
-            monitor.severe("Unexpected exception occurred while crawling: " + item.getId(), throwable);
-            if (item.getErrors().size() > configuration.maxRetries()) {
+            var cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+            if (stopped || generation.isTimedOut()) {
+                monitor.debug(format("WorkItem [%s] was cancelled, its crawl generation %d was abandoned", item.getId(), generation.getId()));
+                itemDone(item, generation);
+                return;
+            }
+            if (cause instanceof TimeoutException) {
+                metrics.crawlTimedOut(item.getId());
+                item.error(format("Crawl did not complete within %d seconds", configuration.crawlTimeoutSeconds()));
+                monitor.warning(format("Crawl of WorkItem [%s] did not complete within %d seconds, it was cancelled", item.getId(), configuration.crawlTimeoutSeconds()));
+            } else {
+                item.error(throwable.getMessage());
+                monitor.severe("Unexpected exception occurred while crawling: " + item.getId(), throwable);
+            }
+            if (circuitBreaker.isProbing(item.getId())) {
+                monitor.debug(format("Probe of WorkItem [%s] failed, will not retry", item.getId()));
+                discard(item, generation);
+            } else if (item.getErrors().size() > configuration.maxRetries()) {
                 monitor.severe(format("The following WorkItem has errored out more than %d times. We'll discard it now: [%s]", configuration.maxRetries(), item));
+                discard(item, generation);
             } else {
-                monitor.debug(format("The following work item has errored out. Will re-queue after a delay of %s seconds: [%s]", configuration.retryDelaySeconds(), item));
-                crawlers.schedule(createCrawler(item), configuration.retryDelaySeconds(), TimeUnit.SECONDS);
+                var delay = retryBackoff.delay(item.getErrors().size());
+                monitor.debug(format("The following work item has errored out. Will re-queue after a delay of %s: [%s]", delay, item));
+                metrics.retryScheduled(item.getId());
+                scheduler.schedule(() -> submit(item, generation), delay.toMillis(), TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    private void discard(WorkItem item, CrawlGeneration generation) {
+        if (circuitBreaker.recordFailure(item.getId()) == CrawlerCircuitBreaker.State.OPEN) {
+            monitor.warning(format("Circuit breaker for node '%s' is open, it will not be crawled before %s", item.getId(), circuitBreaker.getOpenUntil(item.getId())));
+        }
+        itemDone(item, generation);
+    }
+
+    private void itemDone(WorkItem item, CrawlGeneration generation) {
+        if (workItemQueue != null) {
+            completeQueued(item);
+            if (!stopped && !generation.isFinished()) {
+                claimWorkItems(generation, 1).forEach(next -> {
+                    generation.itemStarted();
+                    submit(next, generation);
+                });
             }
         }
+        if (generation.itemDone()) {
+            onGenerationCompleted(generation);
+        }
+    }
+
+    private void onGenerationCompleted(CrawlGeneration generation) {
+        monitor.debug(format("Crawl generation %d completed after %s", generation.getId(), Duration.between(generation.getStartedAt(), clock.instant())));
+        runTask("post-execution", postExecutionTask);
+        if (generationCompletedHandler != null) {
+            runTask("generation-completed", () -> generationCompletedHandler.accept(generation));
+        }
+    }
+
+    private long nextGenerationId(CrawlGeneration previous) {
+        var now = clock.millis();
+        return previous == null ? now : Math.max(now, previous.getId() + 1);
     }
 
     private void runTask(String description, Runnable runnable) {
@@ -130,18 +378,112 @@ public class ExecutionManager {
         }
     }
 
-    private List<WorkItem> fetchWorkItems() {
+    private List<WorkItem> fetchWorkItems(CrawlGeneration generation) {
         // use all nodes EXCEPT self
-        return directory.getAll().stream()
+        var allNodes = directory.getAll();
+        var nodes = allNodes.stream()
                 .filter(nodeFilter)
+                .toList();
+        var nodeIds = nodes.stream().map(TargetNode::id).collect(Collectors.toSet());
+        knownNodeIds = nodeIds;
+        adaptiveScheduler.retainOnly(nodeIds);
+        circuitBreaker.retainOnly(nodeIds);
+        metrics.retainOnly(nodeIds);
+
+        var workItems = nodes.stream()
                 .map(n -> new WorkItem(n.id(), n.targetUrl(), selectProtocol(n.supportedProtocols())))
                 .collect(Collectors.toList());
+
+        if (workItemQueue != null || partitioned) {
+            // nodes that other replicas may crawl keep their results for one execution period plus the generation timeout
+            var since = generation.getId() - Duration.ofSeconds(configuration.periodSeconds() + configuration.generationTimeoutSeconds()).toMillis();
+            allNodes.stream()
+                    .filter(node -> workItemQueue != null || !nodeIds.contains(node.id()))
+                    .forEach(node -> generation.retain(node.targetUrl(), since));
+        }
+
+        if (workItemQueue != null) {
+            try {
+                workItemQueue.offer(workItems);
+            } catch (Exception e) {
+                monitor.severe("Error offering work items to the work item queue", e);
+            }
+            return prioritizer.prioritize(claimWorkItems(generation, configuration.numCrawlers()));
+        }
+
+        return prioritizer.prioritize(workItems.stream()
+                .filter(item -> isDue(item, generation))
+                .filter(this::isAllowed)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Claims up to {@code max} items from the {@link WorkItemQueue}. Claimed items that this replica should not crawl (e.g.
+     * because they are not due or their circuit breaker is open) are completed right away and do not count towards {@code max}.
+     */
+    private List<WorkItem> claimWorkItems(CrawlGeneration generation, int max) {
+        var claimed = new ArrayList<WorkItem>();
+        try {
+            while (claimed.size() < max) {
+                var batch = workItemQueue.claim(max - claimed.size(), Duration.ofSeconds(configuration.generationTimeoutSeconds()));
+                if (batch.isEmpty()) {
+                    break;
+                }
+                for (var item : batch) {
+                    if (!knownNodeIds.contains(item.getId())) {
+                        workItemQueue.remove(item.getId());
+                    } else if (isDue(item, generation) && isAllowed(item)) {
+                        claimed.add(item);
+                    } else {
+                        completeQueued(item);
+                    }
+                }
+            }
+        } catch (Exception e) {
+            monitor.severe("Error claiming work items from the work item queue", e);
+        }
+        return claimed;
+    }
+
+    private void completeQueued(WorkItem item) {
+        try {
+            workItemQueue.complete(item, Duration.ofSeconds(configuration.periodSeconds()));
+        } catch (Exception e) {
+            monitor.severe(format("Error completing WorkItem [%s] in the work item queue, it will be due again once its lease has expired", item.getId()), e);
+        }
+    }
+
+    private boolean isDue(WorkItem item, CrawlGeneration generation) {
+        if (adaptiveScheduler.isDue(item.getId())) {
+            return true;
+        }
+        generation.retain(item.getUrl(), adaptiveScheduler.getLastSuccessfulGeneration(item.getId()));
+        return false;
+    }
+
+    private boolean isAllowed(WorkItem item) {
+        if (circuitBreaker.tryAcquire(item.getId())) {
+            return true;
+        }
+        monitor.debug(format("Circuit breaker for node '%s' is open, skipping it until %s", item.getId(), circuitBreaker.getOpenUntil(item.getId())));
+        return false;
     }
 
     private String selectProtocol(List<String> supportedProtocols) {
         return supportedProtocols.isEmpty() ? null : supportedProtocols.get(0);
     }
 
+    /**
+     * A crawl that waits for a crawler. More stale crawls come first, crawls of the same staleness in submission order.
+     */
+    private record PendingCrawl(WorkItem item, CrawlGeneration generation, double staleness, long sequence) implements Comparable<PendingCrawl> {
+        @Override
+        public int compareTo(PendingCrawl other) {
+            var result = Double.compare(other.staleness, staleness);
+            return result != 0 ? result : Long.compare(sequence, other.sequence);
+        }
+    }
+
     public static final class Builder {
 
         private final ExecutionManager instance;
@@ -169,6 +511,19 @@ public class ExecutionManager {
             return this;
         }
 
+        /**
+         * Handler that is invoked after the post-execution task, once a crawl generation has completed.
+         */
+        public Builder onGenerationCompleted(Consumer<CrawlGeneration> handler) {
+            instance.generationCompletedHandler = handler;
+            return this;
+        }
+
+        public Builder clock(Clock clock) {
+            instance.clock = clock;
+            return this;
+        }
+
         public Builder nodeQueryAdapterRegistry(CrawlerActionRegistry registry) {
             instance.crawlerActionRegistry = registry;
             return this;
@@ -184,6 +539,40 @@ public class ExecutionManager {
             return this;
         }
 
+        /**
+         * Optional queue through which multiple replicas share the crawl work. If not set, all nodes are crawled.
+         */
+        public Builder workItemQueue(WorkItemQueue workItemQueue) {
+            instance.workItemQueue = workItemQueue;
+            return this;
+        }
+
+        /**
+         * Whether the node filter only selects this replica's share of the nodes, while other replicas crawl the rest into
+         * the same cache.
+         */
+        public Builder partitioned(boolean partitioned) {
+            instance.partitioned = partitioned;
+            return this;
+        }
+
+        /**
+         * Weights by node ID, which scale the staleness of a node when prioritizing work items. Nodes without weight have a
+         * weight of {@code 1.0}.
+         */
+        public Builder nodeWeights(Map<String, Double> nodeWeights) {
+            instance.nodeWeights = nodeWeights;
+            return this;
+        }
+
+        /**
+         * Metrics to which the crawls are reported. If not set, nothing is recorded.
+         */
+        public Builder metrics(CrawlerMetrics metrics) {
+            instance.metrics = metrics;
+            return this;
+        }
+
         public Builder onSuccess(CrawlerSuccessHandler successConsumer) {
             instance.successHandler = successConsumer;
             return this;
@@ -200,9 +589,56 @@ public class ExecutionManager {
             Objects.requireNonNull(instance.crawlerActionRegistry, "ExecutionManager.Builder: nodeQueryAdapterRegistry cannot be null");
             Objects.requireNonNull(instance.directory, "ExecutionManager.Builder: nodeDirectory cannot be null");
 
-            instance.crawlers = Executors.newScheduledThreadPool(instance.configuration.numCrawlers());
+            instance.bulkhead = new CrawlerBulkhead(instance.configuration.maxInflightPerNode(), instance.configuration.maxInflightPerHost());
+            instance.adaptiveScheduler = new AdaptiveCrawlScheduler(instance.configuration.adaptiveScheduling(),
+                    Duration.ofSeconds(instance.configuration.adaptiveMinIntervalSeconds()),
+                    Duration.ofSeconds(instance.configuration.adaptiveMaxIntervalSeconds()),
+                    instance.clock);
+            instance.prioritizer = new StalenessPrioritizer(instance.adaptiveScheduler, instance.nodeWeights, instance.clock);
+            instance.retryBackoff = new ExponentialBackoff(Duration.ofSeconds(instance.configuration.retryDelaySeconds()),
+                    Duration.ofSeconds(instance.configuration.retryMaxDelaySeconds()));
+            instance.circuitBreaker = new CrawlerCircuitBreaker(instance.configuration.circuitBreakerFailureThreshold(),
+                    Duration.ofSeconds(instance.configuration.circuitBreakerCooldownSeconds()),
+                    Duration.ofSeconds(instance.configuration.circuitBreakerMaxCooldownSeconds()),
+                    instance.clock);
+
+            if (instance.configuration.isVirtualExecution()) {
+                instance.crawlers = newVirtualThreadPerTaskExecutor(instance.monitor, instance.configuration.numCrawlers());
+                instance.scheduler = Executors.newSingleThreadScheduledExecutor();
+            } else {
+                var pool = Executors.newScheduledThreadPool(instance.configuration.numCrawlers());
+                instance.crawlers = pool;
+                instance.scheduler = pool;
+            }
 
+            registerGauges(instance);
             return instance;
         }
+
+        private static void registerGauges(ExecutionManager instance) {
+            if (instance.crawlers instanceof ThreadPoolExecutor pool) {
+                instance.metrics.registerGauge("crawler.executor.queue.depth", () -> pool.getQueue().size());
+                instance.metrics.registerGauge("crawler.executor.active", pool::getActiveCount);
+            }
+            instance.metrics.registerGauge("crawler.bulkhead.waiting", instance.bulkhead::getWaitingCount);
+            instance.metrics.registerGauge("crawler.generation.pending", () -> {
+                var generation = instance.currentGeneration;
+                return generation == null || generation.isFinished() ? 0 : generation.getPendingCount();
+            });
+            instance.metrics.registerGauge("crawler.circuitbreaker.open", () -> instance.circuitBreaker.getStates().size());
+        }
+
+        /**
+         * Virtual threads are only available on Java 21+, so they are looked up reflectively. On older runtimes this falls back
+         * to the platform thread pool.
+         */
+        private static ExecutorService newVirtualThreadPerTaskExecutor(Monitor monitor, int numCrawlers) {
+            try {
+                return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            } catch (ReflectiveOperationException e) {
+                monitor.warning("Virtual threads are not supported by this Java runtime, falling back to %d platform threads".formatted(numCrawlers));
+                return Executors.newScheduledThreadPool(numCrawlers);
+            }
+        }
     }
 }
@@ -0,0 +1,129 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.catalog.cache.crawler;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps track of the crawl history of every target node and determines when a node is due to be crawled again.
+ * <p>
+ * When enabled, every node gets its own crawl interval within {@code [minInterval, maxInterval]}: every crawl that returns
+ * unchanged content doubles the interval, every crawl that returns changed content halves it. Nodes that change rarely are
+ * thus crawled rarely, while frequently changing nodes are crawled at the minimum interval. Nodes that were never crawled
+ * successfully, or whose content cannot be fingerprinted, are always due.
+ * <p>
+ * When disabled, every node is always due, but the crawl history is still recorded.
+ */
+public class AdaptiveCrawlScheduler {
+
+    private final boolean enabled;
+    private final Duration minInterval;
+    private final Duration maxInterval;
+    private final Clock clock;
+    private final Map<String, NodeHistory> history = new ConcurrentHashMap<>();
+
+    public AdaptiveCrawlScheduler(boolean enabled, Duration minInterval, Duration maxInterval, Clock clock) {
+        this.enabled = enabled;
+        this.minInterval = minInterval;
+        this.maxInterval = maxInterval.compareTo(minInterval) < 0 ? minInterval : maxInterval;
+        this.clock = clock;
+    }
+
+    /**
+     * Whether the given node should be crawled now.
+     */
+    public boolean isDue(String nodeId) {
+        if (!enabled) {
+            return true;
+        }
+        var entry = history.get(nodeId);
+        return entry == null || !clock.instant().isBefore(entry.nextDue);
+    }
+
+    /**
+     * Records a successful crawl of a node, and adapts the node's crawl interval depending on whether its content has changed.
+     * The next due time is relative to the start of the generation, so that it lines up with the ticks of the execution plan.
+     *
+     * @param nodeId      the node ID
+     * @param contentHash the fingerprint of the crawled content, may be null
+     * @param generation  the crawl generation during which the node was crawled
+     */
+    public void recordSuccess(String nodeId, @Nullable String contentHash, CrawlGeneration generation) {
+        var now = clock.instant();
+        history.compute(nodeId, (id, previous) -> {
+            Duration interval;
+            if (previous == null || contentHash == null) {
+                interval = minInterval;
+            } else if (Objects.equals(previous.contentHash, contentHash)) {
+                interval = min(previous.interval.multipliedBy(2), maxInterval);
+            } else {
+                interval = max(previous.interval.dividedBy(2), minInterval);
+            }
+            return new NodeHistory(contentHash, interval, now, generation.getStartedAt().plus(interval), generation.getId());
+        });
+    }
+
+    /**
+     * The current crawl interval of the given node, or null if it has never been crawled successfully.
+     */
+    @Nullable
+    public Duration getInterval(String nodeId) {
+        var entry = history.get(nodeId);
+        return entry == null ? null : entry.interval;
+    }
+
+    /**
+     * The time of the last successful crawl of the given node, or null if it has never been crawled successfully.
+     */
+    @Nullable
+    public Instant getLastSuccess(String nodeId) {
+        var entry = history.get(nodeId);
+        return entry == null ? null : entry.lastSuccess;
+    }
+
+    /**
+     * The generation of the last successful crawl of the given node, or 0 if it has never been crawled successfully.
+     */
+    public long getLastSuccessfulGeneration(String nodeId) {
+        var entry = history.get(nodeId);
+        return entry == null ? 0 : entry.generation;
+    }
+
+    /**
+     * Drops the history of all nodes that are not contained in the given set, e.g. because they were removed from the directory.
+     */
+    public void retainOnly(Set<String> nodeIds) {
+        history.keySet().retainAll(nodeIds);
+    }
+
+    private static Duration min(Duration d1, Duration d2) {
+        return d1.compareTo(d2) <= 0 ? d1 : d2;
+    }
+
+    private static Duration max(Duration d1, Duration d2) {
+        return d1.compareTo(d2) >= 0 ? d1 : d2;
+    }
+
+    private record NodeHistory(String contentHash, Duration interval, Instant lastSuccess, Instant nextDue, long generation) {
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.catalog.cache.crawler;
+
+import org.eclipse.edc.crawler.spi.CrawlerMembership;
+import org.eclipse.edc.crawler.spi.TargetNode;
+import org.eclipse.edc.crawler.spi.TargetNodeFilter;
+import org.eclipse.edc.spi.monitor.Monitor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import static java.lang.String.format;
+
+/**
+ * Partitions the {@link TargetNode}s among all crawler replicas with a consistent hash ring. Every replica is placed on the
+ * ring multiple times ("virtual nodes"), and owns all node IDs that hash to the ring segments in front of its positions.
+ * When a replica joins or leaves, only the nodes of the affected segments move to another replica.
+ * <p>
+ * The members of the ring are discovered via {@link CrawlerMembership}. {@link #refresh()} must be called before every crawl
+ * run. If the membership cannot be determined, the previous ring is kept.
+ */
+public class ConsistentHashNodeFilter implements TargetNodeFilter {
+
+    private final CrawlerMembership membership;
+    private final int virtualNodes;
+    private final Duration heartbeatTimeout;
+    private final Monitor monitor;
+    private volatile Set<String> members = Set.of();
+    private volatile NavigableMap<Long, String> ring = new TreeMap<>();
+
+    public ConsistentHashNodeFilter(CrawlerMembership membership, int virtualNodes, Duration heartbeatTimeout, Monitor monitor) {
+        this.membership = membership;
+        this.virtualNodes = Math.max(1, virtualNodes);
+        this.heartbeatTimeout = heartbeatTimeout;
+        this.monitor = monitor;
+    }
+
+    /**
+     * Sends a heartbeat and rebuilds the ring if the replicas have changed.
+     */
+    public void refresh() {
+        Set<String> current;
+        try {
+            current = new HashSet<>(membership.heartbeat(heartbeatTimeout));
+        } catch (Exception e) {
+            monitor.warning("Could not determine crawler replicas, keeping the previous partitioning", e);
+            return;
+        }
+        current.add(membership.getReplicaId());
+
+        if (!current.equals(members)) {
+            var newRing = new TreeMap<Long, String>();
+            for (var member : current) {
+                for (var i = 0; i < virtualNodes; i++) {
+                    newRing.put(hash(member + "#" + i), member);
+                }
+            }
+            ring = newRing;
+            members = Collections.unmodifiableSet(current);
+            monitor.info(format("Crawler replicas changed, now partitioning target nodes among %d replicas: %s", current.size(), current));
+        }
+    }
+
+    @Override
+    public boolean test(TargetNode node) {
+        var currentRing = ring;
+        if (currentRing.isEmpty()) {
+            return true;
+        }
+        return membership.getReplicaId().equals(ownerOf(currentRing, node.id()));
+    }
+
+    /**
+     * The replicas among which the nodes are currently partitioned.
+     */
+    public Set<String> getMembers() {
+        return members;
+    }
+
+    private String ownerOf(NavigableMap<Long, String> ring, String nodeId) {
+        var entry = ring.ceilingEntry(hash(nodeId));
+        return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+    }
+
+    private static long hash(String value) {
+        return UUID.nameUUIDFromBytes(value.getBytes(StandardCharsets.UTF_8)).getMostSignificantBits();
+    }
+}
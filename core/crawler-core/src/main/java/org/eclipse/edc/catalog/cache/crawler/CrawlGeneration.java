@@ -0,0 +1,168 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.catalog.cache.crawler;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A single crawl run. A generation is complete once every work item that was submitted for it has either succeeded or was
+ * discarded. Generations that take longer than their timeout are abandoned, i.e. they never complete.
+ * <p>
+ * The crawls of a generation that are in flight are tracked, so that they can be cancelled once the generation was abandoned
+ * or the crawler shuts down.
+ */
+public class CrawlGeneration {
+    private final long id;
+    private final Instant startedAt;
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicBoolean sealed = new AtomicBoolean();
+    private final AtomicBoolean finished = new AtomicBoolean();
+    private final Map<String, Long> retained = new ConcurrentHashMap<>();
+    private final Set<CompletableFuture<?>> inflight = ConcurrentHashMap.newKeySet();
+    private final CompletableFuture<Void> completion = new CompletableFuture<>();
+    private volatile boolean timedOut;
+
+    public CrawlGeneration(long id, Instant startedAt) {
+        this.id = id;
+        this.startedAt = startedAt;
+    }
+
+    /**
+     * The id of this generation. Generation ids are the start time of the run in epoch milliseconds, but are guaranteed
+     * to be strictly increasing.
+     */
+    public long getId() {
+        return id;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    /**
+     * Registers a work item with this generation.
+     */
+    public void itemStarted() {
+        pending.incrementAndGet();
+    }
+
+    /**
+     * Marks a work item as done.
+     *
+     * @return true if this was the last outstanding item of a sealed generation, i.e. the generation is now complete.
+     */
+    public boolean itemDone() {
+        return pending.decrementAndGet() == 0 && sealed.get() && complete();
+    }
+
+    /**
+     * Signals that no more work items will be registered.
+     *
+     * @return true if all items were already done, i.e. the generation is now complete.
+     */
+    public boolean seal() {
+        sealed.set(true);
+        return pending.get() == 0 && complete();
+    }
+
+    /**
+     * Tracks a crawl of this generation until it has completed.
+     */
+    public void track(CompletableFuture<?> crawl) {
+        inflight.add(crawl);
+        crawl.whenComplete((result, throwable) -> inflight.remove(crawl));
+    }
+
+    /**
+     * Cancels all crawls of this generation that are still in flight.
+     *
+     * @return the number of crawls that were cancelled
+     */
+    public int cancelInflight() {
+        var cancelled = 0;
+        for (var crawl : Set.copyOf(inflight)) {
+            if (crawl.cancel(true)) {
+                cancelled++;
+            }
+        }
+        return cancelled;
+    }
+
+    /**
+     * A future that completes once this generation has completed or was abandoned.
+     */
+    public CompletableFuture<Void> getCompletion() {
+        return completion;
+    }
+
+    public boolean isFinished() {
+        return finished.get();
+    }
+
+    public boolean isTimedOut() {
+        return timedOut;
+    }
+
+    /**
+     * Checks whether this generation is still running after the given timeout has elapsed, in which case it is abandoned.
+     */
+    public boolean hasTimedOut(Clock clock, Duration timeout) {
+        if (!timedOut && !isFinished() && clock.instant().isAfter(startedAt.plus(timeout))) {
+            timedOut = finished.compareAndSet(false, true);
+            if (timedOut) {
+                completion.complete(null);
+            }
+        }
+        return timedOut;
+    }
+
+    /**
+     * Retains the result of a node from an older generation, e.g. because the node was not due and therefore not crawled again.
+     *
+     * @param source     the source of the result, i.e. the URL of the node
+     * @param generation the oldest generation whose result of the node is still current
+     */
+    public void retain(String source, long generation) {
+        retained.merge(source, generation, Math::min);
+    }
+
+    /**
+     * The oldest generation whose result is still current once this generation has completed, by source. Results of all other
+     * sources are only current if they were obtained during this generation, older ones are stale and can be purged.
+     */
+    public Map<String, Long> getRetained() {
+        return Map.copyOf(retained);
+    }
+
+    public int getPendingCount() {
+        return pending.get();
+    }
+
+    private boolean complete() {
+        if (finished.compareAndSet(false, true)) {
+            completion.complete(null);
+            return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.catalog.cache.crawler;
+
+import org.eclipse.edc.crawler.spi.WorkItem;
+
+import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Limits the number of concurrent crawls per target node and per target host, so that a few slow or huge counterparties
+ * cannot occupy all crawlers. Work that exceeds a limit is parked in a per-counterparty queue and started as soon as a
+ * crawl against the same counterparty is released. Parked work does not occupy a crawler thread.
+ * <p>
+ * A limit of {@code 0} or less disables the respective compartment.
+ */
+public class CrawlerBulkhead {
+
+    private final int maxInflightPerNode;
+    private final int maxInflightPerHost;
+    private final Map<String, Compartment> nodeCompartments = new HashMap<>();
+    private final Map<String, Compartment> hostCompartments = new HashMap<>();
+
+    public CrawlerBulkhead(int maxInflightPerNode, int maxInflightPerHost) {
+        this.maxInflightPerNode = maxInflightPerNode;
+        this.maxInflightPerHost = maxInflightPerHost;
+    }
+
+    /**
+     * Runs the given task right away if neither the node nor the host of the {@link WorkItem} exceed their limits,
+     * otherwise defers it until capacity becomes available. Every admitted item must be {@link #release(WorkItem) released}
+     * once its crawl has completed.
+     *
+     * @param item the work item
+     * @param task the task that starts the crawl, e.g. by submitting it to an executor. Should not block.
+     */
+    public void submit(WorkItem item, Runnable task) {
+        if (admit(new Pending(item, task))) {
+            task.run();
+        }
+    }
+
+    /**
+     * Releases the capacity held by the given {@link WorkItem} and starts parked work that can now be admitted.
+     */
+    public void release(WorkItem item) {
+        Pending next;
+        synchronized (this) {
+            var node = nodeCompartment(item);
+            var host = hostCompartment(item);
+            node.ifPresent(c -> c.inflight--);
+            host.ifPresent(c -> c.inflight--);
+
+            next = node.map(c -> c.waiting.poll())
+                    .or(() -> host.map(c -> c.waiting.poll()))
+                    .orElse(null);
+            cleanup(item);
+        }
+        if (next != null && admit(next)) {
+            next.task().run();
+        }
+    }
+
+    /**
+     * Returns the number of crawls that are currently parked because a limit was reached.
+     */
+    public synchronized int getWaitingCount() {
+        return nodeCompartments.values().stream().mapToInt(c -> c.waiting.size()).sum() +
+                hostCompartments.values().stream().mapToInt(c -> c.waiting.size()).sum();
+    }
+
+    private synchronized boolean admit(Pending pending) {
+        var node = nodeCompartment(pending.item());
+        var host = hostCompartment(pending.item());
+
+        var saturated = node.filter(c -> c.inflight >= maxInflightPerNode)
+                .or(() -> host.filter(c -> c.inflight >= maxInflightPerHost));
+        if (saturated.isPresent()) {
+            saturated.get().waiting.add(pending);
+            return false;
+        }
+
+        node.ifPresent(c -> c.inflight++);
+        host.ifPresent(c -> c.inflight++);
+        return true;
+    }
+
+    private Optional<Compartment> nodeCompartment(WorkItem item) {
+        if (maxInflightPerNode <= 0) {
+            return Optional.empty();
+        }
+        return Optional.of(nodeCompartments.computeIfAbsent(item.getId(), k -> new Compartment()));
+    }
+
+    private Optional<Compartment> hostCompartment(WorkItem item) {
+        if (maxInflightPerHost <= 0) {
+            return Optional.empty();
+        }
+        return Optional.of(hostCompartments.computeIfAbsent(hostOf(item), k -> new Compartment()));
+    }
+
+    private void cleanup(WorkItem item) {
+        nodeCompartments.computeIfPresent(item.getId(), (k, c) -> c.isIdle() ? null : c);
+        hostCompartments.computeIfPresent(hostOf(item), (k, c) -> c.isIdle() ? null : c);
+    }
+
+    private String hostOf(WorkItem item) {
+        try {
+            return Optional.ofNullable(URI.create(item.getUrl()).getHost()).orElse(item.getUrl());
+        } catch (IllegalArgumentException | NullPointerException e) {
+            return String.valueOf(item.getUrl());
+        }
+    }
+
+    private record Pending(WorkItem item, Runnable task) {
+    }
+
+    private static final class Compartment {
+        private final Deque<Pending> waiting = new ArrayDeque<>();
+        private int inflight;
+
+        private boolean isIdle() {
+            return inflight <= 0 && waiting.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.catalog.cache.crawler;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * A circuit breaker per target node, which outlives single crawl runs. A node whose crawls failed (i.e. exhausted all retries)
+ * {@code failureThreshold} times in a row is not crawled anymore until a cool-down has elapsed. After the cool-down, the next
+ * crawl is a probe: if it succeeds, the circuit closes again, if it fails, the circuit re-opens with twice the previous
+ * cool-down, up to {@code maxCooldown}.
+ * <p>
+ * A threshold of {@code 0} or less disables the circuit breaker.
+ */
+public class CrawlerCircuitBreaker {
+
+    private final int failureThreshold;
+    private final Duration cooldown;
+    private final Duration maxCooldown;
+    private final Clock clock;
+    private final Map<String, Circuit> circuits = new ConcurrentHashMap<>();
+
+    public CrawlerCircuitBreaker(int failureThreshold, Duration cooldown, Duration maxCooldown, Clock clock) {
+        this.failureThreshold = failureThreshold;
+        this.cooldown = cooldown;
+        this.maxCooldown = maxCooldown.compareTo(cooldown) < 0 ? cooldown : maxCooldown;
+        this.clock = clock;
+    }
+
+    /**
+     * Whether the given node may be crawled. If the cool-down of an open circuit has elapsed, the circuit becomes half-open
+     * and the crawl is allowed as a probe.
+     */
+    public boolean tryAcquire(String nodeId) {
+        if (failureThreshold <= 0) {
+            return true;
+        }
+        var circuit = circuits.computeIfPresent(nodeId, (id, c) ->
+                c.state() == State.OPEN && !clock.instant().isBefore(c.openUntil()) ? c.withState(State.HALF_OPEN) : c);
+        return circuit == null || circuit.state() != State.OPEN;
+    }
+
+    /**
+     * Records a successful crawl, which closes the circuit.
+     */
+    public void recordSuccess(String nodeId) {
+        circuits.remove(nodeId);
+    }
+
+    /**
+     * Records a failed crawl. Opens the circuit if the threshold is reached, or if the failed crawl was a probe.
+     *
+     * @return the state of the circuit after the failure
+     */
+    public State recordFailure(String nodeId) {
+        if (failureThreshold <= 0) {
+            return State.CLOSED;
+        }
+        var now = clock.instant();
+        return circuits.compute(nodeId, (id, c) -> {
+            var previous = c == null ? new Circuit(State.CLOSED, 0, null, null) : c;
+            var failures = previous.failures() + 1;
+            if (previous.state() == State.HALF_OPEN || failures >= failureThreshold) {
+                var nextCooldown = previous.cooldown() == null ? cooldown : min(previous.cooldown().multipliedBy(2), maxCooldown);
+                return new Circuit(State.OPEN, failures, nextCooldown, now.plus(nextCooldown));
+            }
+            return new Circuit(State.CLOSED, failures, previous.cooldown(), previous.openUntil());
+        }).state();
+    }
+
+    /**
+     * Whether the current crawl of the given node is a probe. Probes should not be retried.
+     */
+    public boolean isProbing(String nodeId) {
+        return getState(nodeId) == State.HALF_OPEN;
+    }
+
+    public State getState(String nodeId) {
+        var circuit = circuits.get(nodeId);
+        return circuit == null ? State.CLOSED : circuit.state();
+    }
+
+    /**
+     * The instant until which the circuit of the given node stays open, or null if the circuit is not open.
+     */
+    @Nullable
+    public Instant getOpenUntil(String nodeId) {
+        var circuit = circuits.get(nodeId);
+        return circuit == null || circuit.state() != State.OPEN ? null : circuit.openUntil();
+    }
+
+    /**
+     * A snapshot of all circuits that are not closed, e.g. to report them as metrics.
+     */
+    public Map<String, State> getStates() {
+        return circuits.entrySet().stream()
+                .filter(e -> e.getValue().state() != State.CLOSED)
+                .collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().state()));
+    }
+
+    /**
+     * Drops the circuits of all nodes that are not contained in the given set, e.g. because they were removed from the directory.
+     */
+    public void retainOnly(Set<String> nodeIds) {
+        circuits.keySet().retainAll(nodeIds);
+    }
+
+    private static Duration min(Duration d1, Duration d2) {
+        return d1.compareTo(d2) <= 0 ? d1 : d2;
+    }
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private record Circuit(State state, int failures, Duration cooldown, Instant openUntil) {
+        Circuit withState(State state) {
+            return new Circuit(state, failures, cooldown, openUntil);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.catalog.cache.crawler;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Computes retry delays that double with every attempt, up to a maximum. To avoid that many failed crawls are retried
+ * in lockstep, every delay is jittered: it is chosen randomly between half of the exponential delay and the full exponential delay.
+ */
+public class ExponentialBackoff {
+
+    private static final int MAX_SHIFT = 30;
+
+    private final Duration initialDelay;
+    private final Duration maxDelay;
+    private final DoubleSupplier random;
+
+    public ExponentialBackoff(Duration initialDelay, Duration maxDelay) {
+        this(initialDelay, maxDelay, () -> ThreadLocalRandom.current().nextDouble());
+    }
+
+    public ExponentialBackoff(Duration initialDelay, Duration maxDelay, DoubleSupplier random) {
+        this.initialDelay = initialDelay;
+        this.maxDelay = maxDelay.compareTo(initialDelay) < 0 ? initialDelay : maxDelay;
+        this.random = random;
+    }
+
+    /**
+     * The jittered delay before the given retry attempt.
+     *
+     * @param attempt the retry attempt, starting at 1
+     */
+    public Duration delay(int attempt) {
+        var ceiling = ceiling(attempt).toMillis();
+        var half = ceiling / 2;
+        return Duration.ofMillis(half + (long) (random.getAsDouble() * (ceiling - half)));
+    }
+
+    /**
+     * The delay before the given retry attempt without jitter, i.e. the upper bound of {@link #delay(int)}.
+     *
+     * @param attempt the retry attempt, starting at 1
+     */
+    public Duration ceiling(int attempt) {
+        var shift = Math.min(Math.max(attempt - 1, 0), MAX_SHIFT);
+        var factor = 1L << shift;
+        if (initialDelay.toMillis() > maxDelay.toMillis() / factor) {
+            return maxDelay;
+        }
+        return initialDelay.multipliedBy(factor);
+    }
+}
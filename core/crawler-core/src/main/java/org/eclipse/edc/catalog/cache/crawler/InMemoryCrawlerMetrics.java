@@ -0,0 +1,163 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.catalog.cache.crawler;
+
+import org.eclipse.edc.crawler.spi.CrawlerMetrics;
+import org.eclipse.edc.crawler.spi.model.CrawlerMetricsSnapshot;
+import org.eclipse.edc.crawler.spi.model.CrawlerMetricsSnapshot.NodeMetrics;
+import org.eclipse.edc.crawler.spi.model.CrawlerMetricsSnapshot.TimerSnapshot;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * {@link CrawlerMetrics} that keeps counters and fixed-bucket histograms in memory. Recording is lock-free, so that it does
+ * not add contention between the crawlers.
+ */
+public class InMemoryCrawlerMetrics implements CrawlerMetrics {
+
+    /**
+     * Upper bounds of the histogram buckets in milliseconds. Durations above the last bound fall into the {@code +Inf} bucket.
+     */
+    static final long[] BUCKETS = { 10, 25, 50, 100, 250, 500, 1_000, 2_500, 5_000, 10_000, 30_000, 60_000 };
+
+    private final Map<String, Node> nodes = new ConcurrentHashMap<>();
+    private final Map<String, LongSupplier> gauges = new ConcurrentHashMap<>();
+    private final Timer saveTime = new Timer();
+
+    @Override
+    public void pageFetched(String nodeId, Duration latency, long bytes) {
+        var node = node(nodeId);
+        node.pages.increment();
+        node.bytes.add(bytes);
+        node.fetchLatency.record(latency);
+    }
+
+    @Override
+    public void pageTransformed(String nodeId, int datasets, Duration duration) {
+        var node = node(nodeId);
+        node.datasets.add(datasets);
+        node.transformTime.record(duration);
+    }
+
+    @Override
+    public void catalogSaved(Duration duration) {
+        saveTime.record(duration);
+    }
+
+    @Override
+    public void crawlCompleted(String nodeId, Duration duration, boolean success) {
+        var node = node(nodeId);
+        node.crawls.increment();
+        if (!success) {
+            node.failures.increment();
+        }
+        node.crawlTime.record(duration);
+    }
+
+    @Override
+    public void retryScheduled(String nodeId) {
+        node(nodeId).retries.increment();
+    }
+
+    @Override
+    public void crawlTimedOut(String nodeId) {
+        node(nodeId).timeouts.increment();
+    }
+
+    @Override
+    public void registerGauge(String name, LongSupplier gauge) {
+        gauges.put(name, gauge);
+    }
+
+    @Override
+    public void retainOnly(Set<String> nodeIds) {
+        nodes.keySet().retainAll(nodeIds);
+    }
+
+    @Override
+    public CrawlerMetricsSnapshot getSnapshot() {
+        var nodeMetrics = new TreeMap<String, NodeMetrics>();
+        nodes.forEach((id, node) -> nodeMetrics.put(id, node.snapshot()));
+
+        var gaugeValues = new TreeMap<String, Long>();
+        gauges.forEach((name, gauge) -> gaugeValues.put(name, gauge.getAsLong()));
+
+        return new CrawlerMetricsSnapshot(nodeMetrics, saveTime.snapshot(), gaugeValues);
+    }
+
+    private Node node(String nodeId) {
+        return nodes.computeIfAbsent(nodeId, id -> new Node());
+    }
+
+    private static final class Node {
+        private final LongAdder crawls = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder retries = new LongAdder();
+        private final LongAdder timeouts = new LongAdder();
+        private final LongAdder pages = new LongAdder();
+        private final LongAdder bytes = new LongAdder();
+        private final LongAdder datasets = new LongAdder();
+        private final Timer fetchLatency = new Timer();
+        private final Timer transformTime = new Timer();
+        private final Timer crawlTime = new Timer();
+
+        private NodeMetrics snapshot() {
+            return new NodeMetrics(crawls.sum(), failures.sum(), retries.sum(), timeouts.sum(), pages.sum(), bytes.sum(), datasets.sum(),
+                    fetchLatency.snapshot(), transformTime.snapshot(), crawlTime.snapshot());
+        }
+    }
+
+    private static final class Timer {
+        private final AtomicLongArray histogram = new AtomicLongArray(BUCKETS.length + 1);
+        private final LongAdder count = new LongAdder();
+        private final LongAdder total = new LongAdder();
+        private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+        private void record(Duration duration) {
+            var millis = Math.max(0, duration.toMillis());
+            histogram.incrementAndGet(bucketOf(millis));
+            count.increment();
+            total.add(millis);
+            max.accumulate(millis);
+        }
+
+        private TimerSnapshot snapshot() {
+            var buckets = new LinkedHashMap<String, Long>();
+            for (var i = 0; i < BUCKETS.length; i++) {
+                buckets.put(String.valueOf(BUCKETS[i]), histogram.get(i));
+            }
+            buckets.put("+Inf", histogram.get(BUCKETS.length));
+            return new TimerSnapshot(count.sum(), total.sum(), max.get(), buckets);
+        }
+
+        private static int bucketOf(long millis) {
+            for (var i = 0; i < BUCKETS.length; i++) {
+                if (millis <= BUCKETS[i]) {
+                    return i;
+                }
+            }
+            return BUCKETS.length;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.catalog.cache.crawler;
+
+import org.eclipse.edc.crawler.spi.WorkItem;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Orders {@link WorkItem}s so that the node whose data is the most stale is crawled first. The staleness of a node is the time
+ * since its last successful crawl, multiplied by its weight (default {@code 1.0}). Nodes that were never crawled successfully
+ * come first. If the crawlers fall behind, the nodes that are left over are thus always the most recently refreshed ones,
+ * which bounds the worst staleness.
+ * <p>
+ * The {@link #stalenessOf(String, Instant) staleness} is also used to order crawls that are waiting for a crawler, e.g.
+ * retries or crawls that were deferred by the bulkhead.
+ */
+public class StalenessPrioritizer {
+
+    private static final double DEFAULT_WEIGHT = 1.0;
+
+    private final AdaptiveCrawlScheduler history;
+    private final Map<String, Double> weights;
+    private final Clock clock;
+
+    public StalenessPrioritizer(AdaptiveCrawlScheduler history, Map<String, Double> weights, Clock clock) {
+        this.history = history;
+        this.weights = Map.copyOf(weights);
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the given items, most stale first.
+     */
+    public List<WorkItem> prioritize(List<WorkItem> items) {
+        if (items.size() < 2) {
+            return items;
+        }
+        var now = clock.instant();
+        var queue = new PriorityQueue<Prioritized>(items.size(), Comparator.comparingDouble(Prioritized::staleness).reversed()
+                .thenComparingInt(Prioritized::position));
+        for (var i = 0; i < items.size(); i++) {
+            var item = items.get(i);
+            queue.add(new Prioritized(item, stalenessOf(item.getId(), now), i));
+        }
+
+        var result = new ArrayList<WorkItem>(items.size());
+        while (!queue.isEmpty()) {
+            result.add(queue.poll().item());
+        }
+        return result;
+    }
+
+    /**
+     * Returns the weighted staleness of the given node in milliseconds, or {@link Double#POSITIVE_INFINITY} if it was never
+     * crawled successfully.
+     */
+    public double stalenessOf(String nodeId, Instant now) {
+        var lastSuccess = history.getLastSuccess(nodeId);
+        return lastSuccess == null ? Double.POSITIVE_INFINITY : Duration.between(lastSuccess, now).toMillis() * weightOf(nodeId);
+    }
+
+    private double weightOf(String nodeId) {
+        return weights.getOrDefault(nodeId, DEFAULT_WEIGHT);
+    }
+
+    private record Prioritized(WorkItem item, double staleness, int position) {
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.catalog.cache;
+
+import org.eclipse.edc.catalog.spi.CatalogCrawlerConfiguration;
+import org.eclipse.edc.crawler.spi.CrawlerAction;
+import org.eclipse.edc.crawler.spi.CrawlerActionRegistry;
+import org.eclipse.edc.crawler.spi.TargetNodeDirectory;
+import org.eclipse.edc.crawler.spi.model.ExecutionPlan;
+import org.eclipse.edc.junit.annotations.ComponentTest;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.catalog.test.TestUtil.TEST_PROTOCOL;
+import static org.eclipse.edc.catalog.test.TestUtil.createNode;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Measures the wall time of a single crawl run against a large number of mocked nodes, whose crawler action blocks the
+ * calling thread for {@link #BLOCKING_LATENCY} (e.g. while joining sub-catalog requests), in platform and in virtual execution
+ * mode. The timings are only reported, as wall times are not reliable enough to assert on. Virtual threads require Java 21.
+ */
+@ComponentTest
+@EnabledForJreRange(min = JRE.JAVA_21)
+class ExecutionManagerBenchmarkTest {
+
+    private static final Duration BLOCKING_LATENCY = Duration.ofMillis(5);
+    private static final int NUM_PLATFORM_CRAWLERS = 10;
+
+    private final TargetNodeDirectory nodeDirectory = mock();
+    private final CrawlerActionRegistry crawlerActionRegistry = mock();
+    private final Monitor monitor = mock();
+    private final List<ExecutionManager> managers = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        managers.forEach(manager -> manager.shutdownPlan(runOnce()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1_000, 10_000 })
+    void crawlRun_shouldCompleteInPlatformAndVirtualMode(int numNodes) throws InterruptedException {
+        when(nodeDirectory.getAll()).thenReturn(IntStream.range(0, numNodes).mapToObj(i -> createNode()).toList());
+        when(crawlerActionRegistry.findForProtocol(TEST_PROTOCOL)).thenReturn(List.of(blockingAction()));
+
+        var platformTime = measureCrawlRun(CatalogCrawlerConfiguration.EXECUTION_MODE_PLATFORM, numNodes);
+        var virtualTime = measureCrawlRun(CatalogCrawlerConfiguration.EXECUTION_MODE_VIRTUAL, numNodes);
+
+        System.out.printf("Crawl run of %d nodes: platform %d ms, virtual %d ms%n", numNodes, platformTime.toMillis(), virtualTime.toMillis());
+    }
+
+    private Duration measureCrawlRun(String executionMode, int numNodes) throws InterruptedException {
+        var latch = new CountDownLatch(numNodes);
+        var manager = ExecutionManager.Builder.newInstance()
+                .configuration(CatalogCrawlerConfiguration.Builder.newInstance()
+                        .numCrawlers(NUM_PLATFORM_CRAWLERS)
+                        .maxRetries(0)
+                        .retryDelaySeconds(1)
+                        .executionMode(executionMode)
+                        .build())
+                .nodeDirectory(nodeDirectory)
+                .nodeQueryAdapterRegistry(crawlerActionRegistry)
+                .monitor(monitor)
+                .onSuccess(response -> latch.countDown())
+                .build();
+        managers.add(manager);
+
+        var start = System.nanoTime();
+        manager.executePlan(runOnce());
+        assertThat(latch.await(2, TimeUnit.MINUTES)).isTrue();
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+
+    private CrawlerAction blockingAction() {
+        return request -> {
+            try {
+                Thread.sleep(BLOCKING_LATENCY.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return completedFuture(new TestUpdateResponse(request.nodeUrl()));
+        };
+    }
+
+    private ExecutionPlan runOnce() {
+        return new ExecutionPlan() {
+            @Override
+            public void run(Runnable task) {
+                task.run();
+            }
+
+            @Override
+            public void stop() {
+
+            }
+        };
+    }
+}
@@ -14,29 +14,47 @@
 
 package org.eclipse.edc.catalog.cache;
 
+import org.eclipse.edc.catalog.cache.crawler.CrawlGeneration;
+import org.eclipse.edc.catalog.cache.crawler.CrawlerCircuitBreaker;
 import org.eclipse.edc.catalog.spi.CatalogCrawlerConfiguration;
 import org.eclipse.edc.crawler.spi.CrawlerAction;
 import org.eclipse.edc.crawler.spi.CrawlerActionRegistry;
+import org.eclipse.edc.crawler.spi.CrawlerMetrics;
 import org.eclipse.edc.crawler.spi.CrawlerSuccessHandler;
+import org.eclipse.edc.crawler.spi.TargetNode;
 import org.eclipse.edc.crawler.spi.TargetNodeDirectory;
 import org.eclipse.edc.crawler.spi.TargetNodeFilter;
+import org.eclipse.edc.crawler.spi.WorkItem;
+import org.eclipse.edc.crawler.spi.WorkItemQueue;
 import org.eclipse.edc.crawler.spi.model.ExecutionPlan;
+import org.eclipse.edc.crawler.spi.model.UpdateRequest;
+import org.eclipse.edc.crawler.spi.model.UpdateResponse;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static java.util.concurrent.CompletableFuture.failedFuture;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
 import static org.eclipse.edc.catalog.test.TestUtil.TEST_PROTOCOL;
 import static org.eclipse.edc.catalog.test.TestUtil.createNode;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doThrow;
@@ -139,6 +157,27 @@ class ExecutionManagerTest {
         verify(monitorMock, atLeastOnce()).severe(anyString(), isA(CompletionException.class));
     }
 
+    @Test
+    void executePlan_actionThrows_shouldReleaseSlotAndCompleteGeneration() {
+        var node = createNode();
+        when(nodeDirectoryMock.getAll()).thenReturn(List.of(node, node));
+        when(crawlerActionRegistry.findForProtocol(TEST_PROTOCOL)).thenReturn(List.of(queryAdapterMock));
+        when(queryAdapterMock.apply(any()))
+                .thenThrow(new EdcException("some exception"))
+                .thenReturn(completedFuture(new TestUpdateResponse("test-url")));
+        Consumer<CrawlGeneration> generationCompleted = mock();
+        var configuration = crawlerConfiguration().maxRetries(0).maxInflightPerNode(1).build();
+        manager = createManagerBuilder().configuration(configuration).onGenerationCompleted(generationCompleted).build();
+
+        manager.executePlan(simplePlan());
+
+        await().untilAsserted(() -> {
+            verify(successHandler).accept(any());
+            verify(generationCompleted).accept(any());
+            verify(monitorMock, atLeastOnce()).severe(anyString(), any(Throwable.class));
+        });
+    }
+
     @Test
     void executePlan_workItemsEmpty() {
         when(nodeDirectoryMock.getAll()).thenReturn(List.of());
@@ -158,6 +197,173 @@ class ExecutionManagerTest {
         verify(filter, times(3)).test(any());
     }
 
+    @Test
+    void executePlan_shouldNotifyWhenGenerationCompleted() {
+        when(nodeDirectoryMock.getAll()).thenReturn(List.of(createNode(), createNode()));
+        when(crawlerActionRegistry.findForProtocol(TEST_PROTOCOL)).thenReturn(List.of(queryAdapterMock));
+        when(queryAdapterMock.apply(any())).thenReturn(completedFuture(new TestUpdateResponse("test-url")));
+        Consumer<CrawlGeneration> generationCompleted = mock();
+        manager = createManagerBuilder().onGenerationCompleted(generationCompleted).build();
+
+        manager.executePlan(simplePlan());
+
+        await().untilAsserted(() -> {
+            var inOrder = inOrder(successHandler, postExecutionTask, generationCompleted);
+            inOrder.verify(successHandler, times(2)).accept(any());
+            inOrder.verify(postExecutionTask).run();
+            inOrder.verify(generationCompleted).accept(argThat(g -> g.getId() == manager.getCurrentGeneration()));
+        });
+    }
+
+    @Test
+    void executePlan_nodeNotDue_shouldOnlyRetainThatNode() {
+        var notDue = new TargetNode("node-a", "did:web:node-a", "http://node-a.com", List.of(TEST_PROTOCOL));
+        var removed = new TargetNode("node-b", "did:web:node-b", "http://node-b.com", List.of(TEST_PROTOCOL));
+        when(nodeDirectoryMock.getAll()).thenReturn(List.of(notDue, removed), List.of(notDue));
+        when(crawlerActionRegistry.findForProtocol(TEST_PROTOCOL)).thenReturn(List.of(queryAdapterMock));
+        when(queryAdapterMock.apply(any())).thenAnswer(i -> completedFuture(new TestUpdateResponse(i.getArgument(0, UpdateRequest.class).nodeUrl())));
+        var completed = new CopyOnWriteArrayList<CrawlGeneration>();
+        manager = createManagerBuilder().configuration(crawlerConfiguration().adaptiveScheduling(true).build())
+                .onGenerationCompleted(completed::add).build();
+
+        manager.executePlan(simplePlan());
+        await().untilAsserted(() -> assertThat(completed).hasSize(1));
+        manager.executePlan(simplePlan());
+        await().untilAsserted(() -> assertThat(completed).hasSize(2));
+
+        verify(queryAdapterMock, times(2)).apply(any());
+        var first = completed.get(0);
+        var second = completed.get(1);
+        assertThat(first.getRetained()).isEmpty();
+        assertThat(second.getRetained()).containsExactly(Map.entry(notDue.targetUrl(), first.getId()));
+    }
+
+    @Test
+    void executePlan_nodesCompeteForCrawler_shouldCrawlMostStaleFirst() {
+        var now = new AtomicLong(1000);
+        var clock = mock(Clock.class);
+        when(clock.instant()).thenAnswer(i -> Instant.ofEpochMilli(now.get()));
+        when(clock.millis()).thenAnswer(i -> now.get());
+        var fresh = new TargetNode("fresh", "did:web:fresh", "http://fresh.com", List.of(TEST_PROTOCOL));
+        var stale = new TargetNode("stale", "did:web:stale", "http://stale.com", List.of(TEST_PROTOCOL));
+        when(nodeDirectoryMock.getAll()).thenReturn(List.of(fresh, stale));
+        when(crawlerActionRegistry.findForProtocol(TEST_PROTOCOL)).thenReturn(List.of(queryAdapterMock));
+        var crawled = new CopyOnWriteArrayList<String>();
+        when(queryAdapterMock.apply(any())).thenAnswer(i -> {
+            var request = i.getArgument(0, UpdateRequest.class);
+            crawled.add(request.nodeId());
+            return completedFuture(new TestUpdateResponse(request.nodeUrl()));
+        });
+        var completed = new CopyOnWriteArrayList<CrawlGeneration>();
+        manager = createManagerBuilder().configuration(crawlerConfiguration().numCrawlers(1).build()).clock(clock)
+                .nodeWeights(Map.of(stale.id(), 2.0)).onGenerationCompleted(completed::add).build();
+        manager.executePlan(simplePlan());
+        await().untilAsserted(() -> assertThat(completed).hasSize(1));
+        crawled.clear();
+        now.set(10_000);
+
+        manager.executePlan(simplePlan());
+
+        await().untilAsserted(() -> assertThat(completed).hasSize(2));
+        assertThat(crawled).containsExactly(stale.id(), fresh.id());
+    }
+
+    @Test
+    void executePlan_shouldSkipRunWhilePreviousGenerationIsRunning() {
+        when(nodeDirectoryMock.getAll()).thenReturn(List.of(createNode()));
+        when(crawlerActionRegistry.findForProtocol(TEST_PROTOCOL)).thenReturn(List.of(queryAdapterMock));
+        when(queryAdapterMock.apply(any())).thenReturn(new CompletableFuture<>());
+
+        manager.executePlan(planRunningTimes(2));
+
+        await().untilAsserted(() -> verify(queryAdapterMock).apply(any()));
+        verify(preExecutionTaskMock, times(1)).run();
+        verifyNoInteractions(postExecutionTask);
+    }
+
+    @Test
+    void executePlan_shouldStartNewGenerationWhenPreviousTimedOut() {
+        var clock = mock(Clock.class);
+        when(clock.instant()).thenReturn(Instant.ofEpochMilli(1000), Instant.ofEpochMilli(10_000));
+        when(clock.millis()).thenReturn(1000L, 10_000L);
+        when(nodeDirectoryMock.getAll()).thenReturn(List.of(createNode()));
+        when(crawlerActionRegistry.findForProtocol(TEST_PROTOCOL)).thenReturn(List.of(queryAdapterMock));
+        var firstCrawl = new CompletableFuture<UpdateResponse>();
+        when(queryAdapterMock.apply(any())).thenReturn(firstCrawl, new CompletableFuture<>());
+        var configuration = crawlerConfiguration().generationTimeoutSeconds(1).build();
+        manager = createManagerBuilder().configuration(configuration).clock(clock).build();
+
+        manager.executePlan(planRunningTimes(2));
+
+        await().untilAsserted(() -> verify(queryAdapterMock, times(2)).apply(any()));
+        verify(preExecutionTaskMock, times(2)).run();
+        assertThat(manager.getCurrentGeneration()).isEqualTo(10_000L);
+        assertThat(firstCrawl).isCancelled();
+        verifyNoInteractions(postExecutionTask);
+    }
+
+    @Test
+    void executePlan_crawlTimesOut_shouldRecordTimeout() {
+        var node = createNode();
+        var metrics = mock(CrawlerMetrics.class);
+        var crawl = new CompletableFuture<UpdateResponse>();
+        when(nodeDirectoryMock.getAll()).thenReturn(List.of(node));
+        when(crawlerActionRegistry.findForProtocol(TEST_PROTOCOL)).thenReturn(List.of(queryAdapterMock));
+        when(queryAdapterMock.apply(any())).thenReturn(crawl);
+        var configuration = crawlerConfiguration().maxRetries(0).crawlTimeoutSeconds(1).build();
+        manager = createManagerBuilder().configuration(configuration).metrics(metrics).build();
+
+        manager.executePlan(simplePlan());
+
+        await().untilAsserted(() -> verify(postExecutionTask).run());
+        verify(metrics).crawlTimedOut(node.id());
+        assertThat(crawl).isCompletedExceptionally();
+        verifyNoInteractions(successHandler);
+    }
+
+    @Test
+    void executePlan_shouldSkipNodeWithOpenCircuitBreaker() {
+        var node = createNode();
+        when(nodeDirectoryMock.getAll()).thenReturn(List.of(node));
+        when(crawlerActionRegistry.findForProtocol(TEST_PROTOCOL)).thenReturn(List.of(queryAdapterMock));
+        when(queryAdapterMock.apply(any())).thenReturn(failedFuture(new EdcException("offline")));
+        var configuration = crawlerConfiguration().maxRetries(0).circuitBreakerFailureThreshold(1).build();
+        manager = createManagerBuilder().configuration(configuration).build();
+
+        manager.executePlan(simplePlan());
+        await().untilAsserted(() -> {
+            verify(postExecutionTask).run();
+            assertThat(manager.getCircuitBreakerStates()).containsEntry(node.id(), CrawlerCircuitBreaker.State.OPEN);
+        });
+        manager.executePlan(simplePlan());
+
+        verify(preExecutionTaskMock, times(2)).run();
+        verify(queryAdapterMock, times(1)).apply(any());
+    }
+
+    @Test
+    void executePlan_withWorkItemQueue_shouldOnlyCrawlClaimedItems() {
+        var node1 = createNode();
+        var node2 = createNode();
+        when(nodeDirectoryMock.getAll()).thenReturn(List.of(node1, node2));
+        when(crawlerActionRegistry.findForProtocol(TEST_PROTOCOL)).thenReturn(List.of(queryAdapterMock));
+        when(queryAdapterMock.apply(any())).thenReturn(completedFuture(new TestUpdateResponse("test-url")));
+        var workItemQueue = mock(WorkItemQueue.class);
+        when(workItemQueue.claim(anyInt(), any()))
+                .thenReturn(List.of(new WorkItem(node1.id(), node1.targetUrl(), TEST_PROTOCOL)))
+                .thenReturn(List.of());
+        manager = createManagerBuilder().workItemQueue(workItemQueue).build();
+
+        manager.executePlan(simplePlan());
+
+        await().untilAsserted(() -> {
+            verify(postExecutionTask).run();
+            verify(workItemQueue).complete(argThat(item -> item.getId().equals(node1.id())), any());
+        });
+        verify(workItemQueue).offer(argThat(items -> items.size() == 2));
+        verify(queryAdapterMock, times(1)).apply(argThat(request -> request.nodeId().equals(node1.id())));
+    }
+
     @Test
     void shutdownPlan_shouldNotStopPlanWhenGloballyDisabled() {
 
@@ -179,12 +385,38 @@ class ExecutionManagerTest {
         verifyNoMoreInteractions(monitorMock);
     }
 
+    @Test
+    void shutdownPlan_generationRunning_shouldCancelOutstandingCrawlsAfterTimeout() {
+        var crawl = new CompletableFuture<UpdateResponse>();
+        when(nodeDirectoryMock.getAll()).thenReturn(List.of(createNode()));
+        when(crawlerActionRegistry.findForProtocol(TEST_PROTOCOL)).thenReturn(List.of(queryAdapterMock));
+        when(queryAdapterMock.apply(any())).thenReturn(crawl);
+        var configuration = crawlerConfiguration().shutdownTimeoutSeconds(0).build();
+        manager = createManagerBuilder().configuration(configuration).build();
+        manager.executePlan(simplePlan());
+        await().untilAsserted(() -> verify(queryAdapterMock).apply(any()));
+
+        manager.shutdownPlan(simplePlan());
+
+        assertThat(crawl).isCancelled();
+        verify(monitorMock).warning(argThat((String message) -> message.contains("crawls in flight were cancelled")));
+    }
+
     private CatalogCrawlerConfiguration disabledCrawler() {
-        return new CatalogCrawlerConfiguration(false, 5, 5, 5, 5, 5);
+        return crawlerConfiguration().enabled(false).build();
     }
 
     private CatalogCrawlerConfiguration enabledCrawler() {
-        return new CatalogCrawlerConfiguration(true, 5, 5, 5, 5, 5);
+        return crawlerConfiguration().build();
+    }
+
+    private CatalogCrawlerConfiguration.Builder crawlerConfiguration() {
+        return CatalogCrawlerConfiguration.Builder.newInstance()
+                .numCrawlers(5)
+                .periodSeconds(5)
+                .delaySeconds(5)
+                .maxRetries(5)
+                .retryDelaySeconds(5);
     }
 
     private ExecutionPlan simplePlan() {
@@ -201,6 +433,22 @@ class ExecutionManagerTest {
         };
     }
 
+    private ExecutionPlan planRunningTimes(int times) {
+        return new ExecutionPlan() {
+            @Override
+            public void run(Runnable task) {
+                for (int i = 0; i < times; i++) {
+                    task.run();
+                }
+            }
+
+            @Override
+            public void stop() {
+
+            }
+        };
+    }
+
     @NotNull
     private ExecutionManager.Builder createManagerBuilder() {
         return ExecutionManager.Builder.newInstance()
@@ -0,0 +1,126 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.catalog.cache.crawler;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AdaptiveCrawlSchedulerTest {
+
+    private static final Duration MIN = Duration.ofSeconds(10);
+    private static final Duration MAX = Duration.ofSeconds(80);
+
+    private final Clock clock = mock();
+    private final AdaptiveCrawlScheduler scheduler = new AdaptiveCrawlScheduler(true, MIN, MAX, clock);
+
+    @Test
+    void isDue_neverCrawled_shouldBeDue() {
+        when(clock.instant()).thenReturn(Instant.EPOCH);
+
+        assertThat(scheduler.isDue("node-1")).isTrue();
+    }
+
+    @Test
+    void isDue_shouldRespectInterval() {
+        crawl("node-1", "hash", 0);
+
+        when(clock.instant()).thenReturn(Instant.ofEpochSecond(9));
+        assertThat(scheduler.isDue("node-1")).isFalse();
+
+        when(clock.instant()).thenReturn(Instant.ofEpochSecond(10));
+        assertThat(scheduler.isDue("node-1")).isTrue();
+    }
+
+    @Test
+    void isDue_disabled_shouldAlwaysBeDue() {
+        var disabled = new AdaptiveCrawlScheduler(false, MIN, MAX, clock);
+        when(clock.instant()).thenReturn(Instant.EPOCH);
+        disabled.recordSuccess("node-1", "hash", generation(0));
+
+        assertThat(disabled.isDue("node-1")).isTrue();
+        assertThat(disabled.getInterval("node-1")).isEqualTo(MIN);
+    }
+
+    @Test
+    void recordSuccess_unchangedContent_shouldBackOffUpToMax() {
+        crawl("node-1", "hash", 0);
+        crawl("node-1", "hash", 10);
+        assertThat(scheduler.getInterval("node-1")).isEqualTo(Duration.ofSeconds(20));
+
+        crawl("node-1", "hash", 30);
+        crawl("node-1", "hash", 70);
+        crawl("node-1", "hash", 150);
+        assertThat(scheduler.getInterval("node-1")).isEqualTo(MAX);
+    }
+
+    @Test
+    void recordSuccess_changedContent_shouldSpeedUpDownToMin() {
+        crawl("node-1", "hash", 0);
+        crawl("node-1", "hash", 10);
+        crawl("node-1", "hash", 30);
+        assertThat(scheduler.getInterval("node-1")).isEqualTo(Duration.ofSeconds(40));
+
+        crawl("node-1", "changed", 70);
+        assertThat(scheduler.getInterval("node-1")).isEqualTo(Duration.ofSeconds(20));
+
+        crawl("node-1", "changed-again", 90);
+        crawl("node-1", "changed-yet-again", 100);
+        assertThat(scheduler.getInterval("node-1")).isEqualTo(MIN);
+    }
+
+    @Test
+    void recordSuccess_noContentHash_shouldUseMinInterval() {
+        crawl("node-1", null, 0);
+        crawl("node-1", null, 10);
+
+        assertThat(scheduler.getInterval("node-1")).isEqualTo(MIN);
+    }
+
+    @Test
+    void recordSuccess_shouldTrackLastSuccess() {
+        crawl("node-1", "hash", 42);
+
+        assertThat(scheduler.getLastSuccess("node-1")).isEqualTo(Instant.ofEpochSecond(42));
+        assertThat(scheduler.getLastSuccessfulGeneration("node-1")).isEqualTo(42_000);
+    }
+
+    @Test
+    void retainOnly_shouldDropRemovedNodes() {
+        crawl("node-1", "hash", 0);
+        crawl("node-2", "hash", 0);
+
+        scheduler.retainOnly(Set.of("node-2"));
+
+        assertThat(scheduler.getLastSuccess("node-1")).isNull();
+        assertThat(scheduler.getLastSuccess("node-2")).isNotNull();
+    }
+
+    private void crawl(String nodeId, String contentHash, long epochSecond) {
+        when(clock.instant()).thenReturn(Instant.ofEpochSecond(epochSecond));
+        scheduler.recordSuccess(nodeId, contentHash, generation(epochSecond));
+    }
+
+    private CrawlGeneration generation(long epochSecond) {
+        return new CrawlGeneration(epochSecond * 1000, Instant.ofEpochSecond(epochSecond));
+    }
+}
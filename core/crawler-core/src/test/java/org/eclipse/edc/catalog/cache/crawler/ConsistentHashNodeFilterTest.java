@@ -0,0 +1,114 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.catalog.cache.crawler;
+
+import org.eclipse.edc.crawler.spi.CrawlerMembership;
+import org.eclipse.edc.crawler.spi.TargetNode;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ConsistentHashNodeFilterTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(180);
+
+    private final List<TargetNode> nodes = IntStream.range(0, 1000)
+            .mapToObj(i -> new TargetNode("node-" + i, "node-" + i, "http://test.com/" + i, List.of("test-protocol")))
+            .toList();
+
+    @Test
+    void test_noRefresh_shouldSelectAllNodes() {
+        var filter = filter("replica-1", Set.of());
+
+        assertThat(nodes).allMatch(filter);
+    }
+
+    @Test
+    void test_singleReplica_shouldSelectAllNodes() {
+        var filter = filter("replica-1", Set.of("replica-1"));
+        filter.refresh();
+
+        assertThat(nodes).allMatch(filter);
+    }
+
+    @Test
+    void test_shouldPartitionNodesWithoutOverlap() {
+        var replicas = Set.of("replica-1", "replica-2", "replica-3");
+        var filters = replicas.stream().map(id -> filter(id, replicas)).toList();
+        filters.forEach(ConsistentHashNodeFilter::refresh);
+
+        for (var node : nodes) {
+            assertThat(filters.stream().filter(f -> f.test(node))).hasSize(1);
+        }
+        for (var filter : filters) {
+            assertThat(nodes.stream().filter(filter).count()).isBetween(200L, 470L);
+        }
+    }
+
+    @Test
+    void test_replicaJoins_shouldOnlyMoveNodesToNewReplica() {
+        var before = filter("replica-1", Set.of("replica-1", "replica-2"));
+        before.refresh();
+        var after = filter("replica-1", Set.of("replica-1", "replica-2", "replica-3"));
+        after.refresh();
+
+        var ownedBefore = nodes.stream().filter(before).toList();
+        var ownedAfter = nodes.stream().filter(after).toList();
+
+        assertThat(ownedBefore).containsAll(ownedAfter);
+    }
+
+    @Test
+    void refresh_membershipFails_shouldKeepPreviousPartitioning() {
+        var membership = mock(CrawlerMembership.class);
+        when(membership.getReplicaId()).thenReturn("replica-1");
+        when(membership.heartbeat(any()))
+                .thenReturn(Set.of("replica-1", "replica-2"))
+                .thenThrow(new EdcException("database down"));
+        var filter = new ConsistentHashNodeFilter(membership, 100, TIMEOUT, mock(Monitor.class));
+
+        filter.refresh();
+        filter.refresh();
+
+        assertThat(filter.getMembers()).containsExactlyInAnyOrder("replica-1", "replica-2");
+        assertThat(nodes.stream().filter(filter).count()).isLessThan(nodes.size());
+    }
+
+    @Test
+    void refresh_selfMissing_shouldAddSelf() {
+        var filter = filter("replica-1", Set.of("replica-2"));
+
+        filter.refresh();
+
+        assertThat(filter.getMembers()).containsExactlyInAnyOrder("replica-1", "replica-2");
+    }
+
+    private ConsistentHashNodeFilter filter(String replicaId, Set<String> replicas) {
+        var membership = mock(CrawlerMembership.class);
+        when(membership.getReplicaId()).thenReturn(replicaId);
+        when(membership.heartbeat(any())).thenReturn(replicas);
+        return new ConsistentHashNodeFilter(membership, 100, TIMEOUT, mock(Monitor.class));
+    }
+}
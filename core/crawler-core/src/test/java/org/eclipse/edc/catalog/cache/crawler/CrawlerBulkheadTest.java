@@ -0,0 +1,101 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.catalog.cache.crawler;
+
+import org.eclipse.edc.crawler.spi.WorkItem;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CrawlerBulkheadTest {
+
+    private final AtomicInteger started = new AtomicInteger();
+
+    @Test
+    void submit_unlimited_shouldRunImmediately() {
+        var bulkhead = new CrawlerBulkhead(0, 0);
+
+        for (int i = 0; i < 10; i++) {
+            bulkhead.submit(item("node-" + i, "http://host.com/api"), started::incrementAndGet);
+        }
+
+        assertThat(started).hasValue(10);
+        assertThat(bulkhead.getWaitingCount()).isZero();
+    }
+
+    @Test
+    void submit_hostLimitReached_shouldDeferUntilRelease() {
+        var bulkhead = new CrawlerBulkhead(0, 2);
+        var item1 = item("node-1", "http://slow.com/api");
+        var item2 = item("node-2", "http://slow.com/api");
+        var item3 = item("node-3", "http://slow.com/api");
+
+        bulkhead.submit(item1, started::incrementAndGet);
+        bulkhead.submit(item2, started::incrementAndGet);
+        bulkhead.submit(item3, started::incrementAndGet);
+
+        assertThat(started).hasValue(2);
+        assertThat(bulkhead.getWaitingCount()).isEqualTo(1);
+
+        bulkhead.release(item1);
+
+        assertThat(started).hasValue(3);
+        assertThat(bulkhead.getWaitingCount()).isZero();
+    }
+
+    @Test
+    void submit_hostLimitReached_shouldNotAffectOtherHosts() {
+        var bulkhead = new CrawlerBulkhead(0, 1);
+
+        bulkhead.submit(item("node-1", "http://slow.com/api"), started::incrementAndGet);
+        bulkhead.submit(item("node-2", "http://slow.com/api"), started::incrementAndGet);
+        bulkhead.submit(item("node-3", "http://fast.com/api"), started::incrementAndGet);
+
+        assertThat(started).hasValue(2);
+        assertThat(bulkhead.getWaitingCount()).isEqualTo(1);
+    }
+
+    @Test
+    void submit_nodeLimitReached_shouldDeferUntilRelease() {
+        var bulkhead = new CrawlerBulkhead(1, 0);
+        var item = item("node-1", "http://host.com/api");
+        var retry = item("node-1", "http://host.com/api");
+
+        bulkhead.submit(item, started::incrementAndGet);
+        bulkhead.submit(retry, started::incrementAndGet);
+
+        assertThat(started).hasValue(1);
+
+        bulkhead.release(item);
+
+        assertThat(started).hasValue(2);
+    }
+
+    @Test
+    void submit_invalidUrl_shouldUseUrlAsHost() {
+        var bulkhead = new CrawlerBulkhead(0, 1);
+
+        bulkhead.submit(item("node-1", "not a url"), started::incrementAndGet);
+        bulkhead.submit(item("node-2", "not a url"), started::incrementAndGet);
+
+        assertThat(started).hasValue(1);
+    }
+
+    private WorkItem item(String id, String url) {
+        return new WorkItem(id, url, "test-protocol");
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.catalog.cache.crawler;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.catalog.cache.crawler.CrawlerCircuitBreaker.State.CLOSED;
+import static org.eclipse.edc.catalog.cache.crawler.CrawlerCircuitBreaker.State.HALF_OPEN;
+import static org.eclipse.edc.catalog.cache.crawler.CrawlerCircuitBreaker.State.OPEN;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CrawlerCircuitBreakerTest {
+
+    private final Clock clock = mock();
+    private final CrawlerCircuitBreaker circuitBreaker = new CrawlerCircuitBreaker(2, Duration.ofSeconds(10), Duration.ofSeconds(30), clock);
+
+    @BeforeEach
+    void setUp() {
+        when(clock.instant()).thenReturn(Instant.EPOCH);
+    }
+
+    @Test
+    void recordFailure_belowThreshold_shouldStayClosed() {
+        assertThat(circuitBreaker.recordFailure("node-1")).isEqualTo(CLOSED);
+        assertThat(circuitBreaker.tryAcquire("node-1")).isTrue();
+    }
+
+    @Test
+    void recordFailure_thresholdReached_shouldOpen() {
+        circuitBreaker.recordFailure("node-1");
+
+        assertThat(circuitBreaker.recordFailure("node-1")).isEqualTo(OPEN);
+        assertThat(circuitBreaker.tryAcquire("node-1")).isFalse();
+        assertThat(circuitBreaker.getOpenUntil("node-1")).isEqualTo(Instant.ofEpochSecond(10));
+        assertThat(circuitBreaker.getStates()).containsEntry("node-1", OPEN);
+        assertThat(circuitBreaker.tryAcquire("node-2")).isTrue();
+    }
+
+    @Test
+    void recordSuccess_shouldResetFailures() {
+        circuitBreaker.recordFailure("node-1");
+        circuitBreaker.recordSuccess("node-1");
+
+        assertThat(circuitBreaker.recordFailure("node-1")).isEqualTo(CLOSED);
+    }
+
+    @Test
+    void tryAcquire_cooldownElapsed_shouldProbe() {
+        open("node-1");
+
+        when(clock.instant()).thenReturn(Instant.ofEpochSecond(10));
+
+        assertThat(circuitBreaker.tryAcquire("node-1")).isTrue();
+        assertThat(circuitBreaker.isProbing("node-1")).isTrue();
+        assertThat(circuitBreaker.getState("node-1")).isEqualTo(HALF_OPEN);
+    }
+
+    @Test
+    void probeSucceeds_shouldClose() {
+        open("node-1");
+        when(clock.instant()).thenReturn(Instant.ofEpochSecond(10));
+        circuitBreaker.tryAcquire("node-1");
+
+        circuitBreaker.recordSuccess("node-1");
+
+        assertThat(circuitBreaker.getState("node-1")).isEqualTo(CLOSED);
+        assertThat(circuitBreaker.getStates()).isEmpty();
+    }
+
+    @Test
+    void probeFails_shouldReopenWithGrowingCooldown() {
+        open("node-1");
+
+        when(clock.instant()).thenReturn(Instant.ofEpochSecond(10));
+        circuitBreaker.tryAcquire("node-1");
+        assertThat(circuitBreaker.recordFailure("node-1")).isEqualTo(OPEN);
+        assertThat(circuitBreaker.getOpenUntil("node-1")).isEqualTo(Instant.ofEpochSecond(30));
+
+        when(clock.instant()).thenReturn(Instant.ofEpochSecond(30));
+        circuitBreaker.tryAcquire("node-1");
+        circuitBreaker.recordFailure("node-1");
+        assertThat(circuitBreaker.getOpenUntil("node-1")).isEqualTo(Instant.ofEpochSecond(60));
+    }
+
+    @Test
+    void disabled_shouldNeverOpen() {
+        var disabled = new CrawlerCircuitBreaker(0, Duration.ofSeconds(10), Duration.ofSeconds(30), clock);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(disabled.recordFailure("node-1")).isEqualTo(CLOSED);
+        }
+        assertThat(disabled.tryAcquire("node-1")).isTrue();
+    }
+
+    @Test
+    void retainOnly_shouldDropRemovedNodes() {
+        open("node-1");
+
+        circuitBreaker.retainOnly(Set.of());
+
+        assertThat(circuitBreaker.tryAcquire("node-1")).isTrue();
+    }
+
+    private void open(String nodeId) {
+        circuitBreaker.recordFailure(nodeId);
+        circuitBreaker.recordFailure(nodeId);
+    }
+}
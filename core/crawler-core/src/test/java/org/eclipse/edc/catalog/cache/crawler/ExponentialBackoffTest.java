@@ -0,0 +1,53 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.catalog.cache.crawler;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExponentialBackoffTest {
+
+    @Test
+    void ceiling_shouldDoubleUpToMax() {
+        var backoff = new ExponentialBackoff(Duration.ofSeconds(10), Duration.ofSeconds(60));
+
+        assertThat(backoff.ceiling(1)).isEqualTo(Duration.ofSeconds(10));
+        assertThat(backoff.ceiling(2)).isEqualTo(Duration.ofSeconds(20));
+        assertThat(backoff.ceiling(3)).isEqualTo(Duration.ofSeconds(40));
+        assertThat(backoff.ceiling(4)).isEqualTo(Duration.ofSeconds(60));
+        assertThat(backoff.ceiling(Integer.MAX_VALUE)).isEqualTo(Duration.ofSeconds(60));
+    }
+
+    @Test
+    void delay_shouldBeJitteredBetweenHalfAndCeiling() {
+        var lower = new ExponentialBackoff(Duration.ofSeconds(10), Duration.ofSeconds(60), () -> 0.0);
+        var upper = new ExponentialBackoff(Duration.ofSeconds(10), Duration.ofSeconds(60), () -> 0.999_999);
+
+        assertThat(lower.delay(2)).isEqualTo(Duration.ofSeconds(10));
+        assertThat(upper.delay(2)).isBetween(Duration.ofMillis(19_990), Duration.ofSeconds(20));
+    }
+
+    @Test
+    void delay_shouldNeverExceedMax() {
+        var backoff = new ExponentialBackoff(Duration.ofSeconds(10), Duration.ofSeconds(60));
+
+        for (int attempt = 1; attempt < 100; attempt++) {
+            assertThat(backoff.delay(attempt)).isBetween(Duration.ofSeconds(5), Duration.ofSeconds(60));
+        }
+    }
+}
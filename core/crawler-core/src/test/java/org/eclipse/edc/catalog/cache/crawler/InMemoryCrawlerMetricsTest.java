@@ -0,0 +1,98 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.catalog.cache.crawler;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryCrawlerMetricsTest {
+
+    private final InMemoryCrawlerMetrics metrics = new InMemoryCrawlerMetrics();
+
+    @Test
+    void pageFetched_shouldCountPagesAndBytes() {
+        metrics.pageFetched("node-1", Duration.ofMillis(5), 100);
+        metrics.pageFetched("node-1", Duration.ofMillis(70), 200);
+
+        var node = metrics.getSnapshot().nodes().get("node-1");
+        assertThat(node.pages()).isEqualTo(2);
+        assertThat(node.bytes()).isEqualTo(300);
+        assertThat(node.fetchLatency().count()).isEqualTo(2);
+        assertThat(node.fetchLatency().totalMillis()).isEqualTo(75);
+        assertThat(node.fetchLatency().maxMillis()).isEqualTo(70);
+        assertThat(node.fetchLatency().histogram())
+                .containsEntry("10", 1L)
+                .containsEntry("100", 1L)
+                .containsEntry("+Inf", 0L);
+    }
+
+    @Test
+    void histogram_shouldPutLongDurationsIntoLastBucket() {
+        metrics.pageFetched("node-1", Duration.ofMinutes(5), 0);
+
+        assertThat(metrics.getSnapshot().nodes().get("node-1").fetchLatency().histogram())
+                .containsEntry("+Inf", 1L)
+                .hasSize(InMemoryCrawlerMetrics.BUCKETS.length + 1);
+    }
+
+    @Test
+    void crawlCompleted_shouldCountFailuresAndRetries() {
+        metrics.crawlCompleted("node-1", Duration.ofSeconds(1), false);
+        metrics.crawlTimedOut("node-1");
+        metrics.retryScheduled("node-1");
+        metrics.crawlCompleted("node-1", Duration.ofSeconds(1), true);
+        metrics.pageTransformed("node-1", 42, Duration.ofMillis(3));
+
+        var node = metrics.getSnapshot().nodes().get("node-1");
+        assertThat(node.crawls()).isEqualTo(2);
+        assertThat(node.failures()).isEqualTo(1);
+        assertThat(node.retries()).isEqualTo(1);
+        assertThat(node.timeouts()).isEqualTo(1);
+        assertThat(node.datasets()).isEqualTo(42);
+        assertThat(node.transformTime().count()).isEqualTo(1);
+    }
+
+    @Test
+    void getSnapshot_shouldReadGauges() {
+        var depth = new int[]{ 3 };
+        metrics.registerGauge("queue.depth", () -> depth[0]);
+        assertThat(metrics.getSnapshot().gauges()).containsEntry("queue.depth", 3L);
+
+        depth[0] = 5;
+        assertThat(metrics.getSnapshot().gauges()).containsEntry("queue.depth", 5L);
+    }
+
+    @Test
+    void catalogSaved_shouldRecordSaveTime() {
+        metrics.catalogSaved(Duration.ofMillis(20));
+
+        assertThat(metrics.getSnapshot().saveTime().count()).isEqualTo(1);
+        assertThat(metrics.getSnapshot().saveTime().histogram()).containsEntry("25", 1L);
+    }
+
+    @Test
+    void retainOnly_shouldDropRemovedNodes() {
+        metrics.retryScheduled("node-1");
+        metrics.retryScheduled("node-2");
+
+        metrics.retainOnly(Set.of("node-2"));
+
+        assertThat(metrics.getSnapshot().nodes()).containsOnlyKeys("node-2");
+    }
+}
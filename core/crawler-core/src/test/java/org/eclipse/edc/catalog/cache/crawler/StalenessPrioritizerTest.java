@@ -0,0 +1,86 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.catalog.cache.crawler;
+
+import org.eclipse.edc.crawler.spi.WorkItem;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class StalenessPrioritizerTest {
+
+    private final Clock clock = mock();
+    private final AdaptiveCrawlScheduler history = new AdaptiveCrawlScheduler(false, Duration.ofSeconds(10), Duration.ofSeconds(10), clock);
+
+    @Test
+    void prioritize_shouldOrderByLastSuccess() {
+        crawledAt("node-1", 30);
+        crawledAt("node-2", 10);
+        crawledAt("node-3", 20);
+        when(clock.instant()).thenReturn(Instant.ofEpochSecond(100));
+
+        var result = new StalenessPrioritizer(history, Map.of(), clock).prioritize(items("node-1", "node-2", "node-3"));
+
+        assertThat(result).extracting(WorkItem::getId).containsExactly("node-2", "node-3", "node-1");
+    }
+
+    @Test
+    void prioritize_neverCrawled_shouldComeFirstInOriginalOrder() {
+        crawledAt("node-1", 10);
+        when(clock.instant()).thenReturn(Instant.ofEpochSecond(100));
+
+        var result = new StalenessPrioritizer(history, Map.of(), clock).prioritize(items("node-1", "node-2", "node-3"));
+
+        assertThat(result).extracting(WorkItem::getId).containsExactly("node-2", "node-3", "node-1");
+    }
+
+    @Test
+    void prioritize_shouldScaleStalenessByWeight() {
+        crawledAt("node-1", 10);
+        crawledAt("node-2", 60);
+        when(clock.instant()).thenReturn(Instant.ofEpochSecond(100));
+
+        var result = new StalenessPrioritizer(history, Map.of("node-2", 3.0), clock).prioritize(items("node-1", "node-2"));
+
+        assertThat(result).extracting(WorkItem::getId).containsExactly("node-2", "node-1");
+    }
+
+    @Test
+    void stalenessOf_shouldBeWeightedTimeSinceLastSuccess() {
+        crawledAt("node-1", 40);
+        var prioritizer = new StalenessPrioritizer(history, Map.of("node-1", 2.0), clock);
+
+        assertThat(prioritizer.stalenessOf("node-1", Instant.ofEpochSecond(100))).isEqualTo(120_000.0);
+        assertThat(prioritizer.stalenessOf("node-2", Instant.ofEpochSecond(100))).isEqualTo(Double.POSITIVE_INFINITY);
+    }
+
+    private void crawledAt(String nodeId, long epochSecond) {
+        when(clock.instant()).thenReturn(Instant.ofEpochSecond(epochSecond));
+        history.recordSuccess(nodeId, null, new CrawlGeneration(epochSecond * 1000, Instant.ofEpochSecond(epochSecond)));
+    }
+
+    private List<WorkItem> items(String... ids) {
+        return Arrays.stream(ids).map(id -> new WorkItem(id, "http://test.com/" + id, "test-protocol")).toList();
+    }
+}
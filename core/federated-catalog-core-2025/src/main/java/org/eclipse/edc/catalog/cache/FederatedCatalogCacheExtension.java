@@ -16,7 +16,11 @@
 package org.eclipse.edc.catalog.cache;
 
 import jakarta.json.Json;
+import org.eclipse.edc.catalog.cache.query.AdaptivePageSizer;
+import org.eclipse.edc.catalog.cache.query.CatalogPageCache;
 import org.eclipse.edc.catalog.cache.query.DspCatalogRequestAction;
+import org.eclipse.edc.catalog.cache.query.JsonLdExpansionCache;
+import org.eclipse.edc.catalog.cache.query.ResponseSpool;
 import org.eclipse.edc.catalog.transform.JsonObjectToCatalogTransformer;
 import org.eclipse.edc.catalog.transform.JsonObjectToDataServiceTransformer;
 import org.eclipse.edc.catalog.transform.JsonObjectToDatasetTransformer;
@@ -24,6 +28,7 @@ import org.eclipse.edc.catalog.transform.JsonObjectToDistributionTransformer;
 import org.eclipse.edc.connector.controlplane.transform.odrl.from.JsonObjectFromPolicyTransformer;
 import org.eclipse.edc.connector.controlplane.transform.odrl.to.JsonObjectToPolicyTransformer;
 import org.eclipse.edc.crawler.spi.CrawlerActionRegistry;
+import org.eclipse.edc.crawler.spi.CrawlerMetrics;
 import org.eclipse.edc.jsonld.spi.JsonLd;
 import org.eclipse.edc.participant.spi.ParticipantIdMapper;
 import org.eclipse.edc.participantcontext.single.spi.SingleParticipantContextSupplier;
@@ -31,8 +36,11 @@ import org.eclipse.edc.protocol.dsp.catalog.transform.from.JsonObjectFromDataSer
 import org.eclipse.edc.protocol.dsp.catalog.transform.from.JsonObjectFromDatasetTransformer;
 import org.eclipse.edc.protocol.dsp.catalog.transform.from.JsonObjectFromDistributionTransformer;
 import org.eclipse.edc.protocol.dsp.catalog.transform.v2025.from.JsonObjectFromCatalogV2025Transformer;
+import org.eclipse.edc.runtime.metamodel.annotation.Configuration;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.runtime.metamodel.annotation.Settings;
 import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
@@ -42,6 +50,8 @@ import org.eclipse.edc.transform.transformer.edc.to.JsonObjectToCriterionTransfo
 import org.eclipse.edc.transform.transformer.edc.to.JsonObjectToQuerySpecTransformer;
 import org.eclipse.edc.transform.transformer.edc.to.JsonValueToGenericTypeTransformer;
 
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Map;
 
 import static org.eclipse.edc.protocol.dsp.spi.type.Dsp2025Constants.DATASPACE_PROTOCOL_HTTP_V_2025_1;
@@ -54,6 +64,40 @@ public class FederatedCatalogCacheExtension implements ServiceExtension {
 
     public static final String NAME = "Federated Catalog Cache DSP 2025/1";
 
+    @Setting(description = "How many pages of a catalog are requested from a target node at the same time. 1 requests the pages " +
+            "one after another", key = "edc.catalog.cache.fetch.prefetch.window", defaultValue = "1")
+    private int prefetchWindow;
+
+    @Setting(description = "How many expanded JSON-LD documents of catalog responses are cached, so that unchanged datasets are not " +
+            "expanded again on every crawl. Every entry holds a dataset both as it was received, including its @context, and in " +
+            "expanded form on the heap, without a byte bound, so it should not be larger than the number of datasets of all " +
+            "target nodes. 0 disables the cache", key = "edc.catalog.cache.fetch.expansion.cache.size", defaultValue = "0")
+    private int expansionCacheSize;
+
+    @Setting(description = "How many catalog pages are cached by the hash of their payload, so that pages that did not change since " +
+            "the last crawl are not read again. Every cached page is held on the heap as a fully transformed catalog with up to " +
+            "'edc.catalog.cache.fetch.page.size.max' datasets, and the cache has no byte bound, so it should not be larger than the " +
+            "number of pages of all target nodes. 0 disables the cache", key = "edc.catalog.cache.fetch.page.cache.size", defaultValue = "0")
+    private int pageCacheSize;
+
+    @Setting(description = "How many sub-catalogs of a catalog are fetched at the same time", key = "edc.catalog.cache.fetch.subcatalog.concurrency",
+            defaultValue = "4")
+    private int subCatalogConcurrency;
+
+    @Setting(description = "How many levels of sub-catalogs below the catalog of a target node are fetched. Deeper sub-catalogs are " +
+            "kept as they are listed by their parent", key = "edc.catalog.cache.fetch.subcatalog.depth", defaultValue = "10")
+    private int subCatalogDepth;
+
+    @Setting(description = "How many seconds a single catalog page request may take before it is cancelled. 0 disables the limit",
+            key = "edc.catalog.cache.fetch.request.timeout.seconds", defaultValue = "60")
+    private long requestTimeoutSeconds;
+
+    @Configuration
+    private PageSizeConfiguration pageSizeConfiguration;
+
+    @Configuration
+    private ResponseSpoolConfiguration responseSpoolConfiguration;
+
     @Inject
     private RemoteMessageDispatcherRegistry dispatcherRegistry;
     @Inject
@@ -70,6 +114,8 @@ public class FederatedCatalogCacheExtension implements ServiceExtension {
     private TypeTransformerRegistry transformerRegistry;
     @Inject
     private SingleParticipantContextSupplier participantContextSupplier;
+    @Inject
+    private CrawlerMetrics crawlerMetrics;
 
     @Override
     public String name() {
@@ -82,7 +128,39 @@ public class FederatedCatalogCacheExtension implements ServiceExtension {
 
         var mapper = typeManager.getMapper(JSON_LD);
         var dspTransformerRegistry = registry.forContext(DSP_TRANSFORMER_CONTEXT_V_2025_1);
-        var adapter = new DspCatalogRequestAction(dispatcherRegistry, participantContextSupplier, context.getMonitor(), mapper, dspTransformerRegistry, jsonLdService);
+        var expansionCache = new JsonLdExpansionCache(jsonLdService, expansionCacheSize);
+        crawlerMetrics.registerGauge("jsonld.expansion.cache.size", expansionCache::size);
+        crawlerMetrics.registerGauge("jsonld.expansion.cache.hits", expansionCache::getHits);
+        crawlerMetrics.registerGauge("jsonld.expansion.cache.misses", expansionCache::getMisses);
+        var pageCache = new CatalogPageCache(pageCacheSize);
+        crawlerMetrics.registerGauge("catalog.page.cache.size", pageCache::size);
+        crawlerMetrics.registerGauge("catalog.page.cache.hits", pageCache::getHits);
+        crawlerMetrics.registerGauge("catalog.page.cache.misses", pageCache::getMisses);
+        var pageSizer = new AdaptivePageSizer(pageSizeConfiguration.initial(), pageSizeConfiguration.min(), pageSizeConfiguration.max(),
+                Duration.ofMillis(pageSizeConfiguration.targetLatencyMillis()), pageSizeConfiguration.targetBytes());
+        var spillDirectory = responseSpoolConfiguration.directory();
+        var responseSpool = new ResponseSpool(responseSpoolConfiguration.spillThresholdBytes(), responseSpoolConfiguration.maxInFlightBytes(),
+                spillDirectory == null || spillDirectory.isBlank() ? null : Path.of(spillDirectory));
+        crawlerMetrics.registerGauge("response.inflight.bytes", responseSpool::getInFlightBytes);
+        crawlerMetrics.registerGauge("response.waiting", responseSpool::getWaiting);
+        crawlerMetrics.registerGauge("response.spilled", responseSpool::getSpilledResponses);
+        var adapter = DspCatalogRequestAction.Builder.newInstance()
+                .dispatcherRegistry(dispatcherRegistry)
+                .participantContextSupplier(participantContextSupplier)
+                .monitor(context.getMonitor())
+                .objectMapper(mapper)
+                .transformerRegistry(dspTransformerRegistry)
+                .jsonLdService(jsonLdService)
+                .metrics(crawlerMetrics)
+                .prefetchWindow(prefetchWindow)
+                .expansionCache(expansionCache)
+                .pageCache(pageCache)
+                .pageSizer(pageSizer)
+                .responseSpool(responseSpool)
+                .maxSubCatalogConcurrency(subCatalogConcurrency)
+                .maxSubCatalogDepth(subCatalogDepth)
+                .requestTimeout(Duration.ofSeconds(requestTimeoutSeconds))
+                .build();
         crawlerActionRegistry.register(DATASPACE_PROTOCOL_HTTP_V_2025_1, adapter);
     }
 
@@ -105,4 +183,65 @@ public class FederatedCatalogCacheExtension implements ServiceExtension {
         transformerRegistry.register(new JsonValueToGenericTypeTransformer(typeManager, JSON_LD));
     }
 
+    @Settings
+    record PageSizeConfiguration(
+            @Setting(
+                    description = "The page size with which the catalog of a target node is requested first",
+                    key = "edc.catalog.cache.fetch.page.size.initial",
+                    defaultValue = "100")
+            int initial,
+
+            @Setting(
+                    description = "The smallest page size to which the page size of a target node is reduced",
+                    key = "edc.catalog.cache.fetch.page.size.min",
+                    defaultValue = "10")
+            int min,
+
+            @Setting(
+                    description = "The largest page size to which the page size of a target node is increased. Only raise it for " +
+                            "dataspaces whose connectors do not limit the page size they return",
+                    key = "edc.catalog.cache.fetch.page.size.max",
+                    defaultValue = "100")
+            int max,
+
+            @Setting(
+                    description = "Pages that take longer than this, in milliseconds, reduce the page size of their target node",
+                    key = "edc.catalog.cache.fetch.page.target.latency.millis",
+                    defaultValue = "5000")
+            long targetLatencyMillis,
+
+            @Setting(
+                    description = "Pages that are larger than this, in bytes, reduce the page size of their target node",
+                    key = "edc.catalog.cache.fetch.page.target.bytes",
+                    defaultValue = "10485760")
+            long targetBytes
+    ) {
+    }
+
+    @Settings
+    record ResponseSpoolConfiguration(
+            @Setting(
+                    description = "Catalog responses larger than this, in bytes, are written to a temporary file and read from there. " +
+                            "0 keeps all responses in memory",
+                    key = "edc.catalog.cache.fetch.spill.threshold.bytes",
+                    defaultValue = "0")
+            long spillThresholdBytes,
+
+            @Setting(
+                    description = "The number of bytes of catalog responses that all crawlers may reserve at the same time. A page is " +
+                            "only requested once the largest response its endpoint sent so far, or the whole budget for an endpoint that " +
+                            "was not seen yet, fits into it. A response that is larger than any before it from its endpoint is still read " +
+                            "in full and may exceed the budget, but no further page is requested until enough memory was returned. " +
+                            "Only the raw responses are bounded, not the catalogs that are built from them. 0 disables the limit",
+                    key = "edc.catalog.cache.fetch.inflight.max.bytes",
+                    defaultValue = "0")
+            long maxInFlightBytes,
+
+            @Setting(
+                    description = "The directory of the temporary files of large catalog responses. Defaults to the temporary directory of the JVM",
+                    key = "edc.catalog.cache.fetch.spill.directory",
+                    required = false)
+            String directory
+    ) {
+    }
 }
@@ -20,10 +20,14 @@ import jakarta.json.JsonObject;
 import org.eclipse.edc.catalog.spi.model.CatalogUpdateResponse;
 import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
 import org.eclipse.edc.connector.controlplane.catalog.spi.CatalogRequestMessage;
+import org.eclipse.edc.connector.controlplane.catalog.spi.DataService;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
 import org.eclipse.edc.crawler.spi.model.UpdateRequest;
 import org.eclipse.edc.jsonld.TitaniumJsonLd;
 import org.eclipse.edc.participantcontext.single.spi.SingleParticipantContextSupplier;
 import org.eclipse.edc.participantcontext.spi.types.ParticipantContext;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.message.Range;
 import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
 import org.eclipse.edc.spi.response.StatusResult;
 import org.eclipse.edc.spi.result.ServiceResult;
@@ -32,15 +36,31 @@ import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.IntStream;
+
 import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.failedFuture;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.catalog.TestUtil.buildCatalog;
 import static org.eclipse.edc.catalog.TestUtil.createCatalog;
+import static org.eclipse.edc.catalog.TestUtil.createDataset;
 import static org.eclipse.edc.catalog.TestUtil.registerTransformers;
 import static org.eclipse.edc.jsonld.util.JacksonJsonLd.createObjectMapper;
 import static org.eclipse.edc.protocol.dsp.spi.type.Dsp2025Constants.DATASPACE_PROTOCOL_HTTP_V_2025_1;
+import static org.mockito.ArgumentCaptor.forClass;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class DspCatalogRequestActionTest {
@@ -125,6 +145,225 @@ class DspCatalogRequestActionTest {
         }, "Contains root catalog datasets plus nested catalog datasets");
     }
 
+    @Test
+    void apply_shouldFingerprintContent() {
+        var request = new UpdateRequest("test-node-id", "https://example.com/test-node-id", DATASPACE_PROTOCOL_HTTP_V_2025_1);
+
+        var catalog = toBytes(createCatalog("test-catalog-id"));
+        when(dispatcherRegistry.dispatch(any(), eq(byte[].class), any(CatalogRequestMessage.class)))
+                .thenReturn(completedFuture(catalog))
+                .thenReturn(completedFuture(catalog))
+                .thenReturn(completedFuture(toBytes(createCatalog("changed-catalog-id"))));
+
+        var first = action.apply(request).join().getContentHash();
+        var unchanged = action.apply(request).join().getContentHash();
+        var changed = action.apply(request).join().getContentHash();
+
+        assertThat(first).isNotNull().isEqualTo(unchanged).isNotEqualTo(changed);
+    }
+
+    @Test
+    void apply_shouldAdaptPageSizePerNode() {
+        var request = new UpdateRequest("test-node-id", "https://example.com/test-node-id", DATASPACE_PROTOCOL_HTTP_V_2025_1);
+        var adaptiveAction = actionBuilder()
+                .pageSizer(new AdaptivePageSizer(2, 1, 8, Duration.ofMinutes(1), Long.MAX_VALUE))
+                .build();
+        when(dispatcherRegistry.dispatch(any(), eq(byte[].class), any(CatalogRequestMessage.class))).thenAnswer(invocation -> {
+            CatalogRequestMessage message = invocation.getArgument(2);
+            var range = message.getQuerySpec().getRange();
+            return completedFuture(toBytes(createCatalog(range.getFrom() == 0 ? range.getTo() : 0)));
+        });
+
+        adaptiveAction.apply(request).join();
+        adaptiveAction.apply(request).join();
+
+        var captor = forClass(CatalogRequestMessage.class);
+        verify(dispatcherRegistry, times(4)).dispatch(any(), eq(byte[].class), captor.capture());
+        assertThat(captor.getAllValues()).extracting(message -> message.getQuerySpec().getRange())
+                .usingRecursiveFieldByFieldElementComparator()
+                .containsExactly(new Range(0, 2), new Range(2, 4), new Range(0, 4), new Range(4, 8));
+    }
+
+    @Test
+    void apply_shouldFetchSubCatalogsConcurrently() {
+        var request = new UpdateRequest("test-node-id", "https://example.com/test-node-id", DATASPACE_PROTOCOL_HTTP_V_2025_1);
+        var rootCatalog = createCatalog("root-catalog-id");
+        rootCatalog.getDatasets().clear();
+        var nestedCatalogs = IntStream.range(0, 3)
+                .mapToObj(i -> subCatalog("nested-catalog-" + i, "https://example.com/nested-" + i, createDataset("dataset-" + i)))
+                .toList();
+        rootCatalog.getDatasets().addAll(nestedCatalogs);
+        var pending = new ArrayList<CompletableFuture<StatusResult<byte[]>>>();
+        when(dispatcherRegistry.dispatch(any(), eq(byte[].class), any(CatalogRequestMessage.class)))
+                .thenReturn(completedFuture(toBytes(rootCatalog)))
+                .thenAnswer(invocation -> {
+                    var future = new CompletableFuture<StatusResult<byte[]>>();
+                    pending.add(future);
+                    return future;
+                });
+        var concurrentAction = actionBuilder().maxSubCatalogConcurrency(2).build();
+
+        var result = concurrentAction.apply(request);
+
+        assertThat(result).isNotDone();
+        assertThat(pending).hasSize(2);
+
+        pending.get(1).complete(toBytes(nestedCatalogs.get(1)));
+        assertThat(pending).hasSize(3);
+
+        pending.get(2).complete(toBytes(nestedCatalogs.get(2)));
+        pending.get(0).complete(toBytes(nestedCatalogs.get(0)));
+
+        assertThat(result).isCompleted();
+        var catalog = ((CatalogUpdateResponse) result.join()).getCatalog();
+        assertThat(catalog.getDatasets()).extracting(Dataset::getId)
+                .containsExactly("nested-catalog-0", "nested-catalog-1", "nested-catalog-2");
+    }
+
+    @Test
+    void apply_subCatalogFails_shouldFail() {
+        var request = new UpdateRequest("test-node-id", "https://example.com/test-node-id", DATASPACE_PROTOCOL_HTTP_V_2025_1);
+        var rootCatalog = createCatalog("root-catalog-id");
+        rootCatalog.getDatasets().add(createCatalog("nested-catalog-id"));
+        when(dispatcherRegistry.dispatch(any(), eq(byte[].class), any(CatalogRequestMessage.class)))
+                .thenReturn(completedFuture(toBytes(rootCatalog)))
+                .thenReturn(failedFuture(new EdcException("unreachable")));
+
+        assertThat(action.apply(request)).isCompletedExceptionally();
+    }
+
+    @Test
+    void apply_maxDepthReached_shouldKeepSubCatalogsUnexpanded() {
+        var request = new UpdateRequest("test-node-id", "https://example.com/test-node-id", DATASPACE_PROTOCOL_HTTP_V_2025_1);
+        var rootCatalog = createCatalog("root-catalog-id");
+        rootCatalog.getDatasets().add(createCatalog("nested-catalog-id"));
+        when(dispatcherRegistry.dispatch(any(), eq(byte[].class), any(CatalogRequestMessage.class)))
+                .thenReturn(completedFuture(toBytes(rootCatalog)));
+        var shallowAction = actionBuilder().maxSubCatalogDepth(0).build();
+
+        var catalog = ((CatalogUpdateResponse) shallowAction.apply(request).join()).getCatalog();
+
+        verify(dispatcherRegistry, times(1)).dispatch(any(), eq(byte[].class), any(CatalogRequestMessage.class));
+        assertThat(catalog.getDatasets()).extracting(Dataset::getId).containsExactly("root-catalog-id-dataset", "nested-catalog-id");
+        assertThat(catalog.getDatasets().get(1)).isInstanceOf(Catalog.class);
+    }
+
+    @Test
+    void apply_sameGeneration_shouldFetchSharedSubCatalogOnceWhileInFlight() {
+        var sharedCatalog = subCatalog("shared-catalog-id", "https://example.com/shared", createDataset("shared-dataset"));
+        var sharedResponse = new CompletableFuture<StatusResult<byte[]>>();
+        stubSharedCatalog(sharedCatalog, sharedResponse);
+
+        var first = action.apply(new UpdateRequest("node-1", "https://example.com/node-1", DATASPACE_PROTOCOL_HTTP_V_2025_1, 1));
+        var second = action.apply(new UpdateRequest("node-2", "https://example.com/node-2", DATASPACE_PROTOCOL_HTTP_V_2025_1, 1));
+        sharedResponse.complete(toBytes(sharedCatalog));
+
+        verify(dispatcherRegistry, times(3)).dispatch(any(), eq(byte[].class), any(CatalogRequestMessage.class));
+        assertThat(((CatalogUpdateResponse) first.join()).getCatalog().getDatasets()).extracting(Dataset::getId).containsExactly("shared-catalog-id");
+        assertThat(((CatalogUpdateResponse) second.join()).getCatalog().getDatasets()).extracting(Dataset::getId)
+                .containsExactly("shared-catalog-id", "shared-catalog-id");
+    }
+
+    @Test
+    void apply_sharedSubCatalogCompleted_shouldNotBeRemembered() {
+        var sharedCatalog = subCatalog("shared-catalog-id", "https://example.com/shared", createDataset("shared-dataset"));
+        stubSharedCatalog(sharedCatalog, completedFuture(toBytes(sharedCatalog)));
+
+        action.apply(new UpdateRequest("node-1", "https://example.com/node-1", DATASPACE_PROTOCOL_HTTP_V_2025_1, 1)).join();
+        action.apply(new UpdateRequest("node-1", "https://example.com/node-1", DATASPACE_PROTOCOL_HTTP_V_2025_1, 1)).join();
+
+        verify(dispatcherRegistry, times(4)).dispatch(any(), eq(byte[].class), any(CatalogRequestMessage.class));
+    }
+
+    @Test
+    void apply_sharedSubCatalog_oneCrawlTimesOut_shouldKeepFetchingForOtherCrawl() {
+        var sharedCatalog = subCatalog("shared-catalog-id", "https://example.com/shared", createDataset("shared-dataset"));
+        var sharedResponse = new CompletableFuture<StatusResult<byte[]>>();
+        stubSharedCatalog(sharedCatalog, sharedResponse);
+
+        var first = action.apply(new UpdateRequest("node-1", "https://example.com/node-1", DATASPACE_PROTOCOL_HTTP_V_2025_1, 1))
+                .orTimeout(10, TimeUnit.MILLISECONDS);
+        var second = action.apply(new UpdateRequest("node-2", "https://example.com/node-2", DATASPACE_PROTOCOL_HTTP_V_2025_1, 1));
+
+        assertThat(first).failsWithin(Duration.ofSeconds(5)).withThrowableOfType(ExecutionException.class).withCauseInstanceOf(TimeoutException.class);
+        assertThat(sharedResponse).isNotCancelled();
+        assertThat(second).isNotDone();
+
+        sharedResponse.complete(toBytes(sharedCatalog));
+
+        assertThat(second).succeedsWithin(Duration.ofSeconds(5)).satisfies(response ->
+                assertThat(((CatalogUpdateResponse) response).getCatalog().getDatasets()).extracting(Dataset::getId)
+                        .containsExactly("shared-catalog-id", "shared-catalog-id"));
+        verify(dispatcherRegistry, times(3)).dispatch(any(), eq(byte[].class), any(CatalogRequestMessage.class));
+    }
+
+    @Test
+    void apply_sharedSubCatalog_allCrawlsCancelled_shouldCancelFetch() {
+        var sharedCatalog = subCatalog("shared-catalog-id", "https://example.com/shared", createDataset("shared-dataset"));
+        var sharedResponse = new CompletableFuture<StatusResult<byte[]>>();
+        stubSharedCatalog(sharedCatalog, sharedResponse);
+
+        var first = action.apply(new UpdateRequest("node-1", "https://example.com/node-1", DATASPACE_PROTOCOL_HTTP_V_2025_1, 1));
+        var second = action.apply(new UpdateRequest("node-2", "https://example.com/node-2", DATASPACE_PROTOCOL_HTTP_V_2025_1, 1));
+        first.cancel(true);
+
+        assertThat(sharedResponse).isNotCancelled();
+
+        second.cancel(true);
+
+        assertThat(sharedResponse).isCancelled();
+    }
+
+    @Test
+    void apply_cyclicSubCatalog_shouldCutCycle() {
+        var request = new UpdateRequest("test-node-id", "https://example.com/test-node-id", DATASPACE_PROTOCOL_HTTP_V_2025_1);
+        var cyclicCatalog = subCatalog("cyclic-catalog-id", "https://example.com/cyclic");
+        cyclicCatalog.getDatasets().add(subCatalog("cyclic-catalog-id", "https://example.com/cyclic"));
+        var rootCatalog = subCatalog("root-catalog-id", "https://example.com/test-node-id", cyclicCatalog);
+        when(dispatcherRegistry.dispatch(any(), eq(byte[].class), any(CatalogRequestMessage.class)))
+                .thenReturn(completedFuture(toBytes(rootCatalog)))
+                .thenReturn(completedFuture(toBytes(cyclicCatalog)));
+
+        var catalog = ((CatalogUpdateResponse) action.apply(request).join()).getCatalog();
+
+        verify(dispatcherRegistry, times(2)).dispatch(any(), eq(byte[].class), any(CatalogRequestMessage.class));
+        assertThat(catalog.getDatasets()).singleElement().isInstanceOfSatisfying(Catalog.class, nested ->
+                assertThat(nested.getDatasets()).singleElement().isInstanceOf(Catalog.class).extracting(Dataset::getId).isEqualTo("cyclic-catalog-id"));
+    }
+
+    /**
+     * Stubs node-1, which links to the shared catalog once, and node-2, which links to it twice.
+     */
+    private void stubSharedCatalog(Catalog sharedCatalog, CompletableFuture<StatusResult<byte[]>> sharedResponse) {
+        var catalogs = Map.of(
+                "https://example.com/node-1", subCatalog("node-1-catalog-id", "https://example.com/node-1", sharedCatalog),
+                "https://example.com/node-2", subCatalog("node-2-catalog-id", "https://example.com/node-2", sharedCatalog, sharedCatalog));
+        when(dispatcherRegistry.dispatch(any(), eq(byte[].class), any(CatalogRequestMessage.class))).thenAnswer(invocation -> {
+            CatalogRequestMessage message = invocation.getArgument(2);
+            if ("https://example.com/shared".equals(message.getCounterPartyAddress())) {
+                return sharedResponse;
+            }
+            return completedFuture(toBytes(catalogs.get(message.getCounterPartyAddress())));
+        });
+    }
+
+    private Catalog subCatalog(String id, String endpointUrl, Dataset... datasets) {
+        return buildCatalog(id)
+                .dataServices(List.of(DataService.Builder.newInstance().endpointUrl(endpointUrl).build()))
+                .datasets(new ArrayList<>(List.of(datasets)))
+                .build();
+    }
+
+    private DspCatalogRequestAction.Builder actionBuilder() {
+        return DspCatalogRequestAction.Builder.newInstance()
+                .dispatcherRegistry(dispatcherRegistry)
+                .participantContextSupplier(participantContextSupplier)
+                .monitor(mock())
+                .objectMapper(objectMapper)
+                .transformerRegistry(typeTransformerRegistry)
+                .jsonLdService(jsonLdService);
+    }
+
     private StatusResult<byte[]> toBytes(Catalog catalog) {
         try {
             var jo = typeTransformerRegistry.transform(catalog, JsonObject.class).getContent();
@@ -17,9 +17,15 @@ package org.eclipse.edc.catalog.query;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.json.JsonObject;
+import org.eclipse.edc.catalog.cache.query.CatalogPageCache;
+import org.eclipse.edc.catalog.cache.query.JsonLdExpansionCache;
 import org.eclipse.edc.catalog.cache.query.PagingCatalogFetcher;
+import org.eclipse.edc.catalog.cache.query.ResponseSpool;
 import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
 import org.eclipse.edc.connector.controlplane.catalog.spi.CatalogRequestMessage;
+import org.eclipse.edc.connector.controlplane.catalog.spi.DataService;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
+import org.eclipse.edc.crawler.spi.CrawlerMetrics;
 import org.eclipse.edc.jsonld.TitaniumJsonLd;
 import org.eclipse.edc.junit.annotations.ComponentTest;
 import org.eclipse.edc.participantcontext.single.spi.SingleParticipantContextSupplier;
@@ -32,11 +38,22 @@ import org.eclipse.edc.transform.TypeTransformerRegistryImpl;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.IntStream;
 
 import static java.util.Collections.emptyList;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.catalog.TestUtil.createCatalog;
+import static org.eclipse.edc.catalog.TestUtil.createDataset;
 import static org.eclipse.edc.catalog.TestUtil.registerTransformers;
 import static org.eclipse.edc.jsonld.util.JacksonJsonLd.createObjectMapper;
 import static org.eclipse.edc.protocol.dsp.spi.type.Dsp2025Constants.DATASPACE_PROTOCOL_HTTP_V_2025_1;
@@ -44,6 +61,7 @@ import static org.mockito.ArgumentCaptor.forClass;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -94,6 +112,228 @@ class PagingCatalogFetcherTest {
                 .containsExactly(new Range(0, 5), new Range(5, 10), new Range(10, 15));
     }
 
+    @Test
+    void fetchAll_withPrefetchWindow_shouldKeepWindowInFlight() throws JsonProcessingException {
+        var prefetchingFetcher = prefetchingFetcher(3);
+        when(dispatcherRegistryMock.dispatch(any(), eq(byte[].class), any(CatalogRequestMessage.class)))
+                .thenReturn(completedFuture(toBytes(createCatalog(5))))
+                .thenReturn(completedFuture(toBytes(createCatalog(5))))
+                .thenReturn(completedFuture(toBytes(createCatalog(3))))
+                .thenReturn(completedFuture(toBytes(emptyCatalog())));
+
+        var catalog = prefetchingFetcher.fetch(createRequest(), 0, 5);
+
+        assertThat(catalog).isCompletedWithValueMatching(c -> c.getDatasets().size() == 13);
+        var captor = forClass(CatalogRequestMessage.class);
+        verify(dispatcherRegistryMock, times(5)).dispatch(any(), eq(byte[].class), captor.capture());
+        assertThat(captor.getAllValues())
+                .extracting(l -> l.getQuerySpec().getRange())
+                .usingRecursiveFieldByFieldElementComparator()
+                .containsExactly(new Range(0, 5), new Range(5, 10), new Range(10, 15), new Range(15, 20), new Range(20, 25));
+    }
+
+    @Test
+    void fetchAll_withPrefetchWindow_shouldAssemblePagesInOrder() throws JsonProcessingException {
+        var prefetchingFetcher = prefetchingFetcher(3);
+        var page0 = new CompletableFuture<StatusResult<byte[]>>();
+        var page1 = new CompletableFuture<StatusResult<byte[]>>();
+        var page2 = new CompletableFuture<StatusResult<byte[]>>();
+        when(dispatcherRegistryMock.dispatch(any(), eq(byte[].class), any(CatalogRequestMessage.class)))
+                .thenReturn(page0)
+                .thenReturn(page1)
+                .thenReturn(page2)
+                .thenReturn(completedFuture(toBytes(emptyCatalog())));
+
+        var catalog = prefetchingFetcher.fetch(createRequest(), 0, 2);
+        page2.complete(toBytes(pageCatalog("page2", 1)));
+        page1.complete(toBytes(pageCatalog("page1", 2)));
+        assertThat(catalog).isNotDone();
+        page0.complete(toBytes(pageCatalog("page0", 2)));
+
+        assertThat(catalog).isCompleted();
+        assertThat(catalog.join().getDatasets()).extracting(Dataset::getId)
+                .containsExactly("page0-0", "page0-1", "page1-0", "page1-1", "page2-0");
+    }
+
+    @Test
+    void fetchAll_manyPages_shouldAssembleAllPages() throws JsonProcessingException {
+        var pageCount = 1_000;
+        var page = toBytes(createCatalog(1));
+        var lastPage = toBytes(emptyCatalog());
+        when(dispatcherRegistryMock.dispatch(any(), eq(byte[].class), any(CatalogRequestMessage.class))).thenAnswer(invocation -> {
+            CatalogRequestMessage request = invocation.getArgument(2);
+            return completedFuture(request.getQuerySpec().getRange().getFrom() < pageCount ? page : lastPage);
+        });
+
+        var catalog = fetcher.fetch(createRequest(), 0, 1);
+
+        assertThat(catalog).isCompletedWithValueMatching(c -> c.getDatasets().size() == pageCount);
+        verify(dispatcherRegistryMock, times(pageCount + 1)).dispatch(any(), eq(byte[].class), any(CatalogRequestMessage.class));
+    }
+
+    @Test
+    void fetchAll_unchangedPages_shouldReuseCachedPages() throws JsonProcessingException {
+        var pageCache = new CatalogPageCache(10);
+        var cachingFetcher = new PagingCatalogFetcher(dispatcherRegistryMock, participantContextSupplier, mock(), objectMapper, typeTransformerRegistry,
+                jsonLdService, CrawlerMetrics.NOOP, 1, new JsonLdExpansionCache(jsonLdService, 0), pageCache);
+        var page = toBytes(createCatalog(5));
+        var lastPage = toBytes(createCatalog(3));
+        when(dispatcherRegistryMock.dispatch(any(), eq(byte[].class), any(CatalogRequestMessage.class))).thenAnswer(invocation -> {
+            CatalogRequestMessage request = invocation.getArgument(2);
+            return completedFuture(request.getQuerySpec().getRange().getFrom() < 10 ? page : lastPage);
+        });
+
+        var first = cachingFetcher.fetch(createRequest(), 0, 5).join();
+        var second = cachingFetcher.fetch(createRequest(), 0, 5).join();
+
+        assertThat(pageCache.getMisses()).isEqualTo(2);
+        assertThat(pageCache.getHits()).isEqualTo(4);
+        assertThat(second).usingRecursiveComparison().isEqualTo(first);
+        assertThat(second.getDatasets()).hasSize(13);
+    }
+
+    @Test
+    void fetchAll_largePages_shouldSpillToDisk(@TempDir Path spillDirectory) throws JsonProcessingException {
+        var spool = new ResponseSpool(1, 1024 * 1024, spillDirectory);
+        var spillingFetcher = new PagingCatalogFetcher(dispatcherRegistryMock, participantContextSupplier, mock(), objectMapper, typeTransformerRegistry,
+                jsonLdService, CrawlerMetrics.NOOP, 1, new JsonLdExpansionCache(jsonLdService, 0), new CatalogPageCache(0), spool, Duration.ZERO);
+        when(dispatcherRegistryMock.dispatch(any(), eq(byte[].class), any(CatalogRequestMessage.class)))
+                .thenReturn(completedFuture(toBytes(createCatalog(5))))
+                .thenReturn(completedFuture(toBytes(createCatalog(3))));
+
+        var catalog = spillingFetcher.fetch(createRequest(), 0, 5).join();
+
+        assertThat(catalog.getDatasets()).hasSize(8);
+        assertThat(spool.getSpilledResponses()).isEqualTo(2);
+        assertThat(spool.getInFlightBytes()).isZero();
+        assertThat(spillDirectory).isEmptyDirectory();
+    }
+
+    @Test
+    void fetchAll_requestTimesOut_shouldCancelDispatchAndFail() {
+        var timingOutFetcher = new PagingCatalogFetcher(dispatcherRegistryMock, participantContextSupplier, mock(), objectMapper, typeTransformerRegistry,
+                jsonLdService, CrawlerMetrics.NOOP, 1, new JsonLdExpansionCache(jsonLdService, 0), new CatalogPageCache(0), ResponseSpool.disabled(),
+                Duration.ofMillis(100));
+        var dispatch = new CompletableFuture<StatusResult<byte[]>>();
+        when(dispatcherRegistryMock.dispatch(any(), eq(byte[].class), any(CatalogRequestMessage.class))).thenReturn(dispatch);
+
+        var catalog = timingOutFetcher.fetch(createRequest(), 0, 5);
+
+        assertThat(catalog).failsWithin(Duration.ofSeconds(5))
+                .withThrowableOfType(ExecutionException.class)
+                .withMessageContaining("timed out");
+        assertThat(dispatch).isCancelled();
+    }
+
+    @Test
+    void fetchPages_noResponseMemoryBeforeDeadline_shouldFailWithTimeout() {
+        var spool = new ResponseSpool(0, 1024, null);
+        var held = spool.reserve("test-address").join();
+        var spoolingFetcher = new PagingCatalogFetcher(dispatcherRegistryMock, participantContextSupplier, mock(), objectMapper, typeTransformerRegistry,
+                jsonLdService, CrawlerMetrics.NOOP, 1, new JsonLdExpansionCache(jsonLdService, 0), new CatalogPageCache(0), spool, Duration.ZERO);
+
+        var result = spoolingFetcher.fetchPages(createRequest(), 0, 5, false, null, "test-node", new CompletableFuture<>(),
+                Instant.now().plusMillis(50));
+
+        assertThat(result).failsWithin(Duration.ofSeconds(5))
+                .withThrowableOfType(ExecutionException.class)
+                .withMessageContaining("timed out");
+        assertThat(spool.getWaiting()).isZero();
+        verify(dispatcherRegistryMock, never()).dispatch(any(), eq(byte[].class), any(CatalogRequestMessage.class));
+        spool.release(held);
+    }
+
+    @Test
+    void fetchPages_crawlCancelled_shouldCancelOutstandingPages() throws JsonProcessingException {
+        var prefetchingFetcher = prefetchingFetcher(3);
+        var page1 = new CompletableFuture<StatusResult<byte[]>>();
+        var page2 = new CompletableFuture<StatusResult<byte[]>>();
+        when(dispatcherRegistryMock.dispatch(any(), eq(byte[].class), any(CatalogRequestMessage.class)))
+                .thenReturn(completedFuture(toBytes(createCatalog(5))))
+                .thenReturn(page1)
+                .thenReturn(page2);
+        var crawl = new CompletableFuture<Void>();
+
+        var result = prefetchingFetcher.fetchPages(createRequest(), 0, 5, null, "test-node", crawl);
+        crawl.cancel(true);
+
+        assertThat(result).isCompletedExceptionally();
+        assertThat(page1).isCancelled();
+        assertThat(page2).isCancelled();
+        verify(dispatcherRegistryMock, times(4)).dispatch(any(), eq(byte[].class), any(CatalogRequestMessage.class));
+    }
+
+    @Test
+    void fetchPages_digest_shouldNotDependOnPageSize() throws Exception {
+        var datasets = IntStream.range(0, 13).mapToObj(i -> createDataset("dataset-" + i)).toList();
+        var dataService = DataService.Builder.newInstance().id("data-service").build();
+        serveDatasets(datasets, dataService, Integer.MAX_VALUE);
+
+        var smallPages = MessageDigest.getInstance("SHA-256");
+        var largePages = MessageDigest.getInstance("SHA-256");
+        assertThat(fetcher.fetchPages(createRequest(), 0, 2, smallPages, "test-node")).succeedsWithin(Duration.ofSeconds(5));
+        assertThat(fetcher.fetchPages(createRequest(), 0, 5, largePages, "test-node")).succeedsWithin(Duration.ofSeconds(5));
+
+        assertThat(smallPages.digest()).isEqualTo(largePages.digest());
+    }
+
+    @Test
+    void fetchPages_cappedServer_shouldProbeShortPageAndReportCap() {
+        var prefetchingFetcher = prefetchingFetcher(3);
+        var datasets = IntStream.range(0, 10).mapToObj(i -> createDataset("dataset-" + i)).toList();
+        serveDatasets(datasets, DataService.Builder.newInstance().id("data-service").build(), 3);
+
+        var result = prefetchingFetcher.fetchPages(createRequest(), 0, 5, true, null, "test-node", new CompletableFuture<>(), null);
+
+        assertThat(result).succeedsWithin(Duration.ofSeconds(5)).satisfies(fetchResult -> {
+            assertThat(fetchResult.cappedAt()).isEqualTo(3);
+            assertThat(fetchResult.catalog().getDatasets()).extracting(Dataset::getId)
+                    .containsExactlyElementsOf(datasets.stream().map(Dataset::getId).toList());
+        });
+    }
+
+    @Test
+    void fetchPages_shortLastPage_shouldNotReportCap() {
+        var datasets = IntStream.range(0, 7).mapToObj(i -> createDataset("dataset-" + i)).toList();
+        serveDatasets(datasets, DataService.Builder.newInstance().id("data-service").build(), Integer.MAX_VALUE);
+
+        var result = fetcher.fetchPages(createRequest(), 0, 5, true, null, "test-node", new CompletableFuture<>(), null);
+
+        assertThat(result).succeedsWithin(Duration.ofSeconds(5)).satisfies(fetchResult -> {
+            assertThat(fetchResult.cappedAt()).isZero();
+            assertThat(fetchResult.catalog().getDatasets()).hasSize(7);
+        });
+    }
+
+    private PagingCatalogFetcher prefetchingFetcher(int window) {
+        return new PagingCatalogFetcher(dispatcherRegistryMock, participantContextSupplier, mock(), objectMapper, typeTransformerRegistry,
+                jsonLdService, CrawlerMetrics.NOOP, window, new JsonLdExpansionCache(jsonLdService, 0),
+                new CatalogPageCache(0));
+    }
+
+    private Catalog pageCatalog(String prefix, int datasets) {
+        return Catalog.Builder.newInstance().participantId("test-participant").id("catalog")
+                .datasets(IntStream.range(0, datasets).mapToObj(i -> createDataset(prefix + "-" + i)).toList())
+                .dataServices(List.of(DataService.Builder.newInstance().build()))
+                .build();
+    }
+
+    /**
+     * Serves the requested range of the given datasets, but never more than {@code cap} datasets per page.
+     */
+    private void serveDatasets(List<Dataset> datasets, DataService dataService, int cap) {
+        when(dispatcherRegistryMock.dispatch(any(), eq(byte[].class), any(CatalogRequestMessage.class))).thenAnswer(invocation -> {
+            CatalogRequestMessage request = invocation.getArgument(2);
+            var range = request.getQuerySpec().getRange();
+            var from = Math.min(range.getFrom(), datasets.size());
+            var to = Math.min(datasets.size(), Math.min(range.getTo(), range.getFrom() + cap));
+            var page = Catalog.Builder.newInstance().participantId("test-participant").id("catalog")
+                    .datasets(datasets.subList(from, Math.max(from, to)))
+                    .dataServices(List.of(dataService))
+                    .build();
+            return completedFuture(toBytes(page));
+        });
+    }
 
     private StatusResult<byte[]> toBytes(Catalog catalog) throws JsonProcessingException {
         var jo = typeTransformerRegistry.transform(catalog, JsonObject.class).getContent();
@@ -0,0 +1,149 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.catalog.query;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import org.eclipse.edc.catalog.cache.query.JsonLdExpansionCache;
+import org.eclipse.edc.catalog.cache.query.StreamingCatalogReader;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
+import org.eclipse.edc.jsonld.TitaniumJsonLd;
+import org.eclipse.edc.junit.annotations.ComponentTest;
+import org.eclipse.edc.transform.TypeTransformerRegistryImpl;
+import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eclipse.edc.catalog.TestUtil.createCatalog;
+import static org.eclipse.edc.catalog.TestUtil.registerTransformers;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.CONTEXT;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.ID;
+import static org.eclipse.edc.jsonld.spi.PropertyAndTypeNames.DCAT_CATALOG_ATTRIBUTE;
+import static org.eclipse.edc.jsonld.spi.PropertyAndTypeNames.DCAT_DATASET_ATTRIBUTE;
+import static org.eclipse.edc.jsonld.util.JacksonJsonLd.createObjectMapper;
+import static org.mockito.Mockito.mock;
+
+@ComponentTest
+class StreamingCatalogReaderTest {
+
+    private final ObjectMapper objectMapper = createObjectMapper();
+    private final TitaniumJsonLd jsonLdService = new TitaniumJsonLd(mock());
+    private final TypeTransformerRegistry typeTransformerRegistry = new TypeTransformerRegistryImpl();
+    private final StreamingCatalogReader reader = new StreamingCatalogReader(objectMapper, jsonLdService, typeTransformerRegistry);
+
+    @BeforeEach
+    void setup() {
+        registerTransformers(typeTransformerRegistry);
+    }
+
+    @Test
+    void read_expandedDocument_shouldMatchFullRead() throws IOException {
+        var bytes = objectMapper.writeValueAsBytes(expanded(createCatalog(5)));
+
+        var result = reader.read(bytes);
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(result.getContent().getDatasets()).hasSize(5);
+        assertThat(result.getContent()).usingRecursiveComparison().isEqualTo(reader.readFully(bytes).getContent());
+    }
+
+    @Test
+    void read_datasetTermDefinedInContext_shouldMatchFullRead() throws IOException {
+        var expanded = expanded(createCatalog(3));
+        var document = Json.createObjectBuilder()
+                .add(CONTEXT, Json.createObjectBuilder().add("items", Json.createObjectBuilder().add(ID, DCAT_DATASET_ATTRIBUTE)))
+                .addAll(Json.createObjectBuilder(expanded).remove(DCAT_DATASET_ATTRIBUTE))
+                .add("items", expanded.get(DCAT_DATASET_ATTRIBUTE))
+                .build();
+        var bytes = objectMapper.writeValueAsBytes(document);
+
+        var result = reader.read(bytes);
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(result.getContent().getDatasets()).hasSize(3);
+        assertThat(result.getContent()).usingRecursiveComparison().isEqualTo(reader.readFully(bytes).getContent());
+    }
+
+    @Test
+    void read_contextNotFirst_shouldMatchFullRead() throws IOException {
+        var expanded = expanded(createCatalog(3));
+        var document = Json.createObjectBuilder(expanded)
+                .remove(DCAT_DATASET_ATTRIBUTE)
+                .add(CONTEXT, Json.createObjectBuilder().add("items", Json.createObjectBuilder().add(ID, DCAT_DATASET_ATTRIBUTE)))
+                .add("items", expanded.get(DCAT_DATASET_ATTRIBUTE))
+                .build();
+        var bytes = objectMapper.writeValueAsBytes(document);
+
+        var result = reader.read(bytes);
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(result.getContent().getDatasets()).hasSize(3);
+        assertThat(result.getContent()).usingRecursiveComparison().isEqualTo(reader.readFully(bytes).getContent());
+    }
+
+    @Test
+    void read_nestedCatalogsAndPrefixedDatasets_shouldMatchFullRead() throws IOException {
+        var expanded = expanded(createCatalog(3));
+        var subCatalog = Json.createObjectBuilder(expanded(createCatalog("sub-catalog")))
+                .add(DCAT_CATALOG_ATTRIBUTE, Json.createArrayBuilder().add(expanded(createCatalog("sub-sub-catalog"))))
+                .build();
+        var document = Json.createObjectBuilder()
+                .add(CONTEXT, Json.createObjectBuilder().add("cat", "http://www.w3.org/ns/dcat#"))
+                .addAll(Json.createObjectBuilder(expanded).remove(DCAT_DATASET_ATTRIBUTE))
+                .add(DCAT_CATALOG_ATTRIBUTE, Json.createArrayBuilder().add(subCatalog))
+                .add("cat:dataset", expanded.get(DCAT_DATASET_ATTRIBUTE))
+                .build();
+        var bytes = objectMapper.writeValueAsBytes(document);
+
+        var result = reader.read(bytes);
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(result.getContent().getDatasets()).hasSize(4)
+                .filteredOn(Catalog.class::isInstance).singleElement()
+                .satisfies(catalog -> assertThat(((Catalog) catalog).getDatasets()).anyMatch(Catalog.class::isInstance));
+        assertThat(result.getContent()).usingRecursiveComparison().isEqualTo(reader.readFully(bytes).getContent());
+    }
+
+    @Test
+    void read_withExpansionCache_shouldNotExpandUnchangedDocumentsAgain() throws IOException {
+        var cache = new JsonLdExpansionCache(jsonLdService, 100);
+        var cachingReader = new StreamingCatalogReader(objectMapper, jsonLdService, typeTransformerRegistry, cache);
+        var bytes = objectMapper.writeValueAsBytes(expanded(createCatalog(5)));
+
+        var first = cachingReader.read(bytes);
+        var misses = cache.getMisses();
+        var second = cachingReader.read(bytes);
+
+        assertThat(cache.getMisses()).isEqualTo(misses);
+        assertThat(cache.getHits()).isGreaterThanOrEqualTo(6);
+        assertThat(second.getContent()).usingRecursiveComparison().isEqualTo(first.getContent());
+    }
+
+    @Test
+    void read_invalidJson_shouldThrow() {
+        assertThatThrownBy(() -> reader.read("{\"@context\": {}, \"items\": [".getBytes()))
+                .isInstanceOf(IOException.class);
+    }
+
+    private JsonObject expanded(Catalog catalog) {
+        var jo = typeTransformerRegistry.transform(catalog, JsonObject.class).getContent();
+        return jsonLdService.expand(jo).getContent();
+    }
+}
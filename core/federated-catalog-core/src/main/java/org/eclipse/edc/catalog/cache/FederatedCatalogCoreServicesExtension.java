@@ -14,24 +14,36 @@
 
 package org.eclipse.edc.catalog.cache;
 
+import org.eclipse.edc.catalog.cache.crawler.ConsistentHashNodeFilter;
 import org.eclipse.edc.catalog.spi.CatalogConstants;
 import org.eclipse.edc.catalog.spi.CatalogCrawlerConfiguration;
 import org.eclipse.edc.catalog.spi.FederatedCatalogCache;
 import org.eclipse.edc.catalog.spi.model.CatalogUpdateResponse;
 import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
 import org.eclipse.edc.crawler.spi.CrawlerActionRegistry;
+import org.eclipse.edc.crawler.spi.CrawlerMembership;
+import org.eclipse.edc.crawler.spi.CrawlerMetrics;
 import org.eclipse.edc.crawler.spi.TargetNodeDirectory;
 import org.eclipse.edc.crawler.spi.TargetNodeFilter;
+import org.eclipse.edc.crawler.spi.WorkItemQueue;
 import org.eclipse.edc.crawler.spi.model.ExecutionPlan;
 import org.eclipse.edc.crawler.spi.model.UpdateResponse;
 import org.eclipse.edc.runtime.metamodel.annotation.Configuration;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.runtime.metamodel.annotation.Settings;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.system.health.HealthCheckResult;
 import org.eclipse.edc.spi.system.health.HealthCheckService;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.util.Optional.ofNullable;
 
@@ -40,8 +52,18 @@ public class FederatedCatalogCoreServicesExtension implements ServiceExtension {
 
     public static final String NAME = "Federated Catalog Core";
 
+    /**
+     * Prefix of the per-node weights that scale the staleness of a node when prioritizing work items, e.g.
+     * {@code edc.catalog.cache.priority.weight.<node-id>=2.0}. Nodes without weight have a weight of 1.0.
+     */
+    public static final String PRIORITY_WEIGHT_PREFIX = "edc.catalog.cache.priority.weight";
+
+    private static final Duration WRITE_BEHIND_FLUSH_TIMEOUT = Duration.ofSeconds(30);
+
     @Configuration
     private CatalogCrawlerConfiguration catalogCrawlerConfiguration;
+    @Configuration
+    private WriteBehindConfiguration writeBehindConfiguration;
 
     @Inject(required = false)
     private ExecutionPlan executionPlan;
@@ -55,9 +77,17 @@ public class FederatedCatalogCoreServicesExtension implements ServiceExtension {
     private TargetNodeFilter nodeFilter;
     @Inject(required = false)
     private HealthCheckService healthCheckService;
+    @Inject(required = false)
+    private WorkItemQueue workItemQueue;
+    @Inject(required = false)
+    private CrawlerMembership crawlerMembership;
+    @Inject
+    private CrawlerMetrics crawlerMetrics;
 
+    private final Map<String, String> savedContentHashes = new ConcurrentHashMap<>();
     private Monitor monitor;
     private ExecutionManager executionManager;
+    private WriteBehindCatalogWriter catalogWriter;
 
     @Override
     public void initialize(ServiceExtensionContext context) {
@@ -69,42 +99,148 @@ public class FederatedCatalogCoreServicesExtension implements ServiceExtension {
 
         nodeFilter = ofNullable(nodeFilter).orElse(node -> !node.name().equals(context.getRuntimeId()));
 
+        Runnable preExecutionTask = null;
+        if (crawlerMembership != null) {
+            var partitionFilter = new ConsistentHashNodeFilter(crawlerMembership, catalogCrawlerConfiguration.partitionVirtualNodes(),
+                    Duration.ofSeconds(catalogCrawlerConfiguration.partitionHeartbeatTimeoutSeconds()), monitor.withPrefix("Partitioning"));
+            var filter = nodeFilter;
+            nodeFilter = node -> filter.test(node) && partitionFilter.test(node);
+            preExecutionTask = partitionFilter::refresh;
+        }
+
+        if (writeBehindConfiguration.batchSize() > 1) {
+            catalogWriter = new WriteBehindCatalogWriter(store, writeBehindConfiguration.queueCapacity(), writeBehindConfiguration.batchSize(),
+                    Duration.ofMillis(writeBehindConfiguration.batchDelayMillis()), crawlerMetrics, monitor.withPrefix("WriteBehind"),
+                    catalog -> ofNullable(catalog.getProperties().get(CatalogConstants.PROPERTY_ORIGINATOR))
+                            .ifPresent(source -> savedContentHashes.remove(source.toString())));
+            crawlerMetrics.registerGauge("cache.write.queue.depth", catalogWriter::getQueueSize);
+        }
+
         executionManager = ExecutionManager.Builder.newInstance()
                 .monitor(context.getMonitor().withPrefix("ExecutionManager"))
                 .configuration(catalogCrawlerConfiguration)
-                .preExecutionTask(() -> {
-                    store.deleteExpired();
-                    store.expireAll();
+                .onGenerationCompleted(generation -> {
+                    flushWrites();
+                    store.deleteExpired(generation.getId(), generation.getRetained());
                 })
                 .nodeQueryAdapterRegistry(crawlerActionRegistry)
                 .onSuccess(this::persist)
                 .nodeDirectory(directory)
                 .nodeFilterFunction(nodeFilter)
+                .workItemQueue(workItemQueue)
+                .preExecutionTask(preExecutionTask)
+                .partitioned(crawlerMembership != null)
+                .nodeWeights(readNodeWeights(context))
+                .metrics(crawlerMetrics)
                 .build();
     }
 
     @Override
     public void start() {
+        if (catalogWriter != null) {
+            catalogWriter.start();
+        }
         executionManager.executePlan(executionPlan);
     }
 
     @Override
     public void shutdown() {
         executionManager.shutdownPlan(executionPlan);
+        if (catalogWriter != null) {
+            catalogWriter.stop(WRITE_BEHIND_FLUSH_TIMEOUT);
+        }
+    }
+
+    private Map<String, Double> readNodeWeights(ServiceExtensionContext context) {
+        var weights = new HashMap<String, Double>();
+        context.getConfig(PRIORITY_WEIGHT_PREFIX).getRelativeEntries().forEach((nodeId, value) -> {
+            try {
+                weights.put(nodeId, Double.parseDouble(value));
+            } catch (NumberFormatException e) {
+                monitor.warning("Ignoring invalid priority weight '%s' of node '%s'".formatted(value, nodeId));
+            }
+        });
+        return weights;
+    }
+
+    /**
+     * Waits until the write-behind has saved all catalogs of the generation, so that they are not purged as stale. Catalogs
+     * that are saved after the purge are inserted again, so a timeout only delays them.
+     */
+    private void flushWrites() {
+        if (catalogWriter != null && !catalogWriter.flush(WRITE_BEHIND_FLUSH_TIMEOUT)) {
+            monitor.warning("Write-behind did not save all catalogs within %s, purging stale entries anyway".formatted(WRITE_BEHIND_FLUSH_TIMEOUT));
+        }
     }
 
     /**
-     * inserts a particular {@link Catalog} in the {@link FederatedCatalogCache}
+     * inserts a particular {@link Catalog} in the {@link FederatedCatalogCache}, tagged with the crawl generation that produced it,
+     * or with the current one if the response does not carry its generation.
+     * With write-behind enabled, the catalog is only queued, and saved in a batch later.
+     * <p>
+     * If the content hash of the response is the same as that of the catalog that was last saved for the same source, the
+     * catalog is not saved again, only the generation of the cache entry is refreshed.
      *
      * @param updateResponse The response that contains the catalog
      */
     private void persist(UpdateResponse updateResponse) {
         if (updateResponse instanceof CatalogUpdateResponse catalogUpdateResponse) {
+            var source = updateResponse.getSource();
+            var contentHash = updateResponse.getContentHash();
+            var generation = updateResponse.getGeneration() > 0 ? updateResponse.getGeneration() : executionManager.getCurrentGeneration();
+            if (contentHash != null && contentHash.equals(savedContentHashes.get(source)) && store.touch(source, generation)) {
+                monitor.debug("Catalog of %s did not change, refreshed its cache entry".formatted(source));
+                return;
+            }
+
             var catalog = catalogUpdateResponse.getCatalog();
-            catalog.getProperties().put(CatalogConstants.PROPERTY_ORIGINATOR, updateResponse.getSource());
-            store.save(catalog);
+            catalog.getProperties().put(CatalogConstants.PROPERTY_ORIGINATOR, source);
+            rememberContentHash(source, contentHash);
+            try {
+                if (catalogWriter != null) {
+                    catalogWriter.submit(catalog, generation);
+                } else {
+                    var start = System.nanoTime();
+                    store.save(catalog, generation);
+                    crawlerMetrics.catalogSaved(Duration.ofNanos(System.nanoTime() - start));
+                }
+            } catch (RuntimeException e) {
+                savedContentHashes.remove(source);
+                throw e;
+            }
         } else {
             monitor.warning("Expected a response of type %s but got %s. Will discard".formatted(CatalogUpdateResponse.class, updateResponse.getClass()));
         }
     }
+
+    private void rememberContentHash(String source, @Nullable String contentHash) {
+        if (contentHash == null) {
+            savedContentHashes.remove(source);
+        } else {
+            savedContentHashes.put(source, contentHash);
+        }
+    }
+
+    @Settings
+    record WriteBehindConfiguration(
+            @Setting(
+                    description = "How many catalogs are saved to the cache in one transaction. A value greater than 1 enables the " +
+                            "write-behind queue, so that crawlers do not wait for the cache",
+                    key = "edc.catalog.cache.save.batch.size",
+                    defaultValue = "1")
+            int batchSize,
+
+            @Setting(
+                    description = "How long the write-behind waits for further catalogs before it saves an incomplete batch, in milliseconds",
+                    key = "edc.catalog.cache.save.batch.delay.millis",
+                    defaultValue = "500")
+            long batchDelayMillis,
+
+            @Setting(
+                    description = "How many catalogs may wait in the write-behind queue before the crawlers are blocked",
+                    key = "edc.catalog.cache.save.queue.capacity",
+                    defaultValue = "100")
+            int queueCapacity
+    ) {
+    }
 }
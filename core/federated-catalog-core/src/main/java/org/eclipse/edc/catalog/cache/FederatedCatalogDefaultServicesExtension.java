@@ -15,27 +15,37 @@
 package org.eclipse.edc.catalog.cache;
 
 import org.eclipse.edc.catalog.cache.crawler.CrawlerActionRegistryImpl;
+import org.eclipse.edc.catalog.cache.crawler.InMemoryCrawlerMetrics;
 import org.eclipse.edc.catalog.cache.query.QueryServiceImpl;
 import org.eclipse.edc.catalog.crawler.RecurringExecutionPlan;
 import org.eclipse.edc.catalog.directory.InMemoryNodeDirectory;
 import org.eclipse.edc.catalog.spi.CatalogCrawlerConfiguration;
 import org.eclipse.edc.catalog.spi.FederatedCatalogCache;
 import org.eclipse.edc.catalog.spi.QueryService;
+import org.eclipse.edc.catalog.store.CatalogIndex;
+import org.eclipse.edc.catalog.store.DatasetIndex;
 import org.eclipse.edc.catalog.store.InMemoryFederatedCatalogCache;
 import org.eclipse.edc.crawler.spi.CrawlerActionRegistry;
+import org.eclipse.edc.crawler.spi.CrawlerMetrics;
 import org.eclipse.edc.crawler.spi.TargetNodeDirectory;
 import org.eclipse.edc.crawler.spi.model.ExecutionPlan;
 import org.eclipse.edc.query.CriterionOperatorRegistryImpl;
 import org.eclipse.edc.runtime.metamodel.annotation.Configuration;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.util.concurrency.LockManager;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
+import static java.util.Optional.ofNullable;
+
 /**
  * Provides default service implementations for fallback
  * Omitted {@link org.eclipse.edc.runtime.metamodel.annotation.Extension since there this module already contains {@code FederatedCatalogCacheExtension} }
@@ -47,6 +57,26 @@ public class FederatedCatalogDefaultServicesExtension implements ServiceExtensio
     @Configuration
     private CatalogCrawlerConfiguration catalogCrawlerConfiguration;
 
+    @Setting(description = "Whether the in-memory cache indexes the id, participantId and originator of the cached catalogs, so that " +
+            "queries that filter on them for equality do not scan the whole cache", key = "edc.catalog.cache.index.enabled", defaultValue = "true")
+    private boolean indexEnabled;
+
+    @Setting(description = "Comma-separated list of further property paths of the cached catalogs that the in-memory cache indexes, " +
+            "e.g. 'properties.name'", key = "edc.catalog.cache.index.paths", required = false)
+    private String indexPaths;
+
+    @Setting(description = "Whether the in-memory cache indexes the datasets of the cached catalogs, so that they can be searched by keywords",
+            key = "edc.catalog.cache.search.enabled", defaultValue = "false")
+    private boolean searchEnabled;
+
+    @Setting(description = "Comma-separated list of the dataset properties whose values are searchable, as expanded IRIs. Defaults to the " +
+            "dcterms title, description and identifier and the dcat keywords and themes", key = "edc.catalog.cache.search.properties", required = false)
+    private String searchProperties;
+
+    @Setting(description = "Whether queries on the in-memory cache are evaluated on an immutable snapshot that is published after every batch " +
+            "of writes, without locking and without using the indexes", key = "edc.catalog.cache.snapshot.enabled", defaultValue = "false")
+    private boolean snapshotEnabled;
+
     @Inject
     private FederatedCatalogCache store;
 
@@ -57,7 +87,15 @@ public class FederatedCatalogDefaultServicesExtension implements ServiceExtensio
 
     @Provider(isDefault = true)
     public FederatedCatalogCache defaultCacheStore() {
-        return new InMemoryFederatedCatalogCache(new LockManager(new ReentrantReadWriteLock()), CriterionOperatorRegistryImpl.ofDefaults());
+        var paths = new ArrayList<String>();
+        if (indexEnabled) {
+            paths.addAll(CatalogIndex.DEFAULT_PATHS);
+        }
+        paths.addAll(splitList(indexPaths));
+        var datasetIndex = searchEnabled ?
+                new DatasetIndex(searchProperties == null ? DatasetIndex.DEFAULT_PROPERTIES : splitList(searchProperties)) : null;
+        return new InMemoryFederatedCatalogCache(new LockManager(new ReentrantReadWriteLock()), CriterionOperatorRegistryImpl.ofDefaults(), paths,
+                datasetIndex, snapshotEnabled);
     }
 
     @Provider(isDefault = true)
@@ -75,6 +113,11 @@ public class FederatedCatalogDefaultServicesExtension implements ServiceExtensio
         return new CrawlerActionRegistryImpl();
     }
 
+    @Provider(isDefault = true)
+    public CrawlerMetrics defaultCrawlerMetrics() {
+        return new InMemoryCrawlerMetrics();
+    }
+
     @Provider(isDefault = true)
     public ExecutionPlan createRecurringExecutionPlan(ServiceExtensionContext context) {
         var monitor = context.getMonitor();
@@ -84,4 +127,12 @@ public class FederatedCatalogDefaultServicesExtension implements ServiceExtensio
                 Duration.ofSeconds(catalogCrawlerConfiguration.delaySeconds()),
                 monitor);
     }
+
+    private List<String> splitList(String value) {
+        return ofNullable(value).stream()
+                .flatMap(v -> Arrays.stream(v.split(",")))
+                .map(String::trim)
+                .filter(item -> !item.isEmpty())
+                .toList();
+    }
 }
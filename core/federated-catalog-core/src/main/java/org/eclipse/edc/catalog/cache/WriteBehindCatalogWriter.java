@@ -0,0 +1,239 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.catalog.cache;
+
+import org.eclipse.edc.catalog.spi.FederatedCatalogCache;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
+import org.eclipse.edc.crawler.spi.CrawlerMetrics;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.monitor.Monitor;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static java.lang.String.format;
+
+/**
+ * Decouples the crawlers from the {@link FederatedCatalogCache}. Catalogs are put into a bounded queue, from which a single
+ * writer thread saves them in batches of up to {@code batchSize} catalogs, using one {@link FederatedCatalogCache#saveAll}
+ * per batch. A batch is saved once it is full, {@code maxDelay} after its first catalog was taken from the queue, or when the
+ * writer is stopped.
+ * <p>
+ * If the queue is full, {@link #submit(Catalog, long)} blocks the calling crawler until the writer has caught up, so that
+ * crawling cannot outpace the cache.
+ * <p>
+ * If a batch cannot be saved, its catalogs are saved one by one, so that a single faulty catalog does not discard the whole
+ * batch. Catalogs that still cannot be saved are logged and dropped, they are saved again on the next crawl of their node.
+ */
+public class WriteBehindCatalogWriter {
+
+    private static final long POLL_INTERVAL_MILLIS = 100;
+
+    private final FederatedCatalogCache store;
+    private final BlockingQueue<PendingSave> queue;
+    private final int batchSize;
+    private final Duration maxDelay;
+    private final CrawlerMetrics metrics;
+    private final Monitor monitor;
+    private final Consumer<Catalog> failureListener;
+    private final Object pendingLock = new Object();
+    private long pending;
+    private volatile boolean running;
+    private Thread writer;
+
+    public WriteBehindCatalogWriter(FederatedCatalogCache store, int capacity, int batchSize, Duration maxDelay, CrawlerMetrics metrics, Monitor monitor) {
+        this(store, capacity, batchSize, maxDelay, metrics, monitor, catalog -> {
+        });
+    }
+
+    /**
+     * Creates a writer.
+     *
+     * @param failureListener notified of every catalog that could not be saved
+     */
+    public WriteBehindCatalogWriter(FederatedCatalogCache store, int capacity, int batchSize, Duration maxDelay, CrawlerMetrics metrics, Monitor monitor,
+                                    Consumer<Catalog> failureListener) {
+        this.store = store;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.maxDelay = maxDelay;
+        this.metrics = metrics;
+        this.monitor = monitor;
+        this.failureListener = failureListener;
+    }
+
+    public synchronized void start() {
+        if (writer != null) {
+            return;
+        }
+        running = true;
+        writer = new Thread(this::run, "catalog-write-behind");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Stops accepting catalogs and waits until all queued catalogs were saved, or the timeout has elapsed.
+     */
+    public void stop(Duration timeout) {
+        Thread thread;
+        synchronized (this) {
+            running = false;
+            thread = writer;
+            writer = null;
+        }
+        if (thread != null) {
+            try {
+                thread.join(timeout.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (!queue.isEmpty()) {
+                monitor.warning(format("Write-behind stopped with %d catalogs that were not saved", queue.size()));
+            }
+        }
+    }
+
+    /**
+     * Queues a catalog to be saved. Blocks while the queue is full.
+     *
+     * @param catalog    the catalog
+     * @param generation the id of the crawl generation during which the catalog was obtained
+     * @throws EdcException if the writer is not running, or the calling thread was interrupted while waiting
+     */
+    public void submit(Catalog catalog, long generation) {
+        if (!running) {
+            throw new EdcException("Write-behind is not running, cannot save catalog " + catalog.getId());
+        }
+        synchronized (pendingLock) {
+            pending++;
+        }
+        try {
+            queue.put(new PendingSave(catalog, generation));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            done(1);
+            throw new EdcException("Interrupted while waiting to save catalog " + catalog.getId(), e);
+        }
+    }
+
+    /**
+     * Waits until all catalogs that were submitted so far have been saved, or the timeout has elapsed.
+     *
+     * @return true if all catalogs were saved, false if the timeout has elapsed
+     */
+    public boolean flush(Duration timeout) {
+        var deadline = System.nanoTime() + timeout.toNanos();
+        synchronized (pendingLock) {
+            while (pending > 0) {
+                var remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remaining <= 0) {
+                    return false;
+                }
+                try {
+                    pendingLock.wait(remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Returns the number of catalogs that are waiting to be saved.
+     */
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    private void run() {
+        while (running || !queue.isEmpty()) {
+            try {
+                var first = queue.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    write(collectBatch(first));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private List<PendingSave> collectBatch(PendingSave first) throws InterruptedException {
+        var batch = new ArrayList<PendingSave>(batchSize);
+        batch.add(first);
+        var deadline = System.nanoTime() + maxDelay.toNanos();
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            var remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0 || !running) {
+                break;
+            }
+            var next = queue.poll(Math.min(remaining, TimeUnit.MILLISECONDS.toNanos(POLL_INTERVAL_MILLIS)), TimeUnit.NANOSECONDS);
+            if (next != null) {
+                batch.add(next);
+            }
+        }
+        return batch;
+    }
+
+    private void write(List<PendingSave> batch) {
+        var byGeneration = new LinkedHashMap<Long, List<Catalog>>();
+        batch.forEach(save -> byGeneration.computeIfAbsent(save.generation(), g -> new ArrayList<>()).add(save.catalog()));
+
+        try {
+            byGeneration.forEach((generation, catalogs) -> {
+                var start = System.nanoTime();
+                try {
+                    store.saveAll(catalogs, generation);
+                } catch (Exception e) {
+                    monitor.warning(format("Error saving a batch of %d catalogs, saving them one by one", catalogs.size()), e);
+                    catalogs.forEach(catalog -> saveSingle(catalog, generation));
+                }
+                metrics.catalogSaved(Duration.ofNanos(System.nanoTime() - start));
+            });
+        } finally {
+            done(batch.size());
+        }
+    }
+
+    private void saveSingle(Catalog catalog, long generation) {
+        try {
+            store.save(catalog, generation);
+        } catch (Exception e) {
+            monitor.severe(format("Error saving catalog %s, it will be saved again on the next crawl", catalog.getId()), e);
+            failureListener.accept(catalog);
+        }
+    }
+
+    private void done(int count) {
+        synchronized (pendingLock) {
+            pending -= count;
+            pendingLock.notifyAll();
+        }
+    }
+
+    private record PendingSave(Catalog catalog, long generation) {
+    }
+}
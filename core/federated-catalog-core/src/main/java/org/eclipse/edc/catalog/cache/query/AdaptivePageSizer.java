@@ -0,0 +1,132 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.catalog.cache.query;
+
+import org.eclipse.edc.catalog.cache.query.PagingCatalogFetcher.FetchResult;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Chooses the page size with which the catalog of a target is requested, and adapts it to the observed responses. Every
+ * target starts with the initial page size. After a successful fetch, the page size of the target is
+ * <ul>
+ *     <li>halved, if a page took longer than the target latency or was larger than the target size,</li>
+ *     <li>doubled, if the catalog needed more than one page and every page took at most half the target latency and was at
+ *     most half the target size,</li>
+ *     <li>kept otherwise.</li>
+ * </ul>
+ * After a failed fetch, e.g. a timeout, the page size is halved. The page size always stays between the minimum and the
+ * maximum, a minimum equal to the maximum disables the adaptation.
+ * <p>
+ * A page size above the initial one is only {@link #isVerified(String, int) verified} once a full page of that size was
+ * received from the target. If a fetch reveals that the target caps the page size, the page size is set to the cap and never
+ * grows beyond it again.
+ */
+public class AdaptivePageSizer {
+
+    private final int initial;
+    private final int min;
+    private final int max;
+    private final Duration targetLatency;
+    private final long targetBytes;
+    private final Map<String, Integer> pageSizes = new ConcurrentHashMap<>();
+    private final Map<String, Integer> verifiedSizes = new ConcurrentHashMap<>();
+    private final Map<String, Integer> caps = new ConcurrentHashMap<>();
+
+    public AdaptivePageSizer(int initial, int min, int max, Duration targetLatency, long targetBytes) {
+        this.min = Math.max(1, min);
+        this.max = Math.max(this.min, max);
+        this.initial = Math.min(this.max, Math.max(this.min, initial));
+        this.targetLatency = targetLatency;
+        this.targetBytes = targetBytes;
+    }
+
+    /**
+     * Creates a sizer that always uses the given page size.
+     */
+    public static AdaptivePageSizer fixed(int pageSize) {
+        return new AdaptivePageSizer(pageSize, pageSize, pageSize, Duration.ZERO, 0);
+    }
+
+    /**
+     * Returns the page size with which the catalog of the given target should be requested next.
+     *
+     * @param target the target, e.g. the URL of the catalog endpoint
+     */
+    public int pageSize(String target) {
+        return pageSizes.getOrDefault(target, initial);
+    }
+
+    /**
+     * Returns whether the given target is known to serve pages of the given size in full, i.e. whether a page shorter than that
+     * can be taken as the last one.
+     */
+    public boolean isVerified(String target, int pageSize) {
+        return pageSize <= Math.max(initial, verifiedSizes.getOrDefault(target, 0));
+    }
+
+    /**
+     * Adapts the page size of the given target to a successful fetch.
+     *
+     * @param target   the target
+     * @param pageSize the page size with which the catalog was fetched
+     * @param result   the result of the fetch
+     */
+    public void recordSuccess(String target, int pageSize, FetchResult result) {
+        if (min == max) {
+            return;
+        }
+        if (result.cappedAt() > 0) {
+            caps.put(target, result.cappedAt());
+            verifiedSizes.put(target, result.cappedAt());
+            update(target, result.cappedAt());
+            return;
+        }
+        if (result.pages() > 1) {
+            verifiedSizes.merge(target, pageSize, Math::max);
+        }
+        var oversized = result.maxPageLatency().compareTo(targetLatency) > 0 || result.maxPageBytes() > targetBytes;
+        if (oversized) {
+            update(target, pageSize / 2);
+        } else if (result.pages() > 1 && result.maxPageLatency().multipliedBy(2).compareTo(targetLatency) <= 0 &&
+                result.maxPageBytes() * 2 <= targetBytes) {
+            update(target, pageSize * 2);
+        }
+    }
+
+    /**
+     * Adapts the page size of the given target to a failed fetch.
+     *
+     * @param target   the target
+     * @param pageSize the page size with which the catalog was fetched
+     */
+    public void recordFailure(String target, int pageSize) {
+        if (min == max) {
+            return;
+        }
+        update(target, pageSize / 2);
+    }
+
+    private void update(String target, int pageSize) {
+        var bounded = Math.min(caps.getOrDefault(target, max), Math.min(max, Math.max(min, pageSize)));
+        if (bounded == initial) {
+            pageSizes.remove(target);
+        } else {
+            pageSizes.put(target, bounded);
+        }
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.catalog.cache.query;
+
+import org.eclipse.edc.catalog.spi.model.CatalogUpdateResponse;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * Remembers the catalogs that are being fetched during one crawl run, keyed by endpoint URL and participant id, so that a
+ * catalog that is linked from several catalogs while it is in flight is fetched only once and shared. Only fetches in flight
+ * are remembered: an entry is removed as soon as its fetch completes, so the memo never holds on to fetched catalogs.
+ * <p>
+ * A shared fetch does not run on the crawl of any one of its waiters, but in a scope of its own, which is passed to the fetch
+ * function. Every waiter registers a future, once that completes, e.g. because the crawl of the waiter was cancelled or
+ * timed out, the waiter has gone. The scope is cancelled only when every waiter has gone, and it completes when the fetch does.
+ * <p>
+ * The memo also tracks which catalogs are waiting for which sub-catalogs. A catalog that would have to wait for itself, directly
+ * or through other catalogs, is a cycle, which is cut instead of being waited for forever.
+ */
+public class CatalogFetchMemo {
+
+    private final Map<Key, Entry> entries = new HashMap<>();
+
+    /**
+     * Returns the catalog with the given key. If it is not being fetched yet, it is fetched with the given function, otherwise
+     * the fetch in flight is joined.
+     *
+     * @param parent the key of the catalog that links to the requested one, or null if it is the catalog of a target node
+     * @param key    the key of the requested catalog
+     * @param waiter completes once the caller no longer needs the requested catalog
+     * @param fetch  fetches the requested catalog within the given scope, which completes exceptionally once the fetch should be
+     *               cancelled
+     * @return the requested catalog, or null if waiting for it from the parent would be a cycle
+     */
+    @Nullable
+    public CompletableFuture<CatalogUpdateResponse> fetch(@Nullable Key parent, Key key, CompletableFuture<?> waiter,
+                                                          Function<CompletableFuture<Void>, CompletableFuture<CatalogUpdateResponse>> fetch) {
+        Entry entry;
+        boolean created;
+        synchronized (this) {
+            if (parent != null && reaches(key, parent)) {
+                return null;
+            }
+            var existing = entries.get(key);
+            created = existing == null;
+            entry = created ? new Entry() : existing;
+            if (created) {
+                entries.put(key, entry);
+            }
+            entry.waiters++;
+            awaitFrom(parent, key, entry);
+        }
+        var result = entry.future.copy();
+        waiter.whenComplete((response, throwable) -> leave(key, entry));
+        if (!created || entry.future.isDone()) {
+            return result;
+        }
+
+        CompletableFuture<CatalogUpdateResponse> future;
+        try {
+            future = fetch.apply(entry.scope);
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        future.whenComplete((response, throwable) -> {
+            if (throwable != null) {
+                complete(key, entry, null, throwable instanceof CompletionException ? throwable.getCause() : throwable);
+            } else {
+                complete(key, entry, response, null);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * The number of distinct catalogs that are being fetched.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Removes a waiter from the given entry, and cancels the fetch once no waiter is left.
+     */
+    private void leave(Key key, Entry entry) {
+        synchronized (this) {
+            if (--entry.waiters > 0 || entry.future.isDone()) {
+                return;
+            }
+            // no longer joinable, so that no new waiter gets the cancelled fetch
+            if (entries.get(key) == entry) {
+                entries.remove(key);
+            }
+        }
+        complete(key, entry, null, new CancellationException("The fetch of catalog %s has no waiters left".formatted(key.endpointUrl())));
+    }
+
+    private void complete(Key key, Entry entry, @Nullable CatalogUpdateResponse response, @Nullable Throwable throwable) {
+        synchronized (this) {
+            entry.waitsFor.clear();
+            if (entries.get(key) == entry) {
+                entries.remove(key);
+            }
+        }
+        if (throwable != null) {
+            entry.future.completeExceptionally(throwable);
+            entry.scope.completeExceptionally(throwable);
+        } else {
+            entry.future.complete(response);
+            entry.scope.complete(null);
+        }
+    }
+
+    private void awaitFrom(@Nullable Key parent, Key key, Entry entry) {
+        if (parent == null || entry.future.isDone()) {
+            return;
+        }
+        var parentEntry = entries.get(parent);
+        if (parentEntry == null) {
+            return;
+        }
+        parentEntry.waitsFor.add(key);
+        entry.future.whenComplete((response, throwable) -> {
+            synchronized (this) {
+                parentEntry.waitsFor.remove(key);
+            }
+        });
+    }
+
+    private boolean reaches(Key from, Key to) {
+        var visited = new HashSet<Key>();
+        var pending = new ArrayDeque<Key>();
+        pending.push(from);
+        while (!pending.isEmpty()) {
+            var current = pending.pop();
+            if (current.equals(to)) {
+                return true;
+            }
+            var entry = entries.get(current);
+            if (visited.add(current) && entry != null) {
+                pending.addAll(entry.waitsFor);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Identifies a catalog within a crawl run.
+     */
+    public record Key(String endpointUrl, @Nullable String participantId) {
+    }
+
+    private static class Entry {
+        private final CompletableFuture<CatalogUpdateResponse> future = new CompletableFuture<>();
+        private final CompletableFuture<Void> scope = new CompletableFuture<>();
+        private final Set<Key> waitsFor = new HashSet<>();
+        private int waiters;
+    }
+}
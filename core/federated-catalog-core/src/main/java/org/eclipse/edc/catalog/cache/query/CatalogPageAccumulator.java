@@ -0,0 +1,74 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.catalog.cache.query;
+
+import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
+import org.eclipse.edc.connector.controlplane.catalog.spi.DataService;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Distribution;
+import org.eclipse.edc.federatedcatalog.util.FederatedCatalogUtil;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Optional.ofNullable;
+
+/**
+ * Assembles the pages of a paged catalog response into one {@link Catalog}. Pages are appended to growing lists, and the
+ * catalog is built only once, so the cost is linear in the number of pages.
+ * <p>
+ * Like {@link FederatedCatalogUtil#merge(Catalog, Catalog)}, id and participant id are taken from the first page, datasets and
+ * data services of all pages are concatenated in order, and properties and distributions are taken from the last page.
+ */
+public class CatalogPageAccumulator {
+
+    private final List<Dataset> datasets = new ArrayList<>();
+    private final List<DataService> dataServices = new ArrayList<>();
+    private Catalog first;
+    private Catalog last;
+
+    /**
+     * Appends the next page.
+     */
+    public void add(Catalog page) {
+        if (first == null) {
+            first = page;
+        }
+        last = page;
+        ofNullable(page.getDatasets()).ifPresent(datasets::addAll);
+        ofNullable(page.getDataServices()).ifPresent(dataServices::addAll);
+    }
+
+    /**
+     * Builds the catalog from all pages that were added.
+     *
+     * @throws IllegalStateException if no page was added
+     */
+    public Catalog build() {
+        if (first == null) {
+            throw new IllegalStateException("Cannot build a catalog without pages");
+        }
+        return Catalog.Builder.newInstance()
+                .id(first.getId())
+                .participantId(first.getParticipantId())
+                .properties(ofNullable(last.getProperties()).<Map<String, Object>>map(HashMap::new).orElseGet(HashMap::new))
+                .dataServices(dataServices)
+                .distributions(ofNullable(last.getDistributions()).<List<Distribution>>map(ArrayList::new).orElseGet(ArrayList::new))
+                .datasets(datasets)
+                .build();
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.catalog.cache.query;
+
+import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Remembers the catalog pages that were read from raw response payloads, keyed by the SHA-256 hash of the payload. A page
+ * whose payload is byte-identical to one that was read before, typically the same page of the same node in the previous crawl,
+ * is then not parsed, expanded and transformed again.
+ * <p>
+ * The cached pages are shared by all catalogs that are assembled from them, so they must not be modified. The cache holds at
+ * most {@code maxEntries} pages and evicts the least recently used one, regardless of their size, so a full cache holds
+ * {@code maxEntries} times the datasets of a page on the heap. A size of 0 disables caching.
+ */
+public class CatalogPageCache {
+
+    private final int maxEntries;
+    private final Map<String, Catalog> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public CatalogPageCache(int maxEntries) {
+        this.maxEntries = Math.max(0, maxEntries);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Catalog> eldest) {
+                return size() > CatalogPageCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Returns the key of a payload with the given SHA-256 hash.
+     */
+    public static String keyOf(byte[] payloadHash) {
+        return HexFormat.of().formatHex(payloadHash);
+    }
+
+    /**
+     * Returns the page that was read from a payload with the given key, or null if there is none or caching is disabled.
+     */
+    public @Nullable Catalog get(String key) {
+        if (maxEntries == 0) {
+            return null;
+        }
+        Catalog page;
+        synchronized (this) {
+            page = entries.get(key);
+        }
+        if (page != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return page;
+    }
+
+    public void put(String key, Catalog page) {
+        if (maxEntries == 0) {
+            return;
+        }
+        synchronized (this) {
+            entries.put(key, page);
+        }
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+}
@@ -21,47 +21,143 @@ import org.eclipse.edc.connector.controlplane.catalog.spi.CatalogRequestMessage;
 import org.eclipse.edc.connector.controlplane.catalog.spi.DataService;
 import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
 import org.eclipse.edc.crawler.spi.CrawlerAction;
+import org.eclipse.edc.crawler.spi.CrawlerMetrics;
 import org.eclipse.edc.crawler.spi.model.UpdateRequest;
 import org.eclipse.edc.crawler.spi.model.UpdateResponse;
 import org.eclipse.edc.jsonld.spi.JsonLd;
 import org.eclipse.edc.participantcontext.single.spi.SingleParticipantContextSupplier;
+import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
+import org.jetbrains.annotations.Nullable;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+import static java.lang.String.format;
 import static java.util.Optional.ofNullable;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.eclipse.edc.federatedcatalog.util.FederatedCatalogUtil.copy;
 
+/**
+ * Fetches the catalog of a target node through the Dataspace Protocol, and recursively the sub-catalogs it links to.
+ * <p>
+ * Sub-catalogs are fetched asynchronously: at most {@code maxSubCatalogConcurrency} sub-catalogs of one catalog are fetched at
+ * the same time, and no crawler thread waits for them. Sub-catalogs deeper than {@code maxSubCatalogDepth} levels below the root
+ * catalog are not fetched, but kept as they were listed by their parent.
+ * <p>
+ * Within one crawl run, a catalog that is being fetched is shared by all catalogs that link to it while it is in flight, see
+ * {@link CatalogFetchMemo}. A sub-catalog that links back to one of the catalogs that are waiting for it is kept as listed as well.
+ * <p>
+ * Once the future returned by {@link #apply(UpdateRequest)} completes, e.g. because it was cancelled or its deadline has passed,
+ * the crawl no longer waits for its catalogs. The outstanding page requests of a catalog are cancelled and no further sub-catalogs
+ * of it are fetched once no crawl waits for it anymore, so a catalog shared with the crawl of another node is not affected.
+ */
 public class DspCatalogRequestAction implements CrawlerAction {
     private static final int INITIAL_OFFSET = 0;
     private static final int BATCH_SIZE = 100;
+    private static final int DEFAULT_SUB_CATALOG_CONCURRENCY = 4;
+    private static final int DEFAULT_SUB_CATALOG_DEPTH = 10;
+
     private final PagingCatalogFetcher fetcher;
+    private final AdaptivePageSizer pageSizer;
+    private final Monitor monitor;
+    private final int maxSubCatalogConcurrency;
+    private final int maxSubCatalogDepth;
+    private CatalogFetchMemo currentMemo = new CatalogFetchMemo();
+    private long currentMemoGeneration;
 
     public DspCatalogRequestAction(RemoteMessageDispatcherRegistry dispatcherRegistry, SingleParticipantContextSupplier participantContextSupplier,
                                    Monitor monitor, ObjectMapper objectMapper, TypeTransformerRegistry transformerRegistry, JsonLd jsonLdService
     ) {
-        fetcher = new PagingCatalogFetcher(dispatcherRegistry, participantContextSupplier, monitor,  objectMapper, transformerRegistry, jsonLdService);
+        this(new PagingCatalogFetcher(dispatcherRegistry, participantContextSupplier, monitor, objectMapper, transformerRegistry, jsonLdService),
+                AdaptivePageSizer.fixed(BATCH_SIZE), monitor, DEFAULT_SUB_CATALOG_CONCURRENCY, DEFAULT_SUB_CATALOG_DEPTH);
     }
 
+    private DspCatalogRequestAction(PagingCatalogFetcher fetcher, AdaptivePageSizer pageSizer, Monitor monitor, int maxSubCatalogConcurrency,
+                                    int maxSubCatalogDepth) {
+        this.fetcher = fetcher;
+        this.pageSizer = pageSizer;
+        this.monitor = monitor;
+        this.maxSubCatalogConcurrency = Math.max(1, maxSubCatalogConcurrency);
+        this.maxSubCatalogDepth = Math.max(0, maxSubCatalogDepth);
+    }
+
+    /**
+     * Fetches the catalog of the given node including all its sub-catalogs. The response carries a SHA-256 hash over the
+     * canonical hashes of all datasets, the canonical hash of the catalog-level fields (participant id, properties,
+     * distributions and data services) and the hashes of all sub-catalogs, so that it does not depend on the page size. The
+     * page size of every catalog endpoint is chosen by the {@link AdaptivePageSizer}.
+     */
     @Override
     public CompletableFuture<UpdateResponse> apply(UpdateRequest request) {
+        var crawl = new Crawl(request.nodeId(), request.deadline(), memoFor(request.generation()), new CompletableFuture<>());
+        var key = keyOf(request);
+        crawl.memo().fetch(null, key, crawl.future(), scope -> fetchCatalog(request, 0, key, crawl, scope)).whenComplete((response, throwable) -> {
+            if (throwable != null) {
+                crawl.future().completeExceptionally(throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable);
+            } else {
+                crawl.future().complete(response);
+            }
+        });
+        return crawl.future();
+    }
+
+    /**
+     * Returns the memo table of the given crawl run. Requests that are not part of a crawl run, or that belong to a run that has
+     * already been superseded, get a table of their own.
+     */
+    private synchronized CatalogFetchMemo memoFor(long generation) {
+        if (generation <= 0 || generation < currentMemoGeneration) {
+            return new CatalogFetchMemo();
+        }
+        if (generation > currentMemoGeneration) {
+            currentMemoGeneration = generation;
+            currentMemo = new CatalogFetchMemo();
+        }
+        return currentMemo;
+    }
+
+    private CompletableFuture<CatalogUpdateResponse> fetchCatalog(UpdateRequest request, int depth, CatalogFetchMemo.Key key, Crawl crawl,
+                                                                  CompletableFuture<Void> scope) {
         var catalogRequest = CatalogRequestMessage.Builder.newInstance()
                 .protocol(request.protocol())
                 .counterPartyAddress(request.nodeUrl())
                 .counterPartyId(request.nodeId())
                 .build();
 
-        var catalogFuture = fetcher.fetch(catalogRequest, INITIAL_OFFSET, BATCH_SIZE);
+        var digest = newDigest();
+        var pageSize = pageSizer.pageSize(request.nodeUrl());
+        var probeShortPages = !pageSizer.isVerified(request.nodeUrl(), pageSize);
+        var catalogFuture = fetcher.fetchPages(catalogRequest, INITIAL_OFFSET, pageSize, probeShortPages, digest, crawl.nodeId(), scope, crawl.deadline())
+                .whenComplete((result, throwable) -> {
+                    if (throwable == null) {
+                        pageSizer.recordSuccess(request.nodeUrl(), pageSize, result);
+                    } else if (!(throwable instanceof CancellationException) && !(throwable.getCause() instanceof CancellationException)) {
+                        pageSizer.recordFailure(request.nodeUrl(), pageSize);
+                    }
+                })
+                .thenApply(PagingCatalogFetcher.FetchResult::catalog);
 
         return catalogFuture
-                .thenCompose(rootCatalog -> expandCatalog(rootCatalog, request.protocol()))
-                .thenApply(catalog -> new CatalogUpdateResponse(request.nodeUrl(), catalog));
+                .thenCompose(rootCatalog -> expandCatalog(rootCatalog, request.protocol(), digest, depth, key, crawl, scope))
+                .thenApply(catalog -> new CatalogUpdateResponse(request.nodeUrl(), catalog, HexFormat.of().formatHex(digest.digest()), request.generation()));
     }
 
     /**
@@ -71,9 +167,15 @@ public class DspCatalogRequestAction implements CrawlerAction {
      *
      * @param rootCatalog the root catalog, e.g. of a catalog server
      * @param protocol the protocol
+     * @param digest the digest that receives the content hashes of all subcatalogs, in the order in which they are listed
+     * @param depth the depth of the root catalog below the catalog of the crawled node
+     * @param key the key of the root catalog in the memo table
+     * @param crawl the crawl of the node to which the root catalog belongs
+     * @param scope the scope of the fetch of the root catalog, see {@link CatalogFetchMemo}
      * @return a {@link Catalog} that contains expanded subcatalogs
      */
-    private CompletableFuture<Catalog> expandCatalog(Catalog rootCatalog, String protocol) {
+    private CompletableFuture<Catalog> expandCatalog(Catalog rootCatalog, String protocol, MessageDigest digest, int depth,
+                                                     CatalogFetchMemo.Key key, Crawl crawl, CompletableFuture<Void> scope) {
         var partitions = rootCatalog.getDatasets().stream().collect(Collectors.groupingBy(Dataset::getClass));
 
         var subCatalogs = partitions.get(Catalog.class);
@@ -82,7 +184,13 @@ public class DspCatalogRequestAction implements CrawlerAction {
             return completedFuture(rootCatalog);
         }
 
-        var expandedSubCatalogs = subCatalogs.stream()
+        if (depth >= maxSubCatalogDepth) {
+            monitor.warning(format("Catalog %s of node %s has sub-catalogs below the maximum depth of %d, they are not fetched",
+                    rootCatalog.getId(), crawl.nodeId(), maxSubCatalogDepth));
+            return completedFuture(rootCatalog);
+        }
+
+        var subRequests = subCatalogs.stream()
                 .map(ds -> (Catalog) ds)
                 .map(subCatalog -> subCatalog.getDataServices().stream()
                         .map(DataService::getEndpointUrl)
@@ -90,21 +198,244 @@ public class DspCatalogRequestAction implements CrawlerAction {
                         .findFirst()
                         .map(url -> {
                             var id = ofNullable(subCatalog.getParticipantId()).orElseGet(rootCatalog::getParticipantId);
-                            return new UpdateRequest(id, url, protocol);
+                            return new SubCatalogRequest(subCatalog, new UpdateRequest(id, url, protocol));
                         })
                         .orElse(null))
                 .filter(Objects::nonNull)
-                .map(this) //recursively call this.apply()
-                .map(CompletableFuture::join)
-                .map(ur -> (CatalogUpdateResponse) ur)
-                .map(CatalogUpdateResponse::getCatalog);
+                .toList();
 
-        var datasets = ofNullable(partitions.get(Dataset.class))
-                .map(ArrayList::new)
-                .orElseGet(ArrayList::new);
-        expandedSubCatalogs.forEach(datasets::add);
-        return completedFuture(copy(rootCatalog, datasets).build());
+        return fetchAll(subRequests, subRequest -> fetchSubCatalog(subRequest, depth + 1, key, crawl, scope), crawl, scope) //recursively fetch the subcatalogs
+                .thenApply(responses -> {
+                    var datasets = ofNullable(partitions.get(Dataset.class))
+                            .map(ArrayList::new)
+                            .orElseGet(ArrayList::new);
+                    for (var i = 0; i < responses.size(); i++) {
+                        var ur = responses.get(i);
+                        if (ur == null) {
+                            datasets.add(subRequests.get(i).listed());
+                            continue;
+                        }
+                        ofNullable(ur.getContentHash()).ifPresent(hash -> digest.update(hash.getBytes(StandardCharsets.UTF_8)));
+                        datasets.add(ur.getCatalog());
+                    }
+                    return copy(rootCatalog, datasets).build();
+                });
+    }
 
+    /**
+     * Fetches a sub-catalog through the memo table of the current crawl run. Completes with null if the sub-catalog links back
+     * to a catalog that is waiting for it. The parent waits for the sub-catalog for as long as its own scope is open.
+     */
+    private CompletableFuture<CatalogUpdateResponse> fetchSubCatalog(SubCatalogRequest subRequest, int depth, CatalogFetchMemo.Key parent,
+                                                                     Crawl crawl, CompletableFuture<Void> parentScope) {
+        var request = subRequest.request();
+        var key = keyOf(request);
+        var future = crawl.memo().fetch(parent, key, parentScope, scope -> fetchCatalog(request, depth, key, crawl, scope));
+        if (future == null) {
+            monitor.warning(format("Sub-catalog %s at %s of node %s is part of a cycle, it is not fetched again",
+                    subRequest.listed().getId(), request.nodeUrl(), crawl.nodeId()));
+            return completedFuture(null);
+        }
+        return future;
+    }
+
+    /**
+     * Fetches the given sub-catalogs with at most {@code maxSubCatalogConcurrency} fetches in flight. The responses are returned
+     * in the order of the requests. The first failure fails the result, and no further fetches are started after it, nor after
+     * the given scope has been cancelled.
+     */
+    private <T, R> CompletableFuture<List<R>> fetchAll(List<T> requests, Function<T, CompletableFuture<R>> fetch, Crawl crawl,
+                                                       CompletableFuture<Void> scope) {
+        var responses = new AtomicReferenceArray<R>(requests.size());
+        var result = new CompletableFuture<List<R>>();
+        var next = new AtomicInteger();
+        var remaining = new AtomicInteger(requests.size());
+
+        if (requests.isEmpty()) {
+            return completedFuture(List.of());
+        }
+
+        var launcher = new Runnable() {
+            @Override
+            public void run() {
+                var index = next.getAndIncrement();
+                if (index >= requests.size() || result.isDone()) {
+                    return;
+                }
+                if (scope.isCompletedExceptionally()) {
+                    result.completeExceptionally(new CancellationException("The crawl of node %s was cancelled".formatted(crawl.nodeId())));
+                    return;
+                }
+                fetch.apply(requests.get(index)).whenComplete((response, throwable) -> {
+                    if (throwable != null) {
+                        result.completeExceptionally(throwable instanceof CompletionException ? throwable.getCause() : throwable);
+                        return;
+                    }
+                    responses.set(index, response);
+                    if (remaining.decrementAndGet() == 0) {
+                        result.complete(IntStream.range(0, requests.size()).mapToObj(responses::get).toList());
+                    } else {
+                        run();
+                    }
+                });
+            }
+        };
+        for (var i = 0; i < Math.min(maxSubCatalogConcurrency, requests.size()); i++) {
+            launcher.run();
+        }
+        return result;
+    }
+
+    private CatalogFetchMemo.Key keyOf(UpdateRequest request) {
+        return new CatalogFetchMemo.Key(request.nodeUrl(), request.nodeId());
+    }
+
+    private MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new EdcException(e);
+        }
+    }
+
+    private record SubCatalogRequest(Catalog listed, UpdateRequest request) {
+    }
+
+    /**
+     * The crawl of one node.
+     *
+     * @param nodeId   the ID of the crawled node, to which all catalogs are attributed in the metrics
+     * @param deadline the deadline of the crawl, after which its pages no longer wait for response memory, or null if it has none
+     * @param memo     the memo table of the current crawl run
+     * @param future   the future that is returned to the crawler, cancelling it cancels the crawl
+     */
+    private record Crawl(String nodeId, @Nullable Instant deadline, CatalogFetchMemo memo, CompletableFuture<UpdateResponse> future) {
     }
 
+    public static final class Builder {
+        private RemoteMessageDispatcherRegistry dispatcherRegistry;
+        private SingleParticipantContextSupplier participantContextSupplier;
+        private Monitor monitor;
+        private ObjectMapper objectMapper;
+        private TypeTransformerRegistry transformerRegistry;
+        private JsonLd jsonLdService;
+        private CrawlerMetrics metrics = CrawlerMetrics.NOOP;
+        private int prefetchWindow = 1;
+        private JsonLdExpansionCache expansionCache;
+        private CatalogPageCache pageCache;
+        private AdaptivePageSizer pageSizer;
+        private ResponseSpool responseSpool;
+        private int maxSubCatalogConcurrency = DEFAULT_SUB_CATALOG_CONCURRENCY;
+        private int maxSubCatalogDepth = DEFAULT_SUB_CATALOG_DEPTH;
+        private Duration requestTimeout = Duration.ZERO;
+
+        private Builder() {
+        }
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder dispatcherRegistry(RemoteMessageDispatcherRegistry dispatcherRegistry) {
+            this.dispatcherRegistry = dispatcherRegistry;
+            return this;
+        }
+
+        public Builder participantContextSupplier(SingleParticipantContextSupplier participantContextSupplier) {
+            this.participantContextSupplier = participantContextSupplier;
+            return this;
+        }
+
+        public Builder monitor(Monitor monitor) {
+            this.monitor = monitor;
+            return this;
+        }
+
+        public Builder objectMapper(ObjectMapper objectMapper) {
+            this.objectMapper = objectMapper;
+            return this;
+        }
+
+        public Builder transformerRegistry(TypeTransformerRegistry transformerRegistry) {
+            this.transformerRegistry = transformerRegistry;
+            return this;
+        }
+
+        public Builder jsonLdService(JsonLd jsonLdService) {
+            this.jsonLdService = jsonLdService;
+            return this;
+        }
+
+        public Builder metrics(CrawlerMetrics metrics) {
+            this.metrics = metrics;
+            return this;
+        }
+
+        /**
+         * The maximum number of page requests in flight per catalog, 1 fetches pages strictly one after another.
+         */
+        public Builder prefetchWindow(int prefetchWindow) {
+            this.prefetchWindow = prefetchWindow;
+            return this;
+        }
+
+        public Builder expansionCache(JsonLdExpansionCache expansionCache) {
+            this.expansionCache = expansionCache;
+            return this;
+        }
+
+        public Builder pageCache(CatalogPageCache pageCache) {
+            this.pageCache = pageCache;
+            return this;
+        }
+
+        public Builder pageSizer(AdaptivePageSizer pageSizer) {
+            this.pageSizer = pageSizer;
+            return this;
+        }
+
+        public Builder responseSpool(ResponseSpool responseSpool) {
+            this.responseSpool = responseSpool;
+            return this;
+        }
+
+        /**
+         * The maximum number of sub-catalogs of one catalog that are fetched at the same time.
+         */
+        public Builder maxSubCatalogConcurrency(int maxSubCatalogConcurrency) {
+            this.maxSubCatalogConcurrency = maxSubCatalogConcurrency;
+            return this;
+        }
+
+        /**
+         * The maximum depth of sub-catalogs below the catalog of the crawled node that are fetched.
+         */
+        public Builder maxSubCatalogDepth(int maxSubCatalogDepth) {
+            this.maxSubCatalogDepth = maxSubCatalogDepth;
+            return this;
+        }
+
+        /**
+         * How long a single page request may take, {@link Duration#ZERO} for no limit.
+         */
+        public Builder requestTimeout(Duration requestTimeout) {
+            this.requestTimeout = requestTimeout;
+            return this;
+        }
+
+        public DspCatalogRequestAction build() {
+            Objects.requireNonNull(dispatcherRegistry, "dispatcherRegistry");
+            Objects.requireNonNull(participantContextSupplier, "participantContextSupplier");
+            Objects.requireNonNull(monitor, "monitor");
+            Objects.requireNonNull(objectMapper, "objectMapper");
+            Objects.requireNonNull(transformerRegistry, "transformerRegistry");
+            Objects.requireNonNull(jsonLdService, "jsonLdService");
+            var fetcher = new PagingCatalogFetcher(dispatcherRegistry, participantContextSupplier, monitor, objectMapper, transformerRegistry,
+                    jsonLdService, metrics, prefetchWindow, ofNullable(expansionCache).orElseGet(() -> new JsonLdExpansionCache(jsonLdService, 0)),
+                    ofNullable(pageCache).orElseGet(() -> new CatalogPageCache(0)), ofNullable(responseSpool).orElseGet(ResponseSpool::disabled),
+                    requestTimeout);
+            return new DspCatalogRequestAction(fetcher, ofNullable(pageSizer).orElseGet(() -> AdaptivePageSizer.fixed(BATCH_SIZE)), monitor,
+                    maxSubCatalogConcurrency, maxSubCatalogDepth);
+        }
+    }
 }
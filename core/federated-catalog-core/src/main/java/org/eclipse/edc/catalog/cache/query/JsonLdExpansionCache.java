@@ -0,0 +1,95 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.catalog.cache.query;
+
+import jakarta.json.JsonObject;
+import org.eclipse.edc.jsonld.spi.JsonLd;
+import org.eclipse.edc.spi.result.Result;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Remembers the expanded form of JSON-LD documents, so that documents that are seen again are not expanded again.
+ * <p>
+ * The documents that are expanded while reading a catalog are small: one per dataset, plus the catalog without its datasets,
+ * each with the {@code @context} of the response. A connector sends the same {@code @context} on every page and on every
+ * crawl, and most of its datasets do not change between crawls, so most of these documents are expanded over and over again
+ * with the same result. Documents are compared by content, so a cached result is only reused for a document with the same
+ * {@code @context} and the same content. Failed expansions are not cached.
+ * <p>
+ * The cache holds at most {@code maxEntries} documents and evicts the least recently used one. As every entry is keyed by the
+ * whole document, it holds both the document and its expanded form, regardless of their size. A size of 0 disables caching.
+ */
+public class JsonLdExpansionCache {
+
+    private final JsonLd jsonLdService;
+    private final int maxEntries;
+    private final Map<JsonObject, JsonObject> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public JsonLdExpansionCache(JsonLd jsonLdService, int maxEntries) {
+        this.jsonLdService = jsonLdService;
+        this.maxEntries = Math.max(0, maxEntries);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<JsonObject, JsonObject> eldest) {
+                return size() > JsonLdExpansionCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Expands the document, or returns the result of a previous expansion of an equal document.
+     */
+    public Result<JsonObject> expand(JsonObject document) {
+        if (maxEntries == 0) {
+            return jsonLdService.expand(document);
+        }
+        var cached = get(document);
+        if (cached != null) {
+            hits.increment();
+            return Result.success(cached);
+        }
+        misses.increment();
+        var expanded = jsonLdService.expand(document);
+        if (expanded.succeeded()) {
+            put(document, expanded.getContent());
+        }
+        return expanded;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private synchronized JsonObject get(JsonObject document) {
+        return entries.get(document);
+    }
+
+    private synchronized void put(JsonObject document, JsonObject expanded) {
+        entries.put(document, expanded);
+    }
+}
@@ -16,10 +16,12 @@ package org.eclipse.edc.catalog.cache.query;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import jakarta.json.JsonObject;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
 import org.eclipse.edc.connector.controlplane.catalog.spi.CatalogRequestMessage;
 import org.eclipse.edc.connector.controlplane.contract.spi.types.offer.ContractOffer;
+import org.eclipse.edc.crawler.spi.CrawlerMetrics;
 import org.eclipse.edc.jsonld.spi.JsonLd;
 import org.eclipse.edc.participantcontext.single.spi.SingleParticipantContextSupplier;
 import org.eclipse.edc.participantcontext.spi.types.ParticipantContext;
@@ -30,38 +32,117 @@ import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.response.StatusResult;
 import org.eclipse.edc.spi.result.Failure;
+import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static java.lang.String.format;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static java.util.concurrent.CompletableFuture.failedFuture;
-import static org.eclipse.edc.federatedcatalog.util.FederatedCatalogUtil.copy;
-import static org.eclipse.edc.federatedcatalog.util.FederatedCatalogUtil.merge;
 
 /**
  * Helper class that runs through a loop and sends {@link CatalogRequestMessage}s until no more {@link ContractOffer}s are
  * received. This is useful to avoid overloading the provider connector by chunking the resulting response payload
  * size.
+ * <p>
+ * With a prefetch window greater than 1, up to that many page requests are in flight at the same time, i.e. while page
+ * {@code n} is processed, pages {@code n+1..n+window-1} are already requested. Pages are still assembled in order, and no
+ * further pages are requested once a short page has been received. Requests that were already sent for pages beyond the
+ * last one are discarded.
+ * <p>
+ * The latency, size and number of datasets of every page are reported to the {@link CrawlerMetrics}. Pages are read with a
+ * {@link StreamingCatalogReader}, so that large pages are not held in memory as a whole JSON-LD tree. Pages whose payload is
+ * byte-identical to a page that was read before are taken from the {@link CatalogPageCache} instead.
+ * <p>
+ * The memory held by responses is bounded through a {@link ResponseSpool}: pages are only requested once their expected size
+ * fits into the shared budget, and large responses are read from a temporary file. A page whose size does not fit before the
+ * deadline of its crawl fails with a timeout. Only the SHA-256 hash of a payload is kept after it was read.
+ * <p>
+ * The digest of a catalog is computed over its content rather than over the raw pages, so that it does not change with the
+ * page size: every dataset, in order, and then the properties, distributions and data services of the catalog are serialized
+ * with sorted map keys and hashed.
+ * <p>
+ * Some servers silently cap the page size. If a page size is not known to be served in full, a page that is shorter than
+ * requested is not taken as the last one: the next range is requested as well, and if it still contains datasets, paging
+ * continues with the size of the short page, which is reported as the cap of the server.
+ * <p>
+ * Every page request has a deadline, after which the dispatch is cancelled and the catalog fails. A catalog can also be
+ * cancelled from the outside, in which case its outstanding page requests are cancelled and no further pages are requested.
  */
 public class PagingCatalogFetcher {
     private final RemoteMessageDispatcherRegistry dispatcherRegistry;
     private final SingleParticipantContextSupplier participantContextSupplier;
     private final Monitor monitor;
-    private final ObjectMapper objectMapper;
-    private final TypeTransformerRegistry transformerRegistry;
-    private final JsonLd jsonLdService;
+    private final StreamingCatalogReader catalogReader;
+    private final CatalogPageCache pageCache;
+    private final CrawlerMetrics metrics;
+    private final int prefetchWindow;
+    private final ResponseSpool responseSpool;
+    private final Duration requestTimeout;
+    private final ObjectWriter canonicalWriter;
 
     public PagingCatalogFetcher(RemoteMessageDispatcherRegistry dispatcherRegistry, SingleParticipantContextSupplier participantContextSupplier,
                                 Monitor monitor, ObjectMapper objectMapper, TypeTransformerRegistry transformerRegistry, JsonLd jsonLdService) {
+        this(dispatcherRegistry, participantContextSupplier, monitor, objectMapper, transformerRegistry, jsonLdService, CrawlerMetrics.NOOP, 1,
+                new JsonLdExpansionCache(jsonLdService, 0), new CatalogPageCache(0));
+    }
+
+    /**
+     * Creates a fetcher.
+     *
+     * @param prefetchWindow the maximum number of page requests in flight per catalog, 1 fetches pages strictly one after another
+     * @param expansionCache the cache through which the JSON-LD documents of the pages are expanded
+     * @param pageCache      the cache of pages that were already read, by the hash of their payload
+     */
+    public PagingCatalogFetcher(RemoteMessageDispatcherRegistry dispatcherRegistry, SingleParticipantContextSupplier participantContextSupplier,
+                                Monitor monitor, ObjectMapper objectMapper, TypeTransformerRegistry transformerRegistry, JsonLd jsonLdService,
+                                CrawlerMetrics metrics, int prefetchWindow, JsonLdExpansionCache expansionCache,
+                                CatalogPageCache pageCache) {
+        this(dispatcherRegistry, participantContextSupplier, monitor, objectMapper, transformerRegistry, jsonLdService, metrics, prefetchWindow,
+                expansionCache, pageCache, ResponseSpool.disabled(), Duration.ZERO);
+    }
+
+    /**
+     * Creates a fetcher.
+     *
+     * @param prefetchWindow the maximum number of page requests in flight per catalog, 1 fetches pages strictly one after another
+     * @param expansionCache the cache through which the JSON-LD documents of the pages are expanded
+     * @param pageCache      the cache of pages that were already read, by the hash of their payload
+     * @param responseSpool  bounds the memory that is held by responses
+     * @param requestTimeout how long a single page request may take, {@link Duration#ZERO} for no limit
+     */
+    public PagingCatalogFetcher(RemoteMessageDispatcherRegistry dispatcherRegistry, SingleParticipantContextSupplier participantContextSupplier,
+                                Monitor monitor, ObjectMapper objectMapper, TypeTransformerRegistry transformerRegistry, JsonLd jsonLdService,
+                                CrawlerMetrics metrics, int prefetchWindow, JsonLdExpansionCache expansionCache,
+                                CatalogPageCache pageCache, ResponseSpool responseSpool, Duration requestTimeout) {
         this.dispatcherRegistry = dispatcherRegistry;
         this.participantContextSupplier = participantContextSupplier;
         this.monitor = monitor;
-        this.objectMapper = objectMapper;
-        this.transformerRegistry = transformerRegistry;
-        this.jsonLdService = jsonLdService;
+        this.catalogReader = new StreamingCatalogReader(objectMapper, jsonLdService, transformerRegistry, expansionCache);
+        this.metrics = metrics;
+        this.prefetchWindow = Math.max(1, prefetchWindow);
+        this.pageCache = pageCache;
+        this.responseSpool = responseSpool;
+        this.requestTimeout = requestTimeout;
+        this.canonicalWriter = objectMapper.copy().configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true).writer();
     }
 
     /**
@@ -74,8 +155,86 @@ public class PagingCatalogFetcher {
      * @return A list of {@link ContractOffer} objects
      */
     public @NotNull CompletableFuture<Catalog> fetch(CatalogRequestMessage catalogRequest, int from, int batchSize) {
+        return fetch(catalogRequest, from, batchSize, null, catalogRequest.getCounterPartyId());
+    }
 
-        var range = new Range(from, from + batchSize);
+    /**
+     * Gets all contract offers like {@link #fetch(CatalogRequestMessage, int, int)}, and additionally feeds the content hash
+     * of the catalog into the given digest.
+     *
+     * @param catalogRequest The catalog request. This will be copied for every request.
+     * @param from           The (zero-based) index of the first item
+     * @param batchSize      The size of one batch
+     * @param digest         Digest that receives the content hash of the catalog, may be null
+     * @param nodeId         The ID of the target node to which the pages are attributed in the {@link CrawlerMetrics}
+     * @return A list of {@link ContractOffer} objects
+     */
+    public @NotNull CompletableFuture<Catalog> fetch(CatalogRequestMessage catalogRequest, int from, int batchSize, @Nullable MessageDigest digest, String nodeId) {
+        return fetchPages(catalogRequest, from, batchSize, digest, nodeId).thenApply(FetchResult::catalog);
+    }
+
+    /**
+     * Gets all contract offers like {@link #fetch(CatalogRequestMessage, int, int, MessageDigest, String)}, and additionally
+     * reports how many pages were fetched, and the highest latency and size of a single page.
+     *
+     * @param catalogRequest The catalog request. This will be copied for every request.
+     * @param from           The (zero-based) index of the first item
+     * @param batchSize      The size of one batch
+     * @param digest         Digest that receives the content hash of the catalog, may be null
+     * @param nodeId         The ID of the target node to which the pages are attributed in the {@link CrawlerMetrics}
+     * @return the assembled catalog and the statistics of its pages
+     */
+    public @NotNull CompletableFuture<FetchResult> fetchPages(CatalogRequestMessage catalogRequest, int from, int batchSize, @Nullable MessageDigest digest,
+                                                              String nodeId) {
+        return fetchPages(catalogRequest, from, batchSize, digest, nodeId, new CompletableFuture<>());
+    }
+
+    /**
+     * Gets all contract offers like {@link #fetchPages(CatalogRequestMessage, int, int, MessageDigest, String)}, until the
+     * given crawl completes exceptionally, e.g. because it was cancelled or has exceeded its deadline. The outstanding page
+     * requests are then cancelled, and the result fails with a {@link CancellationException}.
+     *
+     * @param crawl the crawl to which the catalog belongs
+     */
+    public @NotNull CompletableFuture<FetchResult> fetchPages(CatalogRequestMessage catalogRequest, int from, int batchSize, @Nullable MessageDigest digest,
+                                                              String nodeId, CompletableFuture<?> crawl) {
+        return fetchPages(catalogRequest, from, batchSize, false, digest, nodeId, crawl, null);
+    }
+
+    /**
+     * Gets all contract offers like {@link #fetchPages(CatalogRequestMessage, int, int, MessageDigest, String, CompletableFuture)}.
+     * If {@code probeShortPages} is set, a page that is shorter than {@code batchSize} is not taken as the last one before the
+     * next range was found to be empty, so that a server that caps the page size is detected, see {@link FetchResult#cappedAt()}.
+     *
+     * A page that cannot reserve memory for its response from the {@link ResponseSpool} before the given deadline fails with a
+     * timeout.
+     *
+     * @param probeShortPages whether the batch size is not known to be served in full by the server
+     * @param deadline        the deadline of the crawl, or null if it has none
+     */
+    public @NotNull CompletableFuture<FetchResult> fetchPages(CatalogRequestMessage catalogRequest, int from, int batchSize, boolean probeShortPages,
+                                                              @Nullable MessageDigest digest, String nodeId, CompletableFuture<?> crawl,
+                                                              @Nullable Instant deadline) {
+        var participantResult  = participantContextSupplier.get().map(ParticipantContext::getParticipantContextId);
+        if (participantResult.failed()) {
+            return failedFuture(new EdcException(participantResult.getFailureDetail()));
+        }
+
+        var window = new PageWindow(participantResult.getContent(), catalogRequest, from, batchSize, probeShortPages, digest, nodeId, deadline);
+        for (var i = 0; i < prefetchWindow; i++) {
+            window.requestNext();
+        }
+        window.drain();
+        crawl.whenComplete((response, throwable) -> {
+            if (throwable != null) {
+                window.cancel();
+            }
+        });
+        return window.result;
+    }
+
+    private CompletableFuture<Page> fetchPage(String participantContextId, CatalogRequestMessage catalogRequest, Range range, String nodeId,
+                                              @Nullable Instant deadline) {
         var rangedRequest = CatalogRequestMessage.Builder.newInstance()
                 .counterPartyAddress(catalogRequest.getCounterPartyAddress())
                 .counterPartyId(catalogRequest.getCounterPartyId())
@@ -83,42 +242,329 @@ public class PagingCatalogFetcher {
                 .querySpec(QuerySpec.Builder.newInstance().range(range).build())
                 .build();
 
-        var participantResult  = participantContextSupplier.get().map(ParticipantContext::getParticipantContextId);
-        if (participantResult.failed()) {
-            return failedFuture(new EdcException(participantResult.getFailureDetail()));
+        var endpoint = catalogRequest.getCounterPartyAddress();
+        var maxWait = deadline != null ? Duration.between(Instant.now(), deadline) : Duration.ZERO;
+        if (deadline != null && (maxWait.isZero() || maxWait.isNegative())) {
+            return failedFuture(new EdcException(format("Catalog request to %s timed out, the deadline of the crawl has passed", endpoint)));
         }
+        var page = new CompletableFuture<Page>();
+        var reservation = responseSpool.reserve(endpoint, maxWait);
+        page.whenComplete((p, throwable) -> {
+            if (page.isCancelled()) {
+                reservation.cancel(false);
+            }
+        });
+        reservation.whenComplete((reserved, throwable) -> {
+            if (throwable != null) {
+                var cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+                page.completeExceptionally(cause instanceof TimeoutException ?
+                        new EdcException(format("Catalog request to %s timed out waiting for memory for its response", endpoint)) : cause);
+            }
+        });
+        reservation.thenAccept(reserved -> {
+            var held = new AtomicLong(reserved);
+            if (page.isDone()) {
+                responseSpool.release(held.getAndSet(0));
+                return;
+            }
+            var sentAt = System.nanoTime();
+            var dispatch = dispatcherRegistry.dispatch(participantContextId, byte[].class, rangedRequest);
+            page.whenComplete((p, throwable) -> {
+                if (page.isCancelled()) {
+                    dispatch.cancel(true);
+                }
+            });
+            withDeadline(dispatch)
+                    .thenApply(bytes -> receive(bytes, endpoint, nodeId, Duration.ofNanos(System.nanoTime() - sentAt), held))
+                    .thenCompose(payload -> {
+                        var readAt = System.nanoTime();
+                        return readCatalogFrom(payload, held)
+                                .thenApply(catalog -> {
+                                    metrics.pageTransformed(nodeId, catalog.getDatasets().size(), Duration.ofNanos(System.nanoTime() - readAt));
+                                    return new Page(range.getFrom(), payload.size(), catalog, payload.latency());
+                                });
+                    })
+                    .whenComplete((result, throwable) -> {
+                        responseSpool.release(held.getAndSet(0));
+                        if (throwable == null) {
+                            page.complete(result);
+                        } else {
+                            var cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+                            page.completeExceptionally(cause instanceof TimeoutException ?
+                                    new EdcException(format("Catalog request to %s timed out after %s", endpoint, requestTimeout)) : cause);
+                        }
+                    });
+        });
+        return page;
+    }
 
-        return dispatcherRegistry.dispatch(participantResult.getContent(), byte[].class, rangedRequest)
-                .thenCompose(this::readCatalogFrom)
-                .thenApply(catalog -> copy(catalog).build())
-                .thenCompose(catalog -> {
-
-                    var datasets = catalog.getDatasets();
-                    if (datasets.size() >= batchSize) {
-                        monitor.debug(format("Fetching next batch from %s to %s", from, from + batchSize));
-                        return fetch(rangedRequest, range.getFrom() + batchSize, batchSize)
-                                .thenApply(catalogChunk -> merge(catalog, catalogChunk));
-                    } else {
-                        return completedFuture(catalog);
-                    }
-                });
+    /**
+     * Fails the given dispatch once the request timeout has elapsed, and cancels it.
+     */
+    private <T> CompletableFuture<T> withDeadline(CompletableFuture<T> dispatch) {
+        if (requestTimeout.isZero() || requestTimeout.isNegative()) {
+            return dispatch;
+        }
+        var deadline = dispatch.copy().orTimeout(requestTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        deadline.whenComplete((result, throwable) -> {
+            if (throwable instanceof TimeoutException) {
+                dispatch.cancel(true);
+            }
+        });
+        return deadline;
     }
 
-    private CompletableFuture<Catalog> readCatalogFrom(StatusResult<byte[]> bytes) {
+    /**
+     * Takes over a received response. The page is taken from the page cache if possible, otherwise large responses are written
+     * to a temporary file, so that the payload is no longer referenced once this stage has completed.
+     */
+    private Payload receive(StatusResult<byte[]> bytes, String endpoint, String nodeId, Duration latency, AtomicLong held) {
         if (bytes.failed()) {
-            return CompletableFuture.failedFuture(new EdcException(bytes.getFailureDetail()));
+            throw new EdcException(bytes.getFailureDetail());
+        }
+        var content = bytes.getContent();
+        held.set(responseSpool.adjust(endpoint, held.get(), content.length));
+        metrics.pageFetched(nodeId, latency, content.length);
+
+        var hash = sha256(content);
+        var cached = pageCache.get(CatalogPageCache.keyOf(hash));
+        if (cached != null) {
+            return new Payload(hash, content.length, latency, null, null, cached);
+        }
+        if (responseSpool.shouldSpill(content.length)) {
+            try {
+                var file = responseSpool.spill(content);
+                responseSpool.release(held.getAndSet(0));
+                return new Payload(hash, content.length, latency, null, file, null);
+            } catch (IOException e) {
+                monitor.warning(format("Could not write catalog response of %d bytes to a temporary file, reading it from memory", content.length), e);
+            }
+        }
+        return new Payload(hash, content.length, latency, content, null, null);
+    }
+
+    private CompletableFuture<Catalog> readCatalogFrom(Payload payload, AtomicLong held) {
+        if (payload.cached() != null) {
+            return completedFuture(payload.cached());
         }
         try {
-            var json = new String(bytes.getContent());
-            var catalogJsonObject = objectMapper.readValue(json, JsonObject.class);
-            return jsonLdService.expand(catalogJsonObject)
-                    .compose(expandedJson -> transformerRegistry.transform(expandedJson, Catalog.class))
+            Result<Catalog> result;
+            if (payload.file() != null) {
+                try {
+                    result = catalogReader.read(payload.file());
+                } finally {
+                    Files.deleteIfExists(payload.file());
+                }
+            } else {
+                result = catalogReader.read(payload.bytes());
+            }
+            return result
+                    .onSuccess(catalog -> pageCache.put(CatalogPageCache.keyOf(payload.hash()), catalog))
                     .map(CompletableFuture::completedFuture)
                     .orElse((Failure f) -> failedFuture(new EdcException(f.getFailureDetail())));
-        } catch (JsonProcessingException e) {
+        } catch (IOException e) {
             monitor.severe(() -> "Error parsing Catalog from byes", e);
             return failedFuture(e);
         }
     }
 
+    /**
+     * Returns the SHA-256 hash of the given value, serialized to JSON with sorted map keys.
+     */
+    private byte[] canonicalHash(Object value) {
+        try {
+            return sha256(canonicalWriter.writeValueAsBytes(value));
+        } catch (JsonProcessingException e) {
+            throw new EdcException(e);
+        }
+    }
+
+    private byte[] sha256(byte[] content) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(content);
+        } catch (NoSuchAlgorithmException e) {
+            throw new EdcException(e);
+        }
+    }
+
+    /**
+     * A catalog that was assembled from pages.
+     *
+     * @param catalog        the catalog
+     * @param pages          the number of pages that were assembled
+     * @param maxPageLatency the highest latency of a single page request
+     * @param maxPageBytes   the size of the largest page payload
+     * @param cappedAt       the page size to which the server was found to cap pages, 0 if no cap was detected
+     */
+    public record FetchResult(Catalog catalog, int pages, Duration maxPageLatency, long maxPageBytes, int cappedAt) {
+
+        public FetchResult(Catalog catalog, int pages, Duration maxPageLatency, long maxPageBytes) {
+            this(catalog, pages, maxPageLatency, maxPageBytes, 0);
+        }
+    }
+
+    private record Page(int from, long size, Catalog catalog, Duration latency) {
+    }
+
+    /**
+     * A received response, either in memory, in a temporary file or already read from the page cache.
+     */
+    private record Payload(byte[] hash, long size, Duration latency, @Nullable byte[] bytes, @Nullable Path file, @Nullable Catalog cached) {
+    }
+
+    /**
+     * The page requests of one catalog that are in flight, oldest first. Completed pages are consumed in a loop rather than
+     * through a chain of dependent futures, so that the depth of the call stack does not grow with the number of pages.
+     */
+    private final class PageWindow {
+        private final Deque<CompletableFuture<Page>> inflight = new ArrayDeque<>();
+        private final CatalogPageAccumulator accumulator = new CatalogPageAccumulator();
+        private final CompletableFuture<FetchResult> result = new CompletableFuture<>();
+        private final String participantContextId;
+        private final CatalogRequestMessage catalogRequest;
+        private final MessageDigest digest;
+        private final String nodeId;
+        private final Instant deadline;
+        private int batchSize;
+        private boolean probeShortPages;
+        private boolean probing;
+        private int cappedAt;
+        private Catalog firstPage;
+        private int nextOffset;
+        private int pages;
+        private Duration maxLatency = Duration.ZERO;
+        private long maxBytes;
+
+        private PageWindow(String participantContextId, CatalogRequestMessage catalogRequest, int from, int batchSize,
+                           boolean probeShortPages, @Nullable MessageDigest digest, String nodeId, @Nullable Instant deadline) {
+            this.participantContextId = participantContextId;
+            this.catalogRequest = catalogRequest;
+            this.nextOffset = from;
+            this.batchSize = batchSize;
+            this.probeShortPages = probeShortPages;
+            this.digest = digest;
+            this.nodeId = nodeId;
+            this.deadline = deadline;
+        }
+
+        /**
+         * Consumes the oldest pages for as long as they have completed, and requests the next page for every full page. If the
+         * oldest page has not completed yet, draining continues once it has.
+         */
+        private void drain() {
+            while (true) {
+                if (result.isDone()) {
+                    // cancelled from the outside
+                    discard();
+                    return;
+                }
+                var head = peek();
+                if (head == null) {
+                    // discarded by a concurrent cancellation
+                    return;
+                }
+                if (!head.isDone()) {
+                    head.whenComplete((page, throwable) -> drain());
+                    return;
+                }
+                poll();
+                try {
+                    var page = head.join();
+                    var received = page.catalog().getDatasets().size();
+                    if (probing) {
+                        probing = false;
+                        // datasets beyond a short page mean that the server caps the page size
+                        cappedAt = received > 0 ? batchSize : 0;
+                        for (var i = 1; i < prefetchWindow && received >= batchSize; i++) {
+                            requestNext();
+                        }
+                    }
+                    if (digest != null) {
+                        page.catalog().getDatasets().forEach(dataset -> digest.update(canonicalHash(dataset)));
+                    }
+                    firstPage = firstPage == null ? page.catalog() : firstPage;
+                    accumulator.add(page.catalog());
+                    pages++;
+                    maxLatency = maxLatency.compareTo(page.latency()) < 0 ? page.latency() : maxLatency;
+                    maxBytes = Math.max(maxBytes, page.size());
+                    if (received < batchSize) {
+                        if (probeShortPages && received > 0) {
+                            probe(page.from() + received, received);
+                            continue;
+                        }
+                        discard();
+                        complete(page.catalog());
+                        return;
+                    }
+                    requestNext();
+                } catch (CompletionException e) {
+                    discard();
+                    result.completeExceptionally(e.getCause());
+                    return;
+                } catch (Exception e) {
+                    discard();
+                    result.completeExceptionally(e);
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Discards the pages that were requested with the current batch size, and continues with the given offset and size.
+         */
+        private synchronized void probe(int offset, int size) {
+            discard();
+            probeShortPages = false;
+            probing = true;
+            nextOffset = offset;
+            batchSize = size;
+            requestNext();
+        }
+
+        private void complete(Catalog lastPage) {
+            if (digest != null) {
+                var content = new LinkedHashMap<String, Object>();
+                content.put("participantId", firstPage.getParticipantId());
+                content.put("properties", lastPage.getProperties());
+                content.put("distributions", lastPage.getDistributions());
+                content.put("dataServices", firstPage.getDataServices());
+                digest.update(canonicalHash(content));
+            }
+            result.complete(new FetchResult(accumulator.build(), pages, maxLatency, maxBytes, cappedAt));
+        }
+
+        private synchronized void requestNext() {
+            if (result.isDone()) {
+                return;
+            }
+            var range = new Range(nextOffset, nextOffset + batchSize);
+            nextOffset += batchSize;
+            if (range.getFrom() > 0) {
+                monitor.debug(format("Fetching next batch from %s to %s", range.getFrom(), range.getTo()));
+            }
+            inflight.add(fetchPage(participantContextId, catalogRequest, range, nodeId, deadline));
+        }
+
+        private synchronized CompletableFuture<Page> peek() {
+            return inflight.peek();
+        }
+
+        private synchronized CompletableFuture<Page> poll() {
+            return inflight.poll();
+        }
+
+        private synchronized void discard() {
+            inflight.forEach(page -> page.cancel(false));
+            inflight.clear();
+        }
+
+        /**
+         * Cancels the outstanding page requests and fails the result, unless it has completed already.
+         */
+        private void cancel() {
+            if (result.completeExceptionally(new CancellationException("The crawl of node %s was cancelled".formatted(nodeId)))) {
+                discard();
+            }
+        }
+    }
 }
@@ -16,12 +16,14 @@ package org.eclipse.edc.catalog.cache.query;
 
 import org.eclipse.edc.catalog.spi.FederatedCatalogCache;
 import org.eclipse.edc.catalog.spi.QueryService;
+import org.eclipse.edc.catalog.spi.model.DatasetMatch;
 import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.result.ServiceResult;
 
 import java.util.Collection;
+import java.util.List;
 
 public class QueryServiceImpl implements QueryService {
 
@@ -36,4 +38,15 @@ public class QueryServiceImpl implements QueryService {
 
         return ServiceResult.from(Result.ofThrowable(() -> cache.query(query)));
     }
+
+    @Override
+    public ServiceResult<List<DatasetMatch>> searchDatasets(String keywords, int offset, int limit) {
+        if (keywords == null || keywords.isBlank()) {
+            return ServiceResult.badRequest("At least one keyword is required");
+        }
+        if (offset < 0 || limit < 0) {
+            return ServiceResult.badRequest("Offset and limit must not be negative");
+        }
+        return ServiceResult.from(cache.searchDatasets(keywords, offset, limit));
+    }
 }
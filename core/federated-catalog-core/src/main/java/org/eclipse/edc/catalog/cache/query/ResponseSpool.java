@@ -0,0 +1,216 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.catalog.cache.query;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounds the memory that catalog responses take up while they are read.
+ * <p>
+ * Before a page is requested, its size is reserved from a budget of {@code maxInFlightBytes} that is shared by all crawlers.
+ * As the size of a response is only known once it was received, the largest response that was received from the same endpoint
+ * so far is reserved, or the whole budget for endpoints that were not seen yet, and the reservation is corrected once the
+ * response has arrived. Requests wait until their reservation fits into the budget, without blocking a thread, or until their
+ * deadline has passed. A reservation never exceeds the budget, so that a single large response cannot block all others forever.
+ * <p>
+ * A response that is larger than any response its endpoint sent before takes more memory than was reserved for it, and can
+ * push the bytes held in memory beyond the budget. While they are beyond the budget, no further reservation is granted, so the
+ * budget is only exceeded by the growth of the responses that were already requested.
+ * <p>
+ * Responses larger than {@code spillThresholdBytes} are written to a temporary file right after they were received, and read
+ * from there, so that they are not held in memory while they are parsed. Their reservation is returned as soon as they were
+ * written. A threshold of 0 disables spilling, a budget of 0 disables the budget.
+ */
+public class ResponseSpool {
+
+    private final long spillThresholdBytes;
+    private final long maxInFlightBytes;
+    private final Path directory;
+    private final Map<String, Long> estimates = new ConcurrentHashMap<>();
+    private final Deque<Waiter> waiters = new ArrayDeque<>();
+    private final LongAdder spilledResponses = new LongAdder();
+    private long inFlightBytes;
+
+    /**
+     * Creates a spool.
+     *
+     * @param spillThresholdBytes responses larger than this are written to disk, 0 disables spilling
+     * @param maxInFlightBytes    the maximum number of response bytes that are held in memory by all crawlers, 0 for no limit
+     * @param directory           the directory of the temporary files, or null for the default temporary directory
+     */
+    public ResponseSpool(long spillThresholdBytes, long maxInFlightBytes, @Nullable Path directory) {
+        this.spillThresholdBytes = Math.max(0, spillThresholdBytes);
+        this.maxInFlightBytes = Math.max(0, maxInFlightBytes);
+        this.directory = directory;
+    }
+
+    public static ResponseSpool disabled() {
+        return new ResponseSpool(0, 0, null);
+    }
+
+    /**
+     * Reserves memory for a response of the given endpoint, waiting as long as it takes.
+     *
+     * @return the number of bytes that were reserved, once they fit into the budget
+     */
+    public CompletableFuture<Long> reserve(String endpoint) {
+        return reserve(endpoint, Duration.ZERO);
+    }
+
+    /**
+     * Reserves memory for a response of the given endpoint. If the reservation does not fit into the budget within
+     * {@code maxWait}, the returned future fails with a {@link java.util.concurrent.TimeoutException}. Cancelling the returned future withdraws
+     * the reservation.
+     *
+     * @param maxWait how long to wait at most, {@link Duration#ZERO} for no limit
+     * @return the number of bytes that were reserved, once they fit into the budget
+     */
+    public CompletableFuture<Long> reserve(String endpoint, Duration maxWait) {
+        if (maxInFlightBytes == 0) {
+            return CompletableFuture.completedFuture(0L);
+        }
+        var bytes = Math.min(estimates.getOrDefault(endpoint, maxInFlightBytes), maxInFlightBytes);
+        var waiter = new Waiter(bytes, new CompletableFuture<>());
+        synchronized (this) {
+            if (waiters.isEmpty() && fits(bytes)) {
+                inFlightBytes += bytes;
+                return CompletableFuture.completedFuture(bytes);
+            }
+            waiters.add(waiter);
+        }
+        waiter.reserved().whenComplete((reserved, throwable) -> {
+            if (throwable != null) {
+                withdraw(waiter);
+            }
+        });
+        if (!maxWait.isZero() && !maxWait.isNegative()) {
+            waiter.reserved().orTimeout(maxWait.toMillis(), TimeUnit.MILLISECONDS);
+        }
+        return waiter.reserved();
+    }
+
+    /**
+     * Corrects a reservation to the actual size of the response, and remembers the size for later reservations of the same
+     * endpoint. The actual size is held even if it exceeds the budget, as the response has already been received, but no
+     * further reservation is granted until the bytes held are within the budget again.
+     *
+     * @return the number of bytes that are now reserved
+     */
+    public long adjust(String endpoint, long reserved, long actual) {
+        if (maxInFlightBytes == 0) {
+            return 0;
+        }
+        estimates.merge(endpoint, actual, Math::max);
+        synchronized (this) {
+            inFlightBytes += actual - reserved;
+        }
+        if (actual < reserved) {
+            grantWaiting();
+        }
+        return actual;
+    }
+
+    /**
+     * Returns reserved bytes to the budget, and grants waiting reservations that now fit.
+     */
+    public void release(long bytes) {
+        if (bytes <= 0) {
+            return;
+        }
+        synchronized (this) {
+            inFlightBytes -= bytes;
+        }
+        grantWaiting();
+    }
+
+    public boolean shouldSpill(long size) {
+        return spillThresholdBytes > 0 && size > spillThresholdBytes;
+    }
+
+    /**
+     * Writes the payload to a new temporary file, which the caller must delete.
+     */
+    public Path spill(byte[] payload) throws IOException {
+        var file = directory != null ? Files.createTempFile(directory, "catalog-", ".json") : Files.createTempFile("catalog-", ".json");
+        try {
+            Files.write(file, payload);
+        } catch (IOException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        spilledResponses.increment();
+        return file;
+    }
+
+    public synchronized long getInFlightBytes() {
+        return inFlightBytes;
+    }
+
+    public synchronized int getWaiting() {
+        return waiters.size();
+    }
+
+    public long getSpilledResponses() {
+        return spilledResponses.sum();
+    }
+
+    private void grantWaiting() {
+        var granted = new ArrayList<Waiter>();
+        synchronized (this) {
+            while (!waiters.isEmpty() && fits(waiters.peek().bytes())) {
+                var waiter = waiters.poll();
+                inFlightBytes += waiter.bytes();
+                granted.add(waiter);
+            }
+        }
+        granted.forEach(waiter -> {
+            // a reservation that timed out or was cancelled in the meantime is returned right away
+            if (!waiter.reserved().complete(waiter.bytes())) {
+                release(waiter.bytes());
+            }
+        });
+    }
+
+    private void withdraw(Waiter waiter) {
+        boolean withdrawn;
+        synchronized (this) {
+            withdrawn = waiters.remove(waiter);
+        }
+        if (withdrawn) {
+            // the withdrawn reservation may have held back smaller ones behind it
+            grantWaiting();
+        }
+    }
+
+    private boolean fits(long bytes) {
+        return inFlightBytes + bytes <= maxInFlightBytes;
+    }
+
+    private record Waiter(long bytes, CompletableFuture<Long> reserved) {
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.catalog.cache.query;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonValue;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
+import org.eclipse.edc.connector.controlplane.catalog.spi.DataService;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Distribution;
+import org.eclipse.edc.jsonld.spi.JsonLd;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import static java.util.Optional.ofNullable;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.CONTEXT;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.ID;
+import static org.eclipse.edc.jsonld.spi.PropertyAndTypeNames.DCAT_DATASET_ATTRIBUTE;
+
+/**
+ * Reads a {@link Catalog} from the raw bytes of a catalog response without materializing the whole JSON-LD document.
+ * <p>
+ * The top-level object is read with a streaming parser. Every entry of the {@code dcat:dataset} property is read on its own,
+ * expanded together with the {@code @context} of the document and transformed into a {@link Dataset}, so that only the
+ * current entry is held as a JSON tree. All other properties are collected into a catalog without datasets, which is
+ * expanded and transformed as a whole. The result is the same as expanding and transforming the complete document.
+ * <p>
+ * Documents that cannot be read that way, e.g. because the {@code @context} is not the first property or because a dataset
+ * entry is not an object, are read completely, as before.
+ */
+public class StreamingCatalogReader {
+
+    private static final String PROBE_ID = "urn:edc:probe";
+
+    private final ObjectMapper objectMapper;
+    private final JsonLd jsonLdService;
+    private final TypeTransformerRegistry transformerRegistry;
+    private final JsonLdExpansionCache expansionCache;
+
+    public StreamingCatalogReader(ObjectMapper objectMapper, JsonLd jsonLdService, TypeTransformerRegistry transformerRegistry) {
+        this(objectMapper, jsonLdService, transformerRegistry, new JsonLdExpansionCache(jsonLdService, 0));
+    }
+
+    /**
+     * Creates a reader that expands the datasets, the catalog without datasets and the probes for the dataset property through
+     * the given cache. Documents that are read completely are never cached.
+     */
+    public StreamingCatalogReader(ObjectMapper objectMapper, JsonLd jsonLdService, TypeTransformerRegistry transformerRegistry,
+                                  JsonLdExpansionCache expansionCache) {
+        this.objectMapper = objectMapper;
+        this.jsonLdService = jsonLdService;
+        this.transformerRegistry = transformerRegistry;
+        this.expansionCache = expansionCache;
+    }
+
+    /**
+     * Reads the catalog, streaming over the datasets if possible.
+     *
+     * @param bytes the raw catalog response
+     * @return the catalog, or a failure if the document could not be expanded or transformed
+     * @throws IOException if the bytes are not valid JSON
+     */
+    public Result<Catalog> read(byte[] bytes) throws IOException {
+        Result<Catalog> streamed;
+        try (var parser = objectMapper.getFactory().createParser(bytes)) {
+            streamed = readStreaming(parser);
+        }
+        return streamed != null ? streamed : readFully(bytes);
+    }
+
+    /**
+     * Reads the catalog from a file, streaming over the datasets if possible. The file is read sequentially, and is only read
+     * a second time if the document has to be read completely.
+     *
+     * @param file the file that contains the raw catalog response
+     * @return the catalog, or a failure if the document could not be expanded or transformed
+     * @throws IOException if the file cannot be read or does not contain valid JSON
+     */
+    public Result<Catalog> read(Path file) throws IOException {
+        Result<Catalog> streamed;
+        try (var parser = objectMapper.getFactory().createParser(Files.newInputStream(file))) {
+            streamed = readStreaming(parser);
+        }
+        if (streamed != null) {
+            return streamed;
+        }
+        try (var in = Files.newInputStream(file)) {
+            return expandAndTransform(objectMapper.readValue(in, JsonObject.class));
+        }
+    }
+
+    /**
+     * Reads the catalog by parsing, expanding and transforming the complete document.
+     */
+    public Result<Catalog> readFully(byte[] bytes) throws IOException {
+        return expandAndTransform(objectMapper.readValue(bytes, JsonObject.class));
+    }
+
+    private Result<Catalog> expandAndTransform(JsonObject catalogJsonObject) {
+        return jsonLdService.expand(catalogJsonObject)
+                .compose(expandedJson -> transformerRegistry.transform(expandedJson, Catalog.class));
+    }
+
+    /**
+     * Returns null if the document has a structure that cannot be streamed.
+     */
+    private @Nullable Result<Catalog> readStreaming(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            return null;
+        }
+        JsonValue context = null;
+        var skeleton = Json.createObjectBuilder();
+        var datasets = new ArrayList<Dataset>();
+        var first = true;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            var key = parser.currentName();
+            var token = parser.nextToken();
+            if (CONTEXT.equals(key)) {
+                if (!first) {
+                    // the properties that were read before may expand differently with the context
+                    return null;
+                }
+                context = objectMapper.readValue(parser, JsonValue.class);
+                skeleton.add(CONTEXT, context);
+            } else if ((token == JsonToken.START_ARRAY || token == JsonToken.START_OBJECT) && isDatasetProperty(key, context)) {
+                var result = token == JsonToken.START_ARRAY ?
+                        readDatasets(parser, key, context, datasets) :
+                        readDataset(objectMapper.readValue(parser, JsonObject.class), key, context, datasets);
+                if (result == null || result.failed()) {
+                    return result == null ? null : Result.failure(result.getFailureMessages());
+                }
+            } else {
+                skeleton.add(key, objectMapper.readValue(parser, JsonValue.class));
+            }
+            first = false;
+        }
+
+        return expansionCache.expand(skeleton.build())
+                .compose(expandedJson -> transformerRegistry.transform(expandedJson, Catalog.class))
+                .map(catalog -> withDatasets(catalog, datasets));
+    }
+
+    private @Nullable Result<Void> readDatasets(JsonParser parser, String key, @Nullable JsonValue context, List<Dataset> datasets) throws IOException {
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.currentToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            var result = readDataset(objectMapper.readValue(parser, JsonObject.class), key, context, datasets);
+            if (result == null || result.failed()) {
+                return result;
+            }
+        }
+        return Result.success();
+    }
+
+    /**
+     * Expands a single dataset entry under the same property and with the same context as in the document, so that scoped
+     * contexts and type coercions apply exactly as they would for the whole document.
+     */
+    private @Nullable Result<Void> readDataset(JsonObject entry, String key, @Nullable JsonValue context, List<Dataset> datasets) {
+        var document = Json.createObjectBuilder();
+        if (context != null) {
+            document.add(CONTEXT, context);
+        }
+        var expanded = expansionCache.expand(document.add(key, Json.createArrayBuilder().add(entry)).build());
+        if (expanded.failed()) {
+            return Result.failure(expanded.getFailureMessages());
+        }
+        var values = expanded.getContent().get(DCAT_DATASET_ATTRIBUTE);
+        if (values == null || values.getValueType() != JsonValue.ValueType.ARRAY || values.asJsonArray().size() != 1 ||
+                values.asJsonArray().get(0).getValueType() != JsonValue.ValueType.OBJECT) {
+            return null;
+        }
+        var dataset = transformerRegistry.transform(values.asJsonArray().getJsonObject(0), Dataset.class);
+        if (dataset.failed()) {
+            return Result.failure(dataset.getFailureMessages());
+        }
+        datasets.add(dataset.getContent());
+        return Result.success();
+    }
+
+    /**
+     * Whether the key expands to {@code dcat:dataset} with the given context. The probe goes through the expansion cache, so it
+     * is expanded only once per context and key.
+     */
+    private boolean isDatasetProperty(String key, @Nullable JsonValue context) {
+        if (DCAT_DATASET_ATTRIBUTE.equals(key)) {
+            return true;
+        }
+        if (key.startsWith("@")) {
+            return false;
+        }
+        var probe = Json.createObjectBuilder();
+        if (context != null) {
+            probe.add(CONTEXT, context);
+        }
+        var expanded = expansionCache.expand(probe.add(key, Json.createObjectBuilder().add(ID, PROBE_ID)).build());
+        return expanded.succeeded() && expanded.getContent().containsKey(DCAT_DATASET_ATTRIBUTE);
+    }
+
+    private Catalog withDatasets(Catalog catalog, List<Dataset> datasets) {
+        return Catalog.Builder.newInstance()
+                .id(catalog.getId())
+                .participantId(catalog.getParticipantId())
+                .properties(ofNullable(catalog.getProperties()).orElseGet(HashMap::new))
+                .dataServices(ofNullable(catalog.getDataServices()).<List<DataService>>map(ArrayList::new).orElseGet(ArrayList::new))
+                .distributions(ofNullable(catalog.getDistributions()).<List<Distribution>>map(ArrayList::new).orElseGet(ArrayList::new))
+                .datasets(ofNullable(catalog.getDatasets()).orElseGet(List::of))
+                .datasets(datasets)
+                .build();
+    }
+}
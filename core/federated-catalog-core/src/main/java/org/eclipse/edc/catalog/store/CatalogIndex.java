@@ -0,0 +1,193 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.catalog.store;
+
+import org.eclipse.edc.catalog.spi.CatalogConstants;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.util.reflection.ReflectionUtil;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Hash indexes over string-valued properties of the cached {@link Catalog}s, by the property path that is used as left
+ * operand of a {@link Criterion}, e.g. {@code participantId} or {@code properties.name}. Criteria with the {@code =} or
+ * {@code in} operator on an indexed path are answered by a lookup, all other criteria are left to the query resolver.
+ * <p>
+ * Catalogs whose value at an indexed path is neither a string nor null, e.g. a list, cannot be looked up by that path. As long
+ * as there are such catalogs, they are returned as candidates of every lookup by that path, and the criterion is evaluated by
+ * the query resolver as well.
+ * <p>
+ * This class is not thread-safe, all access must be guarded by the lock of the cache.
+ */
+public class CatalogIndex {
+
+    /**
+     * The paths that are indexed by default: the catalog ID, the participant ID and the originator.
+     */
+    public static final List<String> DEFAULT_PATHS = List.of("id", "participantId", "properties.'" + CatalogConstants.PROPERTY_ORIGINATOR + "'");
+
+    private final Map<String, Map<String, Set<String>>> indexes = new HashMap<>();
+    private final Map<String, Set<String>> unindexable = new HashMap<>();
+
+    public CatalogIndex(Collection<String> paths) {
+        paths.forEach(path -> {
+            indexes.put(path, new HashMap<>());
+            unindexable.put(path, new HashSet<>());
+        });
+    }
+
+    public boolean isEmpty() {
+        return indexes.isEmpty();
+    }
+
+    /**
+     * Adds a catalog to all indexes.
+     *
+     * @param key     the key of the catalog in the cache
+     * @param catalog the catalog
+     */
+    public void add(String key, Catalog catalog) {
+        indexes.forEach((path, index) -> {
+            var value = valueOf(catalog, path);
+            if (value instanceof String string) {
+                index.computeIfAbsent(string, v -> new HashSet<>()).add(key);
+            } else if (value != null) {
+                unindexable.get(path).add(key);
+            }
+        });
+    }
+
+    /**
+     * Removes a catalog from all indexes.
+     *
+     * @param key     the key of the catalog in the cache
+     * @param catalog the catalog that was added with that key
+     */
+    public void remove(String key, Catalog catalog) {
+        indexes.forEach((path, index) -> {
+            var value = valueOf(catalog, path);
+            if (value instanceof String string) {
+                var keys = index.get(string);
+                if (keys != null && keys.remove(key) && keys.isEmpty()) {
+                    index.remove(string);
+                }
+            } else if (value != null) {
+                unindexable.get(path).remove(key);
+            }
+        });
+    }
+
+    /**
+     * Answers the criteria of the given query that can be looked up.
+     *
+     * @return the keys of all catalogs that can match the query, and the query that must still be evaluated on them, or null if
+     *         no criterion of the query can be looked up
+     */
+    public @Nullable Lookup lookup(QuerySpec query) {
+        Set<String> candidates = null;
+        var remaining = new ArrayList<Criterion>();
+        for (var criterion : query.getFilterExpression()) {
+            var keys = lookup(criterion);
+            if (keys == null) {
+                remaining.add(criterion);
+                continue;
+            }
+            var unlookable = unindexable.get(criterion.getOperandLeft().toString());
+            if (!unlookable.isEmpty()) {
+                keys.addAll(unlookable);
+                remaining.add(criterion);
+            }
+            if (candidates == null) {
+                candidates = keys;
+            } else {
+                candidates.retainAll(keys);
+            }
+        }
+        if (candidates == null) {
+            return null;
+        }
+        var remainingQuery = QuerySpec.Builder.newInstance()
+                .offset(query.getOffset())
+                .limit(query.getLimit())
+                .sortField(query.getSortField())
+                .sortOrder(query.getSortOrder())
+                .filter(remaining)
+                .build();
+        return new Lookup(candidates, remainingQuery);
+    }
+
+    /**
+     * Returns the keys of the catalogs that match a criterion, or null if the criterion cannot be looked up. The returned set
+     * is a copy.
+     */
+    private @Nullable Set<String> lookup(Criterion criterion) {
+        if (criterion.getOperandLeft() == null) {
+            return null;
+        }
+        var index = indexes.get(criterion.getOperandLeft().toString());
+        if (index == null) {
+            return null;
+        }
+        var operator = criterion.getOperator();
+        var operand = criterion.getOperandRight();
+        if ("=".equals(operator) && operand instanceof String value) {
+            return new LinkedHashSet<>(index.getOrDefault(value, Set.of()));
+        }
+        if ("in".equalsIgnoreCase(operator) && operand instanceof Collection<?> values && values.stream().allMatch(String.class::isInstance)) {
+            var keys = new LinkedHashSet<String>();
+            values.forEach(value -> keys.addAll(index.getOrDefault((String) value, Set.of())));
+            return keys;
+        }
+        return null;
+    }
+
+    /**
+     * Resolves a path the same way as the query resolver does, so that a lookup matches exactly the catalogs that the resolver
+     * would match.
+     */
+    private @Nullable Object valueOf(Catalog catalog, String path) {
+        return switch (path) {
+            case "id" -> catalog.getId();
+            case "participantId" -> catalog.getParticipantId();
+            default -> {
+                try {
+                    yield ReflectionUtil.getFieldValue(catalog, path);
+                } catch (RuntimeException e) {
+                    // cannot be resolved for this catalog, so the criterion is left to the query resolver
+                    yield catalog;
+                }
+            }
+        };
+    }
+
+    /**
+     * The result of a lookup.
+     *
+     * @param keys      the keys of all catalogs that can match the query
+     * @param remaining the query that must still be evaluated on these catalogs, without the criteria that were looked up
+     */
+    public record Lookup(Set<String> keys, QuerySpec remaining) {
+    }
+}
@@ -0,0 +1,338 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.catalog.store;
+
+import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
+import org.eclipse.edc.spi.query.QueryResolver;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.query.SortOrder;
+import org.eclipse.edc.store.ReflectionBasedQueryResolver;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Evaluates a {@link QuerySpec} on {@link Catalog}s like the {@link ReflectionBasedQueryResolver}, but without resolving the
+ * property paths by reflection for every catalog. Instead, every path is compiled once into a chain of {@link MethodHandle}s
+ * that read the fields along the path, and every query is compiled into a {@link Predicate} per criterion and a
+ * {@link Comparator} for sorting. Compiled plans are cached by the shape of the query, i.e. its paths, operators and sorting,
+ * and only bound to the operands of every query. At most {@code maxCachedPlans} plans are cached, the least recently used
+ * one is evicted, and so is the accessor of the least recently used path.
+ * <p>
+ * Only the {@code =}, {@code !=} and {@code in} operators on paths that do not traverse a collection are compiled, and only
+ * for string values and string operands. Everything else, including the rare catalogs with other values at a compiled path, is evaluated by the
+ * {@link CriterionOperatorRegistry}, so that the results are always the same as those of the query resolver.
+ */
+public class CatalogQueryCompiler {
+
+    private static final int DEFAULT_MAX_CACHED_PLANS = 1024;
+
+    private final CriterionOperatorRegistry criterionOperatorRegistry;
+    private final QueryResolver<Catalog> fallback;
+    private final Map<Shape, Plan> plans;
+    private final Map<String, Optional<Accessor>> accessors;
+
+    public CatalogQueryCompiler(CriterionOperatorRegistry criterionOperatorRegistry) {
+        this(criterionOperatorRegistry, DEFAULT_MAX_CACHED_PLANS);
+    }
+
+    public CatalogQueryCompiler(CriterionOperatorRegistry criterionOperatorRegistry, int maxCachedPlans) {
+        this.criterionOperatorRegistry = criterionOperatorRegistry;
+        fallback = new ReflectionBasedQueryResolver<>(Catalog.class, criterionOperatorRegistry);
+        plans = leastRecentlyUsed(Math.max(1, maxCachedPlans));
+        accessors = leastRecentlyUsed(Math.max(1, maxCachedPlans));
+    }
+
+    /**
+     * Filters, sorts and pages the given catalogs according to the query.
+     */
+    public Stream<Catalog> query(Stream<Catalog> catalogs, QuerySpec query) {
+        var shape = Shape.of(query);
+        var plan = plans.get(shape);
+        if (plan == null) {
+            plan = compile(query);
+            plans.put(shape, plan);
+        }
+        return execute(plan, catalogs, query);
+    }
+
+    /**
+     * The number of cached plans.
+     */
+    public int getPlanCount() {
+        return plans.size();
+    }
+
+    private Stream<Catalog> execute(Plan plan, Stream<Catalog> catalogs, QuerySpec query) {
+        if (plan.fallback()) {
+            return fallback.query(catalogs, query);
+        }
+        var criteria = query.getFilterExpression();
+        Predicate<Catalog> predicate = catalog -> true;
+        for (var i = 0; i < criteria.size(); i++) {
+            predicate = predicate.and(plan.templates().get(i).bind(criteria.get(i)));
+        }
+        var result = catalogs.filter(predicate);
+        if (plan.comparator() != null) {
+            result = result.sorted(plan.comparator());
+        }
+        return result.skip(query.getOffset()).limit(query.getLimit());
+    }
+
+    private Plan compile(QuerySpec query) {
+        Comparator<Catalog> comparator = null;
+        var sortField = query.getSortField();
+        if (sortField != null && !sortField.isBlank()) {
+            var accessor = accessorOf(sortField);
+            if (accessor == null) {
+                return new Plan(null, null, true);
+            }
+            comparator = comparatorOf(sortField, accessor, query.getSortOrder() != SortOrder.DESC);
+        }
+        var templates = query.getFilterExpression().stream()
+                .map(this::templateOf)
+                .toList();
+        return new Plan(templates, comparator, false);
+    }
+
+    private CriterionTemplate templateOf(Criterion criterion) {
+        var operator = Operator.of(criterion.getOperator());
+        var accessor = criterion.getOperandLeft() == null ? null : accessorOf(criterion.getOperandLeft().toString());
+        if (operator == null || accessor == null) {
+            return c -> criterionOperatorRegistry.toPredicate(c);
+        }
+        return c -> {
+            Predicate<Catalog> fallbackPredicate = criterionOperatorRegistry.toPredicate(c);
+            var operand = c.getOperandRight();
+            return catalog -> {
+                var value = accessor.get(catalog);
+                if (!(value instanceof String string)) {
+                    return fallbackPredicate.test(catalog);
+                }
+                var result = operator.test(string, operand);
+                return result == null ? fallbackPredicate.test(catalog) : result;
+            };
+        };
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private Comparator<Catalog> comparatorOf(String sortField, Accessor accessor, boolean ascending) {
+        return (c1, c2) -> {
+            var o1 = accessor.get(c1);
+            var o2 = accessor.get(c2);
+            if (o1 == null || o2 == null) {
+                return 0;
+            }
+            if (!(o1 instanceof Comparable comparable)) {
+                throw new IllegalArgumentException("A property '%s' is not comparable!".formatted(sortField));
+            }
+            var comparison = comparable.compareTo(o2);
+            return ascending ? comparison : -comparison;
+        };
+    }
+
+    private @Nullable Accessor accessorOf(String path) {
+        var accessor = accessors.get(path);
+        if (accessor == null) {
+            accessor = Optional.ofNullable(compileAccessor(path));
+            accessors.put(path, accessor);
+        }
+        return accessor.orElse(null);
+    }
+
+    /**
+     * Creates a thread-safe map that holds at most {@code maxEntries} entries and evicts the least recently used one.
+     */
+    private static <K, V> Map<K, V> leastRecentlyUsed(int maxEntries) {
+        return Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    /**
+     * Compiles a path into the field accessors along the path, starting at {@link Catalog}. Returns null if the path cannot be
+     * compiled, e.g. because it traverses a collection or a map value of unknown type, or contains quoted segments.
+     */
+    private @Nullable Accessor compileAccessor(String path) {
+        if (path.isBlank() || path.contains("'")) {
+            return null;
+        }
+        var segments = path.split("\\.");
+        var steps = new ArrayList<Step>(segments.length);
+        Class<?> type = Catalog.class;
+        for (var i = 0; i < segments.length; i++) {
+            var last = i == segments.length - 1;
+            if (Map.class.isAssignableFrom(type)) {
+                if (!last) {
+                    return null;
+                }
+                steps.add(new Step(null, segments[i]));
+                break;
+            }
+            var field = findField(type, segments[i]);
+            if (field == null) {
+                return null;
+            }
+            type = field.getType();
+            if (!last && (Collection.class.isAssignableFrom(type) || type.isArray() || type == Object.class)) {
+                return null;
+            }
+            try {
+                field.setAccessible(true);
+                var getter = MethodHandles.lookup().unreflectGetter(field).asType(MethodType.methodType(Object.class, Object.class));
+                steps.add(new Step(getter, null));
+            } catch (IllegalAccessException | RuntimeException e) {
+                return null;
+            }
+        }
+        return new Accessor(steps);
+    }
+
+    private @Nullable Field findField(Class<?> type, String name) {
+        for (var current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            try {
+                return current.getDeclaredField(name);
+            } catch (NoSuchFieldException e) {
+                // continue with the superclass
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The operators that are compiled. Returns null from {@link #test(String, Object)} if the operand is not supported, in which
+     * case the criterion is evaluated by the {@link CriterionOperatorRegistry}.
+     */
+    private enum Operator {
+        EQUAL {
+            @Override
+            Boolean test(String value, Object operand) {
+                return operand instanceof String ? value.equals(operand) : null;
+            }
+        },
+        NOT_EQUAL {
+            @Override
+            Boolean test(String value, Object operand) {
+                return operand instanceof String ? !value.equals(operand) : null;
+            }
+        },
+        IN {
+            @Override
+            Boolean test(String value, Object operand) {
+                if (!(operand instanceof Iterable<?> values)) {
+                    return null;
+                }
+                var found = false;
+                for (var candidate : values) {
+                    if (!(candidate instanceof String)) {
+                        return null;
+                    }
+                    found |= value.equals(candidate);
+                }
+                return found;
+            }
+        };
+
+        static @Nullable Operator of(String operator) {
+            return switch (operator) {
+                case "=" -> EQUAL;
+                case "!=" -> NOT_EQUAL;
+                case "in" -> IN;
+                default -> null;
+            };
+        }
+
+        abstract @Nullable Boolean test(String value, Object operand);
+    }
+
+    /**
+     * Creates the predicate of a criterion with the given shape, bound to its operand.
+     */
+    @FunctionalInterface
+    private interface CriterionTemplate {
+        Predicate<Catalog> bind(Criterion criterion);
+    }
+
+    /**
+     * A compiled query.
+     *
+     * @param templates  the criteria templates, in the order of the filter expression
+     * @param comparator the comparator of the sort field, null if the query is not sorted
+     * @param fallback   whether the query cannot be compiled and is evaluated by the query resolver
+     */
+    private record Plan(List<CriterionTemplate> templates, Comparator<Catalog> comparator, boolean fallback) {
+    }
+
+    private record Step(MethodHandle getter, String key) {
+    }
+
+    /**
+     * Reads the value at a compiled path.
+     */
+    private record Accessor(List<Step> steps) {
+        Object get(Object root) {
+            var current = root;
+            for (var step : steps) {
+                if (current == null) {
+                    return null;
+                }
+                if (step.getter() == null) {
+                    current = ((Map<?, ?>) current).get(step.key());
+                } else {
+                    try {
+                        current = step.getter().invokeExact(current);
+                    } catch (Throwable e) {
+                        throw new EdcException("Cannot read property of %s".formatted(current.getClass().getSimpleName()), e);
+                    }
+                }
+            }
+            return current;
+        }
+    }
+
+    /**
+     * The shape of a query, i.e. everything but the operands of its criteria and its paging.
+     */
+    private record Shape(List<CriterionShape> criteria, String sortField, SortOrder sortOrder) {
+        static Shape of(QuerySpec query) {
+            var criteria = query.getFilterExpression().stream()
+                    .map(c -> new CriterionShape(c.getOperandLeft(), c.getOperator()))
+                    .toList();
+            return new Shape(criteria, query.getSortField(), query.getSortOrder());
+        }
+    }
+
+    private record CriterionShape(Object left, String operator) {
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.catalog.store;
+
+import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * An immutable snapshot of the catalogs of the {@link InMemoryFederatedCatalogCache}, keyed by their cache id. The catalogs are
+ * held in a persistent balanced search tree: a new snapshot only copies the nodes on the paths to the keys that changed, i.e.
+ * O(log n) nodes per changed key, and shares all other nodes with its predecessor. Catalogs are iterated in the order of their
+ * keys, so that paging over unchanged catalogs is repeatable across snapshots.
+ */
+final class CatalogSnapshot {
+
+    static final CatalogSnapshot EMPTY = new CatalogSnapshot(null);
+
+    private final Node root;
+
+    private CatalogSnapshot(@Nullable Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns a new snapshot with the given catalogs added or replaced and the given keys removed. Returns this snapshot if
+     * there are no changes.
+     */
+    CatalogSnapshot with(Map<String, Catalog> puts, Collection<String> removals) {
+        var newRoot = root;
+        for (var key : removals) {
+            newRoot = remove(newRoot, key);
+        }
+        for (var entry : puts.entrySet()) {
+            newRoot = put(newRoot, entry.getKey(), entry.getValue());
+        }
+        return newRoot == root ? this : new CatalogSnapshot(newRoot);
+    }
+
+    Stream<Catalog> values() {
+        var spliterator = Spliterators.spliterator(new InOrder(root), size(),
+                Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE);
+        return StreamSupport.stream(spliterator, false);
+    }
+
+    @Nullable
+    Catalog get(String key) {
+        var node = root;
+        while (node != null) {
+            var comparison = key.compareTo(node.key);
+            if (comparison == 0) {
+                return node.value;
+            }
+            node = comparison < 0 ? node.left : node.right;
+        }
+        return null;
+    }
+
+    int size() {
+        return sizeOf(root);
+    }
+
+    private static Node put(@Nullable Node node, String key, Catalog value) {
+        if (node == null) {
+            return new Node(key, value, null, null);
+        }
+        var comparison = key.compareTo(node.key);
+        if (comparison == 0) {
+            return node.value == value ? node : new Node(key, value, node.left, node.right);
+        }
+        if (comparison < 0) {
+            var left = put(node.left, key, value);
+            return left == node.left ? node : balance(node.key, node.value, left, node.right);
+        }
+        var right = put(node.right, key, value);
+        return right == node.right ? node : balance(node.key, node.value, node.left, right);
+    }
+
+    private static @Nullable Node remove(@Nullable Node node, String key) {
+        if (node == null) {
+            return null;
+        }
+        var comparison = key.compareTo(node.key);
+        if (comparison < 0) {
+            var left = remove(node.left, key);
+            return left == node.left ? node : balance(node.key, node.value, left, node.right);
+        }
+        if (comparison > 0) {
+            var right = remove(node.right, key);
+            return right == node.right ? node : balance(node.key, node.value, node.left, right);
+        }
+        if (node.left == null) {
+            return node.right;
+        }
+        if (node.right == null) {
+            return node.left;
+        }
+        var successor = node.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        return balance(successor.key, successor.value, node.left, removeFirst(node.right));
+    }
+
+    private static @Nullable Node removeFirst(Node node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        return balance(node.key, node.value, removeFirst(node.left), node.right);
+    }
+
+    /**
+     * Creates a node from the given key, value and subtrees, whose heights differ by at most two, and rotates it so that
+     * they differ by at most one.
+     */
+    private static Node balance(String key, Catalog value, @Nullable Node left, @Nullable Node right) {
+        var leftHeight = heightOf(left);
+        var rightHeight = heightOf(right);
+        if (leftHeight > rightHeight + 1) {
+            if (heightOf(left.left) >= heightOf(left.right)) {
+                return new Node(left.key, left.value, left.left, new Node(key, value, left.right, right));
+            }
+            var pivot = left.right;
+            return new Node(pivot.key, pivot.value, new Node(left.key, left.value, left.left, pivot.left), new Node(key, value, pivot.right, right));
+        }
+        if (rightHeight > leftHeight + 1) {
+            if (heightOf(right.right) >= heightOf(right.left)) {
+                return new Node(right.key, right.value, new Node(key, value, left, right.left), right.right);
+            }
+            var pivot = right.left;
+            return new Node(pivot.key, pivot.value, new Node(key, value, left, pivot.left), new Node(right.key, right.value, pivot.right, right.right));
+        }
+        return new Node(key, value, left, right);
+    }
+
+    private static int heightOf(@Nullable Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static int sizeOf(@Nullable Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static final class Node {
+        private final String key;
+        private final Catalog value;
+        private final Node left;
+        private final Node right;
+        private final int height;
+        private final int size;
+
+        private Node(String key, Catalog value, @Nullable Node left, @Nullable Node right) {
+            this.key = key;
+            this.value = value;
+            this.left = left;
+            this.right = right;
+            height = Math.max(heightOf(left), heightOf(right)) + 1;
+            size = sizeOf(left) + sizeOf(right) + 1;
+        }
+    }
+
+    /**
+     * Iterates the values of a tree in the order of their keys.
+     */
+    private static final class InOrder implements Iterator<Catalog> {
+        private final Deque<Node> path = new ArrayDeque<>();
+
+        private InOrder(@Nullable Node root) {
+            descend(root);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !path.isEmpty();
+        }
+
+        @Override
+        public Catalog next() {
+            if (path.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            var node = path.pop();
+            descend(node.right);
+            return node.value;
+        }
+
+        private void descend(@Nullable Node node) {
+            for (var current = node; current != null; current = current.left) {
+                path.push(current);
+            }
+        }
+    }
+}
@@ -0,0 +1,269 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.catalog.store;
+
+import org.eclipse.edc.catalog.spi.model.DatasetMatch;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import static org.eclipse.edc.jsonld.spi.Namespaces.DCAT_SCHEMA;
+import static org.eclipse.edc.jsonld.spi.Namespaces.DCT_SCHEMA;
+
+/**
+ * Inverted index over the datasets of the cached {@link Catalog}s, including the datasets of sub-catalogs. Every dataset is
+ * indexed by its ID and by the tokens of its searchable properties, i.e. the words of their string values, in lower case.
+ * <p>
+ * A search only intersects the posting lists of its keywords, starting with the shortest one, so that its cost does not
+ * depend on the number of indexed datasets, but on the number of datasets that contain the rarest keyword.
+ * <p>
+ * This class is not thread-safe, all access must be guarded by the lock of the cache.
+ */
+public class DatasetIndex {
+
+    /**
+     * The properties that are searchable by default: the title, description, identifier, keywords and themes of a dataset.
+     */
+    public static final List<String> DEFAULT_PROPERTIES = List.of(DCT_SCHEMA + "title", DCT_SCHEMA + "description", DCT_SCHEMA + "identifier",
+            DCAT_SCHEMA + "keyword", DCAT_SCHEMA + "theme");
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern KEYWORD_SEPARATOR = Pattern.compile("\\s+");
+
+    private final List<String> properties;
+    private final Map<String, Set<Entry>> postings = new HashMap<>();
+    private final Map<String, List<Entry>> entriesByKey = new HashMap<>();
+    private long nextSequence;
+
+    /**
+     * Creates an index.
+     *
+     * @param properties the properties of the datasets whose values are searchable, e.g. {@link #DEFAULT_PROPERTIES}
+     */
+    public DatasetIndex(Collection<String> properties) {
+        this.properties = List.copyOf(properties);
+    }
+
+    /**
+     * Indexes the datasets of a catalog, replacing those that were indexed with the same key before.
+     *
+     * @param key     the key of the catalog in the cache
+     * @param catalog the catalog
+     */
+    public void add(String key, Catalog catalog) {
+        remove(key);
+        var entries = new ArrayList<Entry>();
+        collect(catalog, entries);
+        for (var entry : entries) {
+            entry.sequence = nextSequence++;
+            entry.tokens.forEach(token -> postings.computeIfAbsent(token, t -> new LinkedHashSet<>()).add(entry));
+        }
+        entriesByKey.put(key, entries);
+    }
+
+    /**
+     * Removes the datasets of the catalog with the given key from the index.
+     */
+    public void remove(String key) {
+        var entries = entriesByKey.remove(key);
+        if (entries == null) {
+            return;
+        }
+        for (var entry : entries) {
+            entry.tokens.forEach(token -> {
+                var posting = postings.get(token);
+                if (posting != null && posting.remove(entry) && posting.isEmpty()) {
+                    postings.remove(token);
+                }
+            });
+        }
+    }
+
+    /**
+     * Returns the datasets that contain all given keywords. A keyword matches a dataset if it equals the ID of the dataset, or
+     * if all its tokens occur in the ID or the searchable properties of the dataset. Matches are returned in the order in which
+     * they were indexed.
+     *
+     * @param keywords the keywords, separated by whitespace
+     * @param offset   the number of matches to skip
+     * @param limit    the maximum number of matches to return
+     */
+    public List<DatasetMatch> search(String keywords, int offset, int limit) {
+        var required = new ArrayList<Set<Entry>>();
+        for (var keyword : KEYWORD_SEPARATOR.split(keywords.trim())) {
+            var lowerCase = keyword.toLowerCase(Locale.ROOT);
+            var exact = postings.getOrDefault(lowerCase, Set.of());
+            var tokens = tokenize(keyword);
+            if (exact.isEmpty() && tokens.isEmpty()) {
+                continue;
+            }
+            var matching = tokens.equals(List.of(lowerCase)) ? exact : union(exact, intersection(tokens));
+            if (matching.isEmpty()) {
+                return List.of();
+            }
+            required.add(matching);
+        }
+        if (required.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        required.sort(Comparator.comparingInt(Set::size));
+
+        var shortest = required.get(0);
+        var others = required.subList(1, required.size());
+        var matches = new ArrayList<DatasetMatch>(Math.min(limit, shortest.size()));
+        var skipped = 0;
+        for (var entry : shortest) {
+            if (others.stream().allMatch(posting -> posting.contains(entry))) {
+                if (skipped++ < offset) {
+                    continue;
+                }
+                matches.add(new DatasetMatch(entry.catalogId, entry.dataset));
+                if (matches.size() == limit) {
+                    break;
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * The number of distinct tokens in the index.
+     */
+    public int getTokenCount() {
+        return postings.size();
+    }
+
+    /**
+     * Returns the entries that contain all given tokens, in the order in which they were indexed.
+     */
+    private Set<Entry> intersection(List<String> tokens) {
+        var required = new ArrayList<Set<Entry>>();
+        for (var token : tokens) {
+            var posting = postings.get(token);
+            if (posting == null) {
+                return Set.of();
+            }
+            required.add(posting);
+        }
+        if (required.isEmpty()) {
+            return Set.of();
+        }
+        if (required.size() == 1) {
+            return required.get(0);
+        }
+        required.sort(Comparator.comparingInt(Set::size));
+        var others = required.subList(1, required.size());
+        var result = new LinkedHashSet<Entry>();
+        for (var entry : required.get(0)) {
+            if (others.stream().allMatch(posting -> posting.contains(entry))) {
+                result.add(entry);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the entries of both sets, in the order in which they were indexed.
+     */
+    private static Set<Entry> union(Set<Entry> first, Set<Entry> second) {
+        if (first.isEmpty()) {
+            return second;
+        }
+        if (second.isEmpty()) {
+            return first;
+        }
+        var entries = new ArrayList<>(first);
+        second.stream().filter(entry -> !first.contains(entry)).forEach(entries::add);
+        entries.sort(Comparator.comparingLong(entry -> entry.sequence));
+        return new LinkedHashSet<>(entries);
+    }
+
+    private void collect(Catalog catalog, List<Entry> entries) {
+        if (catalog.getDatasets() == null) {
+            return;
+        }
+        for (var dataset : catalog.getDatasets()) {
+            if (dataset instanceof Catalog subCatalog) {
+                collect(subCatalog, entries);
+            } else {
+                entries.add(new Entry(catalog.getId(), dataset, tokensOf(dataset)));
+            }
+        }
+    }
+
+    private Set<String> tokensOf(Dataset dataset) {
+        var tokens = new LinkedHashSet<String>();
+        if (dataset.getId() != null) {
+            tokens.add(dataset.getId().toLowerCase(Locale.ROOT));
+            tokens.addAll(tokenize(dataset.getId()));
+        }
+        var datasetProperties = dataset.getProperties();
+        if (datasetProperties != null) {
+            properties.forEach(property -> addTokens(datasetProperties.get(property), tokens));
+        }
+        return tokens;
+    }
+
+    /**
+     * Adds the tokens of a property value, which is either a string, a number, or a list or map of such values.
+     */
+    private void addTokens(Object value, Set<String> tokens) {
+        if (value instanceof String string) {
+            tokens.addAll(tokenize(string));
+        } else if (value instanceof Number || value instanceof Boolean) {
+            tokens.add(value.toString().toLowerCase(Locale.ROOT));
+        } else if (value instanceof Collection<?> collection) {
+            collection.forEach(element -> addTokens(element, tokens));
+        } else if (value instanceof Map<?, ?> map) {
+            map.values().forEach(element -> addTokens(element, tokens));
+        }
+    }
+
+    private static List<String> tokenize(String text) {
+        var tokens = new ArrayList<String>();
+        for (var token : TOKEN_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * An indexed dataset. Entries are compared by identity, so that a dataset that is listed twice is indexed twice.
+     */
+    private static final class Entry {
+        private final String catalogId;
+        private final Dataset dataset;
+        private final Set<String> tokens;
+        private long sequence;
+
+        private Entry(String catalogId, Dataset dataset, Set<String> tokens) {
+            this.catalogId = catalogId;
+            this.dataset = dataset;
+            this.tokens = tokens;
+        }
+    }
+}
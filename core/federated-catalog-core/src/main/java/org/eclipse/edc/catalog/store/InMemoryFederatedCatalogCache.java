@@ -16,74 +16,292 @@ package org.eclipse.edc.catalog.store;
 
 import org.eclipse.edc.catalog.spi.CatalogConstants;
 import org.eclipse.edc.catalog.spi.FederatedCatalogCache;
+import org.eclipse.edc.catalog.spi.model.DatasetMatch;
 import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
 import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
-import org.eclipse.edc.spi.query.QueryResolver;
 import org.eclipse.edc.spi.query.QuerySpec;
-import org.eclipse.edc.store.ReflectionBasedQueryResolver;
+import org.eclipse.edc.spi.result.StoreResult;
 import org.eclipse.edc.util.concurrency.LockManager;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiPredicate;
 
 import static java.util.Optional.ofNullable;
 
 /**
- * An ephemeral in-memory cache store.
+ * An ephemeral in-memory cache store. Queries are evaluated by a {@link CatalogQueryCompiler}.
+ * <p>
+ * Optionally, string-valued properties of the catalogs are indexed in a {@link CatalogIndex}, so that queries with equality
+ * criteria on these properties only evaluate the catalogs that can match, instead of the whole cache. The datasets of the
+ * catalogs can also be indexed in a {@link DatasetIndex}, which supports {@link #searchDatasets(String, int, int)}.
+ * <p>
+ * Instead of marking every entry, {@link #expireAll()} only advances an expiry epoch, and every entry records the epoch during
+ * which it was last saved. Entries of an older epoch count as expired, and are removed incrementally by {@link #deleteExpired()}.
+ * Without indexes, expired entries are removed without locking, otherwise every batch of removals takes the write lock, which
+ * blocks queries briefly unless they are evaluated on snapshots.
+ * <p>
+ * In snapshot mode, every batch of writes publishes an immutable {@link CatalogSnapshot} of the cached catalogs, and queries
+ * are evaluated on the latest snapshot without taking any lock. A query thus never sees a mix of the catalogs before and
+ * after a batch of writes, or a partially purged cache, but it does not use the {@link CatalogIndex}, which only reflects the latest state.
  */
 public class InMemoryFederatedCatalogCache implements FederatedCatalogCache {
 
-    private final Map<String, MarkableEntry<Catalog>> cache = new ConcurrentHashMap<>();
+    private static final int PURGE_BATCH_SIZE = 256;
+
+    private final Map<String, CacheEntry<Catalog>> cache = new ConcurrentHashMap<>();
+    private final AtomicLong epoch = new AtomicLong();
     private final LockManager lockManager;
-    private final QueryResolver<Catalog> queryResolver;
+    private final CatalogQueryCompiler queryCompiler;
+    private final CatalogIndex index;
+    private final DatasetIndex datasetIndex;
+    private final boolean snapshotReads;
+    private final Map<String, Catalog> pendingPuts = new HashMap<>();
+    private volatile CatalogSnapshot snapshot = CatalogSnapshot.EMPTY;
 
 
     public InMemoryFederatedCatalogCache(LockManager lockManager, CriterionOperatorRegistry criterionOperatorRegistry) {
+        this(lockManager, criterionOperatorRegistry, List.of());
+    }
+
+    /**
+     * Creates a cache that indexes the given property paths of the catalogs.
+     *
+     * @param indexedPaths the property paths to index, e.g. {@link CatalogIndex#DEFAULT_PATHS}, empty to disable indexing
+     */
+    public InMemoryFederatedCatalogCache(LockManager lockManager, CriterionOperatorRegistry criterionOperatorRegistry, Collection<String> indexedPaths) {
+        this(lockManager, criterionOperatorRegistry, indexedPaths, null);
+    }
+
+    /**
+     * Creates a cache that indexes the given property paths of the catalogs, and their datasets in the given dataset index.
+     *
+     * @param indexedPaths the property paths to index, e.g. {@link CatalogIndex#DEFAULT_PATHS}, empty to disable indexing
+     * @param datasetIndex the index of the datasets, null to disable searching datasets
+     */
+    public InMemoryFederatedCatalogCache(LockManager lockManager, CriterionOperatorRegistry criterionOperatorRegistry, Collection<String> indexedPaths,
+                                         @Nullable DatasetIndex datasetIndex) {
+        this(lockManager, criterionOperatorRegistry, indexedPaths, datasetIndex, false);
+    }
+
+    /**
+     * Creates a cache that indexes the given property paths of the catalogs, and their datasets in the given dataset index.
+     *
+     * @param indexedPaths  the property paths to index, e.g. {@link CatalogIndex#DEFAULT_PATHS}, empty to disable indexing
+     * @param datasetIndex  the index of the datasets, null to disable searching datasets
+     * @param snapshotReads whether queries are evaluated on immutable snapshots without locking, instead of on the indexes
+     */
+    public InMemoryFederatedCatalogCache(LockManager lockManager, CriterionOperatorRegistry criterionOperatorRegistry, Collection<String> indexedPaths,
+                                         @Nullable DatasetIndex datasetIndex, boolean snapshotReads) {
         this.lockManager = lockManager;
-        queryResolver = new ReflectionBasedQueryResolver<>(Catalog.class, criterionOperatorRegistry);
+        queryCompiler = new CatalogQueryCompiler(criterionOperatorRegistry);
+        index = new CatalogIndex(indexedPaths);
+        this.datasetIndex = datasetIndex;
+        this.snapshotReads = snapshotReads;
     }
 
     @Override
     public void save(Catalog catalog) {
+        save(catalog, System.currentTimeMillis());
+    }
+
+    @Override
+    public void save(Catalog catalog, long generation) {
+        lockManager.writeLock(() -> {
+            put(catalog, generation);
+            publish();
+            return null;
+        });
+    }
+
+    @Override
+    public void saveAll(Collection<Catalog> catalogs, long generation) {
         lockManager.writeLock(() -> {
-            var id = ofNullable(catalog.getProperties().get(CatalogConstants.PROPERTY_ORIGINATOR))
-                    .map(Object::toString)
-                    .orElse(catalog.getId());
-            return cache.put(id, new MarkableEntry<>(false, catalog));
+            catalogs.forEach(catalog -> put(catalog, generation));
+            publish();
+            return null;
         });
     }
 
+    @Override
+    public boolean touch(String id, long generation) {
+        return lockManager.writeLock(() -> cache.computeIfPresent(id, (k, v) -> new CacheEntry<>(epoch.get(), generation, v.getEntry())) != null);
+    }
+
     @Override
     public Collection<Catalog> query(QuerySpec query) {
-        var catalogs = cache.values().stream().map(me -> me.entry);
-        return lockManager.readLock(() -> queryResolver.query(catalogs, query)).toList();
+        if (snapshotReads) {
+            return queryCompiler.query(snapshot.values(), query).toList();
+        }
+        return lockManager.readLock(() -> {
+            var lookup = index.isEmpty() ? null : index.lookup(query);
+            if (lookup == null) {
+                return queryCompiler.query(cache.values().stream().map(CacheEntry::getEntry), query).toList();
+            }
+            var candidates = lookup.keys().stream()
+                    .map(cache::get)
+                    .filter(Objects::nonNull)
+                    .map(CacheEntry::getEntry);
+            return queryCompiler.query(candidates, lookup.remaining()).toList();
+        });
+    }
+
+    @Override
+    public StoreResult<List<DatasetMatch>> searchDatasets(String keywords, int offset, int limit) {
+        if (datasetIndex == null) {
+            return FederatedCatalogCache.super.searchDatasets(keywords, offset, limit);
+        }
+        return StoreResult.success(lockManager.readLock(() -> datasetIndex.search(keywords, offset, limit)));
     }
 
     @Override
     public void deleteExpired() {
+        var current = epoch.get();
+        purge((id, entry) -> entry.getEpoch() < current);
+    }
+
+    @Override
+    public void deleteExpired(long generation) {
+        purge((id, entry) -> entry.getGeneration() < generation);
+    }
+
+    @Override
+    public void deleteExpired(long generation, Map<String, Long> retained) {
+        purge((id, entry) -> entry.getGeneration() < Math.min(generation, retained.getOrDefault(id, generation)));
+    }
+
+    @Override
+    public void expireAll() {
+        epoch.incrementAndGet();
+    }
+
+    private void put(Catalog catalog, long generation) {
+        var id = idOf(catalog);
+        var previous = cache.put(id, new CacheEntry<>(epoch.get(), generation, catalog));
+        if (previous != null) {
+            index.remove(id, previous.getEntry());
+        }
+        index.add(id, catalog);
+        if (datasetIndex != null) {
+            datasetIndex.add(id, catalog);
+        }
+        if (snapshotReads) {
+            pendingPuts.put(id, catalog);
+        }
+    }
+
+    /**
+     * Removes all entries that match the predicate. The cache is scanned without a lock, and only the entries that still hold
+     * the value that was found are removed, so entries that were saved again in the meantime are retained.
+     * <p>
+     * Without indexes, entries are removed from the concurrent map without any lock, so that queries are not blocked at all.
+     * Otherwise the indexes must be updated together with the map, so the entries are removed in batches of
+     * {@link #PURGE_BATCH_SIZE}, each under the write lock, and queries are only blocked briefly. Queries in snapshot mode do
+     * not take the lock and are never blocked.
+     * <p>
+     * In snapshot mode, a single snapshot without all removed entries is published at the end, so that queries never see a
+     * partially purged cache. Entries that were saved again before then are retained in the snapshot.
+     */
+    private void purge(BiPredicate<String, CacheEntry<Catalog>> predicate) {
+        var removed = new HashSet<String>();
+        var batch = new ArrayList<String>(PURGE_BATCH_SIZE);
+        for (var entry : cache.entrySet()) {
+            if (predicate.test(entry.getKey(), entry.getValue())) {
+                batch.add(entry.getKey());
+                if (batch.size() == PURGE_BATCH_SIZE) {
+                    removeAll(batch, predicate, removed);
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            removeAll(batch, predicate, removed);
+        }
+        if (snapshotReads && !removed.isEmpty()) {
+            lockManager.writeLock(() -> {
+                removed.removeIf(cache::containsKey);
+                snapshot = snapshot.with(Map.of(), removed);
+                return null;
+            });
+        }
+    }
+
+    private void removeAll(List<String> ids, BiPredicate<String, CacheEntry<Catalog>> predicate, Set<String> removed) {
+        if (index.isEmpty() && datasetIndex == null) {
+            for (var id : ids) {
+                var entry = cache.get(id);
+                if (entry != null && predicate.test(id, entry) && cache.remove(id, entry)) {
+                    removed.add(id);
+                }
+            }
+            return;
+        }
         lockManager.writeLock(() -> {
-            cache.values().removeIf(MarkableEntry::isMarked);
+            for (var id : ids) {
+                var entry = cache.get(id);
+                if (entry != null && predicate.test(id, entry) && cache.remove(id, entry)) {
+                    index.remove(id, entry.getEntry());
+                    if (datasetIndex != null) {
+                        datasetIndex.remove(id);
+                    }
+                    removed.add(id);
+                }
+            }
             return null;
         });
     }
 
-    @Override
-    public void expireAll() {
-        cache.replaceAll((k, v) -> new MarkableEntry<>(true, v.getEntry()));
+    /**
+     * Publishes a new snapshot with the writes of the current batch. Must be called under the write lock.
+     */
+    private void publish() {
+        if (snapshotReads) {
+            snapshot = snapshot.with(pendingPuts, List.of());
+            pendingPuts.clear();
+        }
     }
 
-    private static class MarkableEntry<B> {
+    private String idOf(Catalog catalog) {
+        return ofNullable(catalog.getProperties().get(CatalogConstants.PROPERTY_ORIGINATOR))
+                .map(Object::toString)
+                .orElse(catalog.getId());
+    }
+
+    /**
+     * A cached catalog.
+     *
+     * @param <B> the type of the cached object
+     */
+    private static class CacheEntry<B> {
         private final B entry;
-        private final boolean mark;
+        private final long epoch;
+        private final long generation;
 
-        MarkableEntry(boolean isMarked, B catalog) {
+        CacheEntry(long epoch, long generation, B catalog) {
             entry = catalog;
-            mark = isMarked;
+            this.epoch = epoch;
+            this.generation = generation;
+        }
+
+        /**
+         * The expiry epoch during which the entry was last saved. The entry is expired once {@link InMemoryFederatedCatalogCache#expireAll()} has advanced
+         * the epoch of the cache past this one.
+         */
+        public long getEpoch() {
+            return epoch;
         }
 
-        public boolean isMarked() {
-            return mark;
+        public long getGeneration() {
+            return generation;
         }
 
         public B getEntry() {
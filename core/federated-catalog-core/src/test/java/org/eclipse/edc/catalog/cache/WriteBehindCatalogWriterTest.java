@@ -0,0 +1,179 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.catalog.cache;
+
+import org.eclipse.edc.catalog.spi.FederatedCatalogCache;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
+import org.eclipse.edc.crawler.spi.CrawlerMetrics;
+import org.eclipse.edc.spi.EdcException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eclipse.edc.catalog.test.TestUtil.createCatalog;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class WriteBehindCatalogWriterTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private final FederatedCatalogCache store = mock();
+    private final List<Catalog> failed = new CopyOnWriteArrayList<>();
+    private WriteBehindCatalogWriter writer;
+
+    @AfterEach
+    void tearDown() {
+        if (writer != null) {
+            writer.stop(TIMEOUT);
+        }
+    }
+
+    @Test
+    void submit_shouldSaveFullBatchInOneCall() {
+        writer = writer(10, 3, Duration.ofMinutes(1));
+        writer.start();
+
+        writer.submit(createCatalog("catalog-1"), 1);
+        writer.submit(createCatalog("catalog-2"), 1);
+        writer.submit(createCatalog("catalog-3"), 1);
+
+        assertThat(writer.flush(TIMEOUT)).isTrue();
+        verify(store).saveAll(argThat(catalogs -> catalogs.size() == 3), eq(1L));
+    }
+
+    @Test
+    void submit_shouldSaveIncompleteBatchAfterDelay() {
+        writer = writer(10, 100, Duration.ofMillis(50));
+        writer.start();
+
+        writer.submit(createCatalog("catalog-1"), 1);
+
+        assertThat(writer.flush(TIMEOUT)).isTrue();
+        verify(store).saveAll(argThat(catalogs -> catalogs.size() == 1), eq(1L));
+    }
+
+    @Test
+    void submit_shouldSplitBatchByGeneration() {
+        writer = writer(10, 2, Duration.ofMinutes(1));
+        writer.start();
+
+        writer.submit(createCatalog("catalog-1"), 1);
+        writer.submit(createCatalog("catalog-2"), 2);
+
+        assertThat(writer.flush(TIMEOUT)).isTrue();
+        verify(store).saveAll(argThat(catalogs -> catalogs.size() == 1), eq(1L));
+        verify(store).saveAll(argThat(catalogs -> catalogs.size() == 1), eq(2L));
+    }
+
+    @Test
+    void submit_batchFails_shouldSaveOneByOne() {
+        doThrow(new EdcException("batch failed")).when(store).saveAll(anyCollection(), anyLong());
+        doThrow(new EdcException("single failed")).when(store).save(argThat(c -> c.getId().equals("catalog-1")), anyLong());
+        writer = writer(10, 2, Duration.ofMinutes(1));
+        writer.start();
+
+        writer.submit(createCatalog("catalog-1"), 1);
+        writer.submit(createCatalog("catalog-2"), 1);
+
+        assertThat(writer.flush(TIMEOUT)).isTrue();
+        verify(store, times(2)).save(any(), eq(1L));
+        assertThat(failed).extracting(Catalog::getId).containsExactly("catalog-1");
+    }
+
+    @Test
+    void submit_queueFull_shouldBlock() throws InterruptedException {
+        var saving = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        doAnswer(i -> {
+            saving.countDown();
+            release.await();
+            return null;
+        }).when(store).saveAll(anyCollection(), anyLong());
+        writer = writer(1, 1, Duration.ZERO);
+        writer.start();
+
+        writer.submit(createCatalog("catalog-1"), 1);
+        assertThat(saving.await(10, TimeUnit.SECONDS)).isTrue();
+        writer.submit(createCatalog("catalog-2"), 1);
+
+        var blocked = new Thread(() -> writer.submit(createCatalog("catalog-3"), 1));
+        blocked.start();
+        blocked.join(200);
+        assertThat(blocked.isAlive()).isTrue();
+
+        release.countDown();
+        blocked.join(TIMEOUT.toMillis());
+        assertThat(blocked.isAlive()).isFalse();
+        assertThat(writer.flush(TIMEOUT)).isTrue();
+        verify(store, times(3)).saveAll(anyCollection(), eq(1L));
+    }
+
+    @Test
+    void flush_pendingSave_shouldTimeOut() {
+        var release = new CountDownLatch(1);
+        doAnswer(i -> {
+            release.await();
+            return null;
+        }).when(store).saveAll(anyCollection(), anyLong());
+        writer = writer(10, 1, Duration.ZERO);
+        writer.start();
+
+        writer.submit(createCatalog("catalog-1"), 1);
+
+        assertThat(writer.flush(Duration.ofMillis(100))).isFalse();
+        release.countDown();
+        assertThat(writer.flush(TIMEOUT)).isTrue();
+    }
+
+    @Test
+    void stop_shouldSaveQueuedCatalogs() {
+        writer = writer(10, 5, Duration.ofMinutes(1));
+        writer.start();
+        writer.submit(createCatalog("catalog-1"), 1);
+
+        writer.stop(TIMEOUT);
+
+        verify(store).saveAll(argThat(catalogs -> catalogs.size() == 1), eq(1L));
+    }
+
+    @Test
+    void submit_notStarted_shouldThrow() {
+        writer = writer(10, 5, Duration.ofMinutes(1));
+
+        assertThatThrownBy(() -> writer.submit(createCatalog("catalog-1"), 1)).isInstanceOf(EdcException.class);
+        verify(store, never()).saveAll(anyCollection(), anyLong());
+    }
+
+    private WriteBehindCatalogWriter writer(int capacity, int batchSize, Duration maxDelay) {
+        return new WriteBehindCatalogWriter(store, capacity, batchSize, maxDelay, CrawlerMetrics.NOOP, mock(), failed::add);
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.catalog.cache.query;
+
+import org.eclipse.edc.catalog.cache.query.PagingCatalogFetcher.FetchResult;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptivePageSizerTest {
+
+    private static final String TARGET = "https://test.com/catalog";
+
+    private final AdaptivePageSizer sizer = new AdaptivePageSizer(100, 10, 400, Duration.ofSeconds(4), 4000);
+
+    @Test
+    void pageSize_unknownTarget_shouldBeInitial() {
+        assertThat(sizer.pageSize(TARGET)).isEqualTo(100);
+    }
+
+    @Test
+    void recordSuccess_fastSmallPages_shouldGrowUpToMax() {
+        for (var i = 0; i < 5; i++) {
+            sizer.recordSuccess(TARGET, sizer.pageSize(TARGET), result(3, Duration.ofSeconds(1), 1000));
+        }
+
+        assertThat(sizer.pageSize(TARGET)).isEqualTo(400);
+        assertThat(sizer.pageSize("https://other.com/catalog")).isEqualTo(100);
+    }
+
+    @Test
+    void recordSuccess_singlePage_shouldKeepPageSize() {
+        sizer.recordSuccess(TARGET, 100, result(1, Duration.ofSeconds(1), 1000));
+
+        assertThat(sizer.pageSize(TARGET)).isEqualTo(100);
+    }
+
+    @Test
+    void recordSuccess_withinTargets_shouldKeepPageSize() {
+        sizer.recordSuccess(TARGET, 100, result(3, Duration.ofSeconds(3), 1000));
+
+        assertThat(sizer.pageSize(TARGET)).isEqualTo(100);
+    }
+
+    @Test
+    void recordSuccess_slowPage_shouldShrink() {
+        sizer.recordSuccess(TARGET, 100, result(3, Duration.ofSeconds(5), 1000));
+
+        assertThat(sizer.pageSize(TARGET)).isEqualTo(50);
+    }
+
+    @Test
+    void recordSuccess_oversizedPage_shouldShrink() {
+        sizer.recordSuccess(TARGET, 100, result(1, Duration.ofSeconds(1), 5000));
+
+        assertThat(sizer.pageSize(TARGET)).isEqualTo(50);
+    }
+
+    @Test
+    void recordFailure_shouldShrinkDownToMin() {
+        for (var i = 0; i < 5; i++) {
+            sizer.recordFailure(TARGET, sizer.pageSize(TARGET));
+        }
+
+        assertThat(sizer.pageSize(TARGET)).isEqualTo(10);
+    }
+
+    @Test
+    void recordSuccess_cappedTarget_shouldUseCapAndStopGrowing() {
+        sizer.recordSuccess(TARGET, 200, new FetchResult(Catalog.Builder.newInstance().id("catalog").build(), 4, Duration.ofSeconds(1), 1000, 150));
+
+        assertThat(sizer.pageSize(TARGET)).isEqualTo(150);
+        for (var i = 0; i < 5; i++) {
+            sizer.recordSuccess(TARGET, sizer.pageSize(TARGET), result(3, Duration.ofSeconds(1), 1000));
+        }
+        assertThat(sizer.pageSize(TARGET)).isEqualTo(150);
+        assertThat(sizer.isVerified(TARGET, 150)).isTrue();
+        assertThat(sizer.isVerified(TARGET, 200)).isFalse();
+    }
+
+    @Test
+    void isVerified_shouldAcceptInitialAndSizesServedInFull() {
+        assertThat(sizer.isVerified(TARGET, 100)).isTrue();
+        assertThat(sizer.isVerified(TARGET, 200)).isFalse();
+
+        sizer.recordSuccess(TARGET, 200, result(3, Duration.ofSeconds(1), 1000));
+
+        assertThat(sizer.isVerified(TARGET, 200)).isTrue();
+        assertThat(sizer.isVerified(TARGET, 400)).isFalse();
+    }
+
+    @Test
+    void fixed_shouldNeverAdapt() {
+        var fixed = AdaptivePageSizer.fixed(100);
+
+        fixed.recordFailure(TARGET, 100);
+        fixed.recordSuccess(TARGET, 100, result(3, Duration.ZERO, 0));
+
+        assertThat(fixed.pageSize(TARGET)).isEqualTo(100);
+    }
+
+    private FetchResult result(int pages, Duration maxLatency, long maxBytes) {
+        return new FetchResult(Catalog.Builder.newInstance().id("catalog").build(), pages, maxLatency, maxBytes);
+    }
+}
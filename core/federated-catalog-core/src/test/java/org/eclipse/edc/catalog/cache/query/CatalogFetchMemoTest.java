@@ -0,0 +1,177 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.catalog.cache.query;
+
+import org.eclipse.edc.catalog.spi.model.CatalogUpdateResponse;
+import org.eclipse.edc.spi.EdcException;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.failedFuture;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CatalogFetchMemoTest {
+
+    private static final CatalogFetchMemo.Key ROOT_1 = new CatalogFetchMemo.Key("https://test.com/root-1", "root-1");
+    private static final CatalogFetchMemo.Key ROOT_2 = new CatalogFetchMemo.Key("https://test.com/root-2", "root-2");
+    private static final CatalogFetchMemo.Key SUB_1 = new CatalogFetchMemo.Key("https://test.com/sub-1", "participant");
+    private static final CatalogFetchMemo.Key SUB_2 = new CatalogFetchMemo.Key("https://test.com/sub-2", "participant");
+
+    private final CatalogFetchMemo memo = new CatalogFetchMemo();
+    private final CompletableFuture<Void> waiter = new CompletableFuture<>();
+
+    @Test
+    void fetch_sameKeyInFlight_shouldFetchOnce() {
+        var fetches = new AtomicInteger();
+        var response = new CatalogUpdateResponse("https://test.com/sub-1", null);
+        var inFlight = new CompletableFuture<CatalogUpdateResponse>();
+
+        memo.fetch(null, ROOT_1, waiter, scope -> new CompletableFuture<>());
+        memo.fetch(null, ROOT_2, waiter, scope -> new CompletableFuture<>());
+        var first = memo.fetch(ROOT_1, SUB_1, waiter, scope -> {
+            fetches.incrementAndGet();
+            return inFlight;
+        });
+        var second = memo.fetch(ROOT_2, SUB_1, waiter, scope -> {
+            fetches.incrementAndGet();
+            return inFlight;
+        });
+        assertThat(memo.size()).isEqualTo(3);
+
+        inFlight.complete(response);
+
+        assertThat(fetches).hasValue(1);
+        assertThat(first).isCompletedWithValue(response);
+        assertThat(second).isCompletedWithValue(response);
+    }
+
+    @Test
+    void fetch_completed_shouldBeForgotten() {
+        var fetches = new AtomicInteger();
+
+        memo.fetch(null, SUB_1, waiter, scope -> {
+            fetches.incrementAndGet();
+            return completedFuture(new CatalogUpdateResponse("https://test.com/sub-1", null));
+        });
+        memo.fetch(null, SUB_1, waiter, scope -> {
+            fetches.incrementAndGet();
+            return completedFuture(new CatalogUpdateResponse("https://test.com/sub-1", null));
+        });
+
+        assertThat(fetches).hasValue(2);
+        assertThat(memo.size()).isZero();
+    }
+
+    @Test
+    void fetch_failed_shouldFetchAgain() {
+        memo.fetch(null, SUB_1, waiter, scope -> failedFuture(new EdcException("unreachable")));
+
+        var retry = memo.fetch(null, SUB_1, waiter, scope -> completedFuture(new CatalogUpdateResponse("https://test.com/sub-1", null)));
+
+        assertThat(retry).isCompleted();
+    }
+
+    @Test
+    void fetch_oneWaiterGone_shouldKeepFetching() {
+        var firstWaiter = new CompletableFuture<Void>();
+        var secondWaiter = new CompletableFuture<Void>();
+        var fetchScope = new AtomicReference<CompletableFuture<Void>>();
+        var inFlight = new CompletableFuture<CatalogUpdateResponse>();
+        var response = new CatalogUpdateResponse("https://test.com/sub-1", null);
+
+        var first = memo.fetch(null, SUB_1, firstWaiter, scope -> {
+            fetchScope.set(scope);
+            return inFlight;
+        });
+        var second = memo.fetch(null, SUB_1, secondWaiter, scope -> inFlight);
+        firstWaiter.completeExceptionally(new TimeoutException());
+
+        assertThat(fetchScope.get()).isNotDone();
+        assertThat(memo.size()).isEqualTo(1);
+
+        inFlight.complete(response);
+
+        assertThat(first).isCompletedWithValue(response);
+        assertThat(second).isCompletedWithValue(response);
+        assertThat(fetchScope.get()).isCompleted();
+    }
+
+    @Test
+    void fetch_allWaitersGone_shouldCancelFetch() {
+        var firstWaiter = new CompletableFuture<Void>();
+        var secondWaiter = new CompletableFuture<Void>();
+        var fetchScope = new AtomicReference<CompletableFuture<Void>>();
+
+        var first = memo.fetch(null, SUB_1, firstWaiter, scope -> {
+            fetchScope.set(scope);
+            return new CompletableFuture<>();
+        });
+        var second = memo.fetch(null, SUB_1, secondWaiter, scope -> new CompletableFuture<>());
+        firstWaiter.cancel(true);
+        secondWaiter.completeExceptionally(new TimeoutException());
+
+        assertThat(fetchScope.get()).isCompletedExceptionally();
+        assertThat(first).isCompletedExceptionally();
+        assertThat(second).isCompletedExceptionally();
+        assertThat(memo.size()).isZero();
+    }
+
+    @Test
+    void fetch_waiterCancelsResult_shouldNotCancelSharedFetch() {
+        var inFlight = new CompletableFuture<CatalogUpdateResponse>();
+
+        var first = memo.fetch(null, SUB_1, waiter, scope -> inFlight);
+        var second = memo.fetch(null, SUB_1, waiter, scope -> inFlight);
+        first.cancel(true);
+        inFlight.complete(new CatalogUpdateResponse("https://test.com/sub-1", null));
+
+        assertThat(second).isCompleted();
+    }
+
+    @Test
+    void fetch_selfReference_shouldBeCut() {
+        memo.fetch(null, SUB_1, waiter, scope -> new CompletableFuture<>());
+
+        assertThat(memo.fetch(SUB_1, SUB_1, waiter, scope -> new CompletableFuture<>())).isNull();
+    }
+
+    @Test
+    void fetch_cycleAcrossRoots_shouldBeCut() {
+        memo.fetch(null, ROOT_1, waiter, scope -> new CompletableFuture<>());
+        memo.fetch(null, ROOT_2, waiter, scope -> new CompletableFuture<>());
+        memo.fetch(ROOT_1, SUB_1, waiter, scope -> new CompletableFuture<>());
+        memo.fetch(ROOT_2, SUB_2, waiter, scope -> new CompletableFuture<>());
+
+        assertThat(memo.fetch(SUB_1, SUB_2, waiter, scope -> new CompletableFuture<>())).isNotNull();
+        assertThat(memo.fetch(SUB_2, SUB_1, waiter, scope -> new CompletableFuture<>())).isNull();
+    }
+
+    @Test
+    void fetch_completedDependency_shouldNotBeCycle() {
+        var sub2 = new CompletableFuture<CatalogUpdateResponse>();
+        memo.fetch(null, SUB_1, waiter, scope -> new CompletableFuture<>());
+        memo.fetch(null, SUB_2, waiter, scope -> sub2);
+        memo.fetch(SUB_2, SUB_1, waiter, scope -> new CompletableFuture<>());
+
+        sub2.complete(new CatalogUpdateResponse("https://test.com/sub-2", null));
+
+        assertThat(memo.fetch(SUB_1, SUB_2, waiter, scope -> new CompletableFuture<>())).isNotNull();
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.catalog.cache.query;
+
+import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
+import org.eclipse.edc.connector.controlplane.catalog.spi.DataService;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Distribution;
+import org.eclipse.edc.federatedcatalog.util.FederatedCatalogUtil;
+import org.eclipse.edc.junit.annotations.ComponentTest;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.catalog.cache.query.CatalogPageAccumulatorTest.page;
+
+/**
+ * Measures the memory allocated while assembling up to 1,000 catalog pages, with the {@link CatalogPageAccumulator} and with
+ * a fold over {@link FederatedCatalogUtil#merge(Catalog, Catalog)}, which copies all datasets accumulated so far on every page,
+ * and checks that both produce the same catalog.
+ */
+@ComponentTest
+class CatalogPageAccumulatorBenchmarkTest {
+
+    private static final int DATASETS_PER_PAGE = 10;
+
+    @Test
+    void accumulate_shouldAllocateLinearlyInNumberOfPages() {
+        var small = pages(100);
+        var large = pages(1_000);
+        measure(small, this::accumulate); // warm-up
+
+        var smallBytes = measure(small, this::accumulate);
+        var largeBytes = measure(large, this::accumulate);
+
+        // linear growth would be a factor of 10, quadratic growth a factor of 100
+        assertThat(largeBytes).isLessThan(smallBytes * 20);
+    }
+
+    @Test
+    void accumulate_shouldAllocateLessThanMergeFold() {
+        var pages = pages(1_000);
+        measure(pages, this::accumulate);
+        measure(pages, this::mergeFold);
+
+        var accumulatorBytes = measure(pages, this::accumulate);
+        var mergeBytes = measure(pages, this::mergeFold);
+
+        assertThat(accumulatorBytes * 10).isLessThan(mergeBytes);
+    }
+
+    @Test
+    void accumulate_shouldProduceMergedCatalog() {
+        var pages = IntStream.range(0, 100).mapToObj(this::pageWithDistribution).toList();
+
+        var accumulated = accumulate(pages);
+        var merged = mergeFold(pages);
+
+        assertThat(accumulated.getDatasets()).extracting(Dataset::getId)
+                .containsExactlyElementsOf(pages.stream().flatMap(page -> page.getDatasets().stream()).map(Dataset::getId).toList());
+        assertThat(accumulated.getProperties()).isEqualTo(Map.of("page", 99));
+        assertThat(accumulated.getDistributions()).extracting(Distribution::getFormat).containsExactly("format-99");
+        assertThat(accumulated).usingRecursiveComparison().isEqualTo(merged);
+    }
+
+    private Catalog accumulate(List<Catalog> pages) {
+        var accumulator = new CatalogPageAccumulator();
+        pages.forEach(accumulator::add);
+        return accumulator.build();
+    }
+
+    private Catalog mergeFold(List<Catalog> pages) {
+        return pages.stream().reduce(FederatedCatalogUtil::merge).orElseThrow();
+    }
+
+    private long measure(List<Catalog> pages, Function<List<Catalog>, Catalog> assembler) {
+        var threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        var threadId = Thread.currentThread().getId();
+        var before = threadBean.getThreadAllocatedBytes(threadId);
+        var catalog = assembler.apply(pages);
+        var allocated = threadBean.getThreadAllocatedBytes(threadId) - before;
+        assertThat(catalog.getDatasets()).hasSize(pages.size() * DATASETS_PER_PAGE);
+        return allocated;
+    }
+
+    private Catalog pageWithDistribution(int index) {
+        var dataService = DataService.Builder.newInstance().id("service-" + index).build();
+        return Catalog.Builder.newInstance()
+                .id("catalog")
+                .participantId("participant")
+                .properties(new HashMap<>(Map.of("page", index)))
+                .datasets(IntStream.range(0, DATASETS_PER_PAGE).mapToObj(i -> Dataset.Builder.newInstance().id("page" + index + "-" + i).build()).toList())
+                .dataServices(List.of(dataService))
+                .distributions(List.of(Distribution.Builder.newInstance().format("format-" + index).dataService(dataService).build()))
+                .build();
+    }
+
+    private List<Catalog> pages(int count) {
+        return IntStream.range(0, count).mapToObj(i -> page("catalog", "page" + i, DATASETS_PER_PAGE, Map.of())).toList();
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.catalog.cache.query;
+
+import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
+import org.eclipse.edc.connector.controlplane.catalog.spi.DataService;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
+import org.eclipse.edc.federatedcatalog.util.FederatedCatalogUtil;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CatalogPageAccumulatorTest {
+
+    @Test
+    void build_shouldConcatenatePagesInOrder() {
+        var accumulator = new CatalogPageAccumulator();
+
+        accumulator.add(page("catalog", "page0", Map.of("key", "first")));
+        accumulator.add(page("other", "page1", Map.of("key", "last")));
+
+        var catalog = accumulator.build();
+        assertThat(catalog.getId()).isEqualTo("catalog");
+        assertThat(catalog.getParticipantId()).isEqualTo("participant");
+        assertThat(catalog.getDatasets()).extracting(Dataset::getId).containsExactly("page0-0", "page0-1", "page1-0", "page1-1");
+        assertThat(catalog.getDataServices()).extracting(DataService::getId).containsExactly("page0-service", "page1-service");
+        assertThat(catalog.getProperties()).containsEntry("key", "last");
+    }
+
+    @Test
+    void build_shouldMatchMerge() {
+        var pages = IntStream.range(0, 3).mapToObj(i -> page("catalog", "page" + i, Map.of())).toList();
+        var accumulator = new CatalogPageAccumulator();
+        pages.forEach(accumulator::add);
+
+        var merged = pages.stream().reduce(FederatedCatalogUtil::merge).orElseThrow();
+
+        assertThat(accumulator.build().getDatasets()).usingRecursiveFieldByFieldElementComparator().containsExactlyElementsOf(merged.getDatasets());
+        assertThat(accumulator.build().getDataServices()).usingRecursiveFieldByFieldElementComparator().containsExactlyElementsOf(merged.getDataServices());
+    }
+
+    @Test
+    void build_noPages_shouldThrow() {
+        assertThatThrownBy(() -> new CatalogPageAccumulator().build()).isInstanceOf(IllegalStateException.class);
+    }
+
+    static Catalog page(String id, String prefix, Map<String, Object> properties) {
+        return page(id, prefix, 2, properties);
+    }
+
+    static Catalog page(String id, String prefix, int datasets, Map<String, Object> properties) {
+        return Catalog.Builder.newInstance()
+                .id(id)
+                .participantId("participant")
+                .properties(new HashMap<>(properties))
+                .datasets(IntStream.range(0, datasets).mapToObj(i -> Dataset.Builder.newInstance().id(prefix + "-" + i).build()).toList())
+                .dataServices(List.of(DataService.Builder.newInstance().id(prefix + "-service").build()))
+                .build();
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.catalog.cache.query;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import org.eclipse.edc.jsonld.spi.JsonLd;
+import org.eclipse.edc.spi.result.Result;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class JsonLdExpansionCacheTest {
+
+    private final JsonLd jsonLdService = mock();
+
+    @BeforeEach
+    void setUp() {
+        when(jsonLdService.expand(any())).thenAnswer(invocation -> Result.success(expanded(invocation.getArgument(0))));
+    }
+
+    @Test
+    void expand_equalDocument_shouldExpandOnce() {
+        var cache = new JsonLdExpansionCache(jsonLdService, 10);
+
+        var first = cache.expand(document("dataset-1"));
+        var second = cache.expand(document("dataset-1"));
+
+        assertThat(second.getContent()).isSameAs(first.getContent());
+        verify(jsonLdService, times(1)).expand(any());
+        assertThat(cache.getHits()).isEqualTo(1);
+        assertThat(cache.getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    void expand_differentDocument_shouldExpandAgain() {
+        var cache = new JsonLdExpansionCache(jsonLdService, 10);
+
+        cache.expand(document("dataset-1"));
+        cache.expand(document("dataset-2"));
+
+        verify(jsonLdService, times(2)).expand(any());
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    void expand_failure_shouldNotBeCached() {
+        when(jsonLdService.expand(any())).thenReturn(Result.failure("invalid context"));
+        var cache = new JsonLdExpansionCache(jsonLdService, 10);
+
+        assertThat(cache.expand(document("dataset-1")).failed()).isTrue();
+        assertThat(cache.expand(document("dataset-1")).failed()).isTrue();
+
+        verify(jsonLdService, times(2)).expand(any());
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void expand_full_shouldEvictLeastRecentlyUsed() {
+        var cache = new JsonLdExpansionCache(jsonLdService, 2);
+
+        cache.expand(document("dataset-1"));
+        cache.expand(document("dataset-2"));
+        cache.expand(document("dataset-1"));
+        cache.expand(document("dataset-3"));
+        cache.expand(document("dataset-1"));
+        cache.expand(document("dataset-2"));
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.getHits()).isEqualTo(2);
+        verify(jsonLdService, times(4)).expand(any());
+    }
+
+    @Test
+    void expand_sizeZero_shouldNotCache() {
+        var cache = new JsonLdExpansionCache(jsonLdService, 0);
+
+        cache.expand(document("dataset-1"));
+        cache.expand(document("dataset-1"));
+
+        verify(jsonLdService, times(2)).expand(any());
+        assertThat(cache.size()).isZero();
+    }
+
+    private JsonObject document(String id) {
+        return Json.createObjectBuilder()
+                .add("@context", Json.createObjectBuilder().add("dcat", "http://www.w3.org/ns/dcat#"))
+                .add("@id", id)
+                .add("dcat:keyword", "test")
+                .build();
+    }
+
+    private JsonObject expanded(JsonObject document) {
+        return Json.createObjectBuilder()
+                .add("@id", document.getString("@id"))
+                .add("http://www.w3.org/ns/dcat#keyword", Json.createArrayBuilder().add(Json.createObjectBuilder().add("@value", "test")))
+                .build();
+    }
+}
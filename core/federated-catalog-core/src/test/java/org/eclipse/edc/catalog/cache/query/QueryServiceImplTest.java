@@ -16,8 +16,10 @@ package org.eclipse.edc.catalog.cache.query;
 
 import org.assertj.core.api.Assertions;
 import org.eclipse.edc.catalog.spi.FederatedCatalogCache;
+import org.eclipse.edc.catalog.spi.model.DatasetMatch;
 import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
 import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.result.StoreResult;
 import org.junit.jupiter.api.Test;
 
 import java.util.Collections;
@@ -26,8 +28,10 @@ import java.util.List;
 import static org.eclipse.edc.catalog.test.TestUtil.createCatalog;
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 class QueryServiceImplTest {
@@ -69,4 +73,32 @@ class QueryServiceImplTest {
         Assertions.assertThat(catalog.getContent()).isEmpty();
         verify(storeMock).query(any());
     }
+
+    @Test
+    void searchDatasets() {
+        var match = new DatasetMatch("ABC", CATALOG_ABC.getDatasets().get(0));
+        when(storeMock.searchDatasets("test", 0, 10)).thenReturn(StoreResult.success(List.of(match)));
+
+        var result = queryService.searchDatasets("test", 0, 10);
+
+        assertThat(result).isSucceeded();
+        Assertions.assertThat(result.getContent()).containsExactly(match);
+    }
+
+    @Test
+    void searchDatasets_blankKeywords_shouldFail() {
+        var result = queryService.searchDatasets(" ", 0, 10);
+
+        assertThat(result).isFailed();
+        verifyNoInteractions(storeMock);
+    }
+
+    @Test
+    void searchDatasets_notSupported_shouldFail() {
+        when(storeMock.searchDatasets(any(), anyInt(), anyInt())).thenReturn(StoreResult.generalError("not supported"));
+
+        var result = queryService.searchDatasets("test", 0, 10);
+
+        assertThat(result).isFailed().detail().isEqualTo("not supported");
+    }
 }
\ No newline at end of file
@@ -0,0 +1,142 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.catalog.cache.query;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseSpoolTest {
+
+    private static final String ENDPOINT = "https://test.com/catalog";
+
+    @Test
+    void reserve_budgetExhausted_shouldWaitUntilReleased() {
+        var spool = new ResponseSpool(0, 1000, null);
+        var first = spool.reserve(ENDPOINT).join();
+        spool.adjust(ENDPOINT, first, 800);
+
+        var second = spool.reserve(ENDPOINT);
+
+        assertThat(second).isNotDone();
+        assertThat(spool.getWaiting()).isEqualTo(1);
+
+        spool.release(800);
+
+        assertThat(second).isCompletedWithValue(800L);
+        assertThat(spool.getInFlightBytes()).isEqualTo(800);
+    }
+
+    @Test
+    void reserve_maxWaitElapsed_shouldFailAndWithdraw() {
+        var spool = new ResponseSpool(0, 1000, null);
+        var first = spool.reserve(ENDPOINT).join();
+
+        var second = spool.reserve(ENDPOINT, Duration.ofMillis(10));
+
+        assertThat(second).failsWithin(Duration.ofSeconds(5))
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(TimeoutException.class);
+        assertThat(spool.getWaiting()).isZero();
+
+        spool.release(first);
+
+        assertThat(spool.getInFlightBytes()).isZero();
+    }
+
+    @Test
+    void reserve_cancelled_shouldWithdrawAndGrantNext() {
+        var spool = new ResponseSpool(0, 1000, null);
+        var first = spool.reserve(ENDPOINT).join();
+        var second = spool.reserve(ENDPOINT, Duration.ofMinutes(1));
+        var third = spool.reserve(ENDPOINT, Duration.ofMinutes(1));
+
+        second.cancel(false);
+        spool.release(first);
+
+        assertThat(third).isCompletedWithValue(1000L);
+        assertThat(spool.getWaiting()).isZero();
+        assertThat(spool.getInFlightBytes()).isEqualTo(1000);
+    }
+
+    @Test
+    void reserve_largerThanBudget_shouldBeClampedToBudget() {
+        var spool = new ResponseSpool(0, 1000, null);
+        spool.adjust(ENDPOINT, spool.reserve(ENDPOINT).join(), 5000);
+        spool.release(5000);
+
+        assertThat(spool.reserve(ENDPOINT)).isCompletedWithValue(1000L);
+    }
+
+    @Test
+    void reserve_unknownEndpoint_shouldReserveWholeBudget() {
+        var spool = new ResponseSpool(0, 100 * 1024 * 1024, null);
+        var first = spool.reserve("https://first.com/catalog");
+
+        var second = spool.reserve("https://second.com/catalog");
+
+        assertThat(first).isCompletedWithValue(100L * 1024 * 1024);
+        assertThat(second).isNotDone();
+    }
+
+    @Test
+    void reserve_budgetExceededByResponse_shouldNotGrantUntilWithinBudget() {
+        var spool = new ResponseSpool(0, 1000, null);
+        spool.adjust(ENDPOINT, spool.reserve(ENDPOINT).join(), 100);
+        spool.release(100);
+        var small = spool.reserve(ENDPOINT).join();
+        spool.adjust("https://empty.com/catalog", 0, 0);
+        spool.adjust(ENDPOINT, small, 1500);
+
+        var empty = spool.reserve("https://empty.com/catalog");
+
+        assertThat(spool.getInFlightBytes()).isEqualTo(1500);
+        assertThat(empty).isNotDone();
+
+        spool.release(1500);
+
+        assertThat(empty).isCompletedWithValue(0L);
+    }
+
+    @Test
+    void reserve_noBudget_shouldNotWait() {
+        var spool = ResponseSpool.disabled();
+
+        assertThat(spool.reserve(ENDPOINT)).isCompletedWithValue(0L);
+        assertThat(spool.adjust(ENDPOINT, 0, 5000)).isZero();
+        assertThat(spool.getInFlightBytes()).isZero();
+    }
+
+    @Test
+    void spill_shouldWritePayloadToDirectory(@TempDir Path directory) throws IOException {
+        var spool = new ResponseSpool(10, 0, directory);
+
+        var file = spool.spill("{\"large\": \"payload\"}".getBytes());
+
+        assertThat(file).hasParent(directory).hasContent("{\"large\": \"payload\"}");
+        assertThat(spool.shouldSpill(11)).isTrue();
+        assertThat(spool.shouldSpill(10)).isFalse();
+        assertThat(spool.getSpilledResponses()).isEqualTo(1);
+        Files.delete(file);
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.catalog.defaults.store;
+
+import org.eclipse.edc.catalog.store.CatalogIndex;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
+
+class CatalogIndexTest {
+
+    private final CatalogIndex index = new CatalogIndex(List.of("id", "participantId", "properties.name"));
+
+    @Test
+    void lookup_equality_shouldReturnMatchingKeysAndRemainingCriteria() {
+        index.add("key-1", catalog("catalog-1", "participant-1", "name-1"));
+        index.add("key-2", catalog("catalog-2", "participant-2", "name-1"));
+        var query = QuerySpec.Builder.newInstance()
+                .filter(criterion("participantId", "=", "participant-1"))
+                .filter(criterion("properties.description", "=", "test"))
+                .limit(10)
+                .build();
+
+        var lookup = index.lookup(query);
+
+        assertThat(lookup).isNotNull();
+        assertThat(lookup.keys()).containsExactly("key-1");
+        assertThat(lookup.remaining().getFilterExpression()).extracting(c -> c.getOperandLeft().toString())
+                .containsExactly("properties.description");
+        assertThat(lookup.remaining().getLimit()).isEqualTo(10);
+    }
+
+    @Test
+    void lookup_in_shouldReturnKeysOfAllValues() {
+        index.add("key-1", catalog("catalog-1", "participant-1", null));
+        index.add("key-2", catalog("catalog-2", "participant-2", null));
+        index.add("key-3", catalog("catalog-3", "participant-3", null));
+
+        var lookup = index.lookup(QuerySpec.Builder.newInstance().filter(criterion("id", "in", List.of("catalog-1", "catalog-3"))).build());
+
+        assertThat(lookup).isNotNull();
+        assertThat(lookup.keys()).containsExactlyInAnyOrder("key-1", "key-3");
+        assertThat(lookup.remaining().getFilterExpression()).isEmpty();
+    }
+
+    @Test
+    void lookup_multipleCriteria_shouldIntersect() {
+        index.add("key-1", catalog("catalog-1", "participant-1", "name-1"));
+        index.add("key-2", catalog("catalog-2", "participant-1", "name-2"));
+
+        var lookup = index.lookup(QuerySpec.Builder.newInstance()
+                .filter(criterion("participantId", "=", "participant-1"))
+                .filter(criterion("properties.name", "=", "name-2"))
+                .build());
+
+        assertThat(lookup).isNotNull();
+        assertThat(lookup.keys()).containsExactly("key-2");
+    }
+
+    @Test
+    void lookup_notIndexed_shouldReturnNull() {
+        index.add("key-1", catalog("catalog-1", "participant-1", "name-1"));
+
+        assertThat(index.lookup(QuerySpec.none())).isNull();
+        assertThat(index.lookup(QuerySpec.Builder.newInstance().filter(criterion("properties.other", "=", "x")).build())).isNull();
+        assertThat(index.lookup(QuerySpec.Builder.newInstance().filter(criterion("participantId", "like", "participant%")).build())).isNull();
+    }
+
+    @Test
+    void lookup_nonStringValue_shouldKeepCriterionAndReturnCandidate() {
+        index.add("key-1", catalog("catalog-1", "participant-1", "name-1"));
+        index.add("key-2", Catalog.Builder.newInstance().id("catalog-2").properties(Map.of("name", List.of("name-1", "name-2"))).build());
+
+        var lookup = index.lookup(QuerySpec.Builder.newInstance().filter(criterion("properties.name", "=", "name-1")).build());
+
+        assertThat(lookup).isNotNull();
+        assertThat(lookup.keys()).containsExactlyInAnyOrder("key-1", "key-2");
+        assertThat(lookup.remaining().getFilterExpression()).hasSize(1);
+    }
+
+    @Test
+    void remove_shouldNoLongerReturnKey() {
+        var catalog = catalog("catalog-1", "participant-1", "name-1");
+        index.add("key-1", catalog);
+
+        index.remove("key-1", catalog);
+
+        var lookup = index.lookup(QuerySpec.Builder.newInstance().filter(criterion("id", "=", "catalog-1")).build());
+        assertThat(lookup).isNotNull();
+        assertThat(lookup.keys()).isEmpty();
+    }
+
+    private Catalog catalog(String id, String participantId, String name) {
+        var builder = Catalog.Builder.newInstance().id(id).participantId(participantId);
+        if (name != null) {
+            builder.property("name", name);
+        }
+        return builder.build();
+    }
+}
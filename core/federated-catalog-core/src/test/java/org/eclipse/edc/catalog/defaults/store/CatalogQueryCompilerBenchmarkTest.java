@@ -0,0 +1,88 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.catalog.defaults.store;
+
+import org.eclipse.edc.catalog.store.CatalogQueryCompiler;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
+import org.eclipse.edc.junit.annotations.ComponentTest;
+import org.eclipse.edc.query.CriterionOperatorRegistryImpl;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.store.ReflectionBasedQueryResolver;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static org.eclipse.edc.spi.query.Criterion.criterion;
+
+/**
+ * Measures the time of repeated queries over 10,000 cached catalogs with the {@link CatalogQueryCompiler} and with the
+ * {@link ReflectionBasedQueryResolver}, which resolves every criterion path by reflection for every catalog. The timings are
+ * only reported, as wall times are not reliable enough to assert on. That both return the same results is checked by
+ * {@link CatalogQueryCompilerTest}.
+ */
+@ComponentTest
+class CatalogQueryCompilerBenchmarkTest {
+
+    private static final int NUM_CATALOGS = 10_000;
+    private static final int NUM_QUERIES = 50;
+    private static final int NUM_ROUNDS = 5;
+
+    private final CatalogQueryCompiler compiler = new CatalogQueryCompiler(CriterionOperatorRegistryImpl.ofDefaults());
+    private final ReflectionBasedQueryResolver<Catalog> resolver = new ReflectionBasedQueryResolver<>(Catalog.class, CriterionOperatorRegistryImpl.ofDefaults());
+    private final List<Catalog> catalogs = IntStream.range(0, NUM_CATALOGS)
+            .mapToObj(i -> Catalog.Builder.newInstance()
+                    .id("catalog-" + i)
+                    .participantId("participant-" + i % 100)
+                    .properties(Map.of("name", "name-" + i % 10))
+                    .build())
+            .toList();
+
+    private long matches;
+
+    @Test
+    void query_compiledAndQueryResolver() {
+        // warm-up
+        time(q -> compiler.query(catalogs.stream(), q).toList());
+        time(q -> resolver.query(catalogs.stream(), q).toList());
+
+        var compiledTime = Duration.ZERO;
+        var resolverTime = Duration.ZERO;
+        for (var i = 0; i < NUM_ROUNDS; i++) {
+            compiledTime = compiledTime.plus(time(q -> compiler.query(catalogs.stream(), q).toList()));
+            resolverTime = resolverTime.plus(time(q -> resolver.query(catalogs.stream(), q).toList()));
+        }
+
+        System.out.printf("%d queries over %d catalogs, %d rounds: compiled %d ms, query resolver %d ms (%d matches)%n",
+                NUM_QUERIES, NUM_CATALOGS, NUM_ROUNDS, compiledTime.toMillis(), resolverTime.toMillis(), matches);
+    }
+
+    private Duration time(Function<QuerySpec, List<Catalog>> query) {
+        var start = System.nanoTime();
+        for (var i = 0; i < NUM_QUERIES; i++) {
+            var result = query.apply(QuerySpec.Builder.newInstance()
+                    .filter(criterion("participantId", "=", "participant-" + i % 100))
+                    .filter(criterion("properties.name", "!=", "unknown"))
+                    .sortField("id")
+                    .limit(NUM_CATALOGS)
+                    .build());
+            matches += result.size();
+        }
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.catalog.defaults.store;
+
+import org.eclipse.edc.catalog.store.CatalogQueryCompiler;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
+import org.eclipse.edc.query.CriterionOperatorRegistryImpl;
+import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.query.SortOrder;
+import org.eclipse.edc.store.ReflectionBasedQueryResolver;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
+
+class CatalogQueryCompilerTest {
+
+    private final CriterionOperatorRegistry criterionOperatorRegistry = CriterionOperatorRegistryImpl.ofDefaults();
+    private final CatalogQueryCompiler compiler = new CatalogQueryCompiler(criterionOperatorRegistry);
+    private final ReflectionBasedQueryResolver<Catalog> resolver = new ReflectionBasedQueryResolver<>(Catalog.class, criterionOperatorRegistry);
+    private final List<Catalog> catalogs = IntStream.range(0, 20).mapToObj(this::catalog).toList();
+
+    private static Stream<QuerySpec> queries() {
+        return Stream.of(
+                QuerySpec.none(),
+                QuerySpec.Builder.newInstance().filter(criterion("id", "=", "catalog-3")).build(),
+                QuerySpec.Builder.newInstance().filter(criterion("participantId", "!=", "participant-1")).build(),
+                QuerySpec.Builder.newInstance().filter(criterion("participantId", "in", List.of("participant-0", "participant-2"))).build(),
+                QuerySpec.Builder.newInstance().filter(criterion("properties.name", "=", "name-4")).build(),
+                QuerySpec.Builder.newInstance().filter(criterion("properties.rank", "=", 5)).build(),
+                QuerySpec.Builder.newInstance().filter(criterion("properties.keywords", "=", "even")).build(),
+                QuerySpec.Builder.newInstance().filter(criterion("properties.name", "like", "name-1%")).build(),
+                QuerySpec.Builder.newInstance().filter(criterion("datasets.id", "=", "dataset-7")).build(),
+                QuerySpec.Builder.newInstance()
+                        .filter(criterion("participantId", "=", "participant-0"))
+                        .filter(criterion("properties.name", "!=", "name-3"))
+                        .build(),
+                QuerySpec.Builder.newInstance().sortField("id").sortOrder(SortOrder.DESC).offset(2).limit(5).build(),
+                QuerySpec.Builder.newInstance().sortField("properties.rank").build()
+        );
+    }
+
+    private static Stream<Arguments> operatorQueries() {
+        var paths = List.of("id", "participantId", "properties.name", "properties.rank", "properties.keywords", "properties.code");
+        var operands = Map.<String, List<Object>>of(
+                "=", List.of("participant-1", "name-4", "code-1", 5, 4),
+                "!=", List.of("participant-1", "name-4", "code-1", 5, 4),
+                "in", List.of(List.of("participant-0", "participant-2"), List.of("name-1", 5), List.of(4, 8), "participant-0"),
+                "like", List.of("participant-%", "name-1%", "%-1"),
+                "ilike", List.of("PARTICIPANT-%", "Name-1%"),
+                "contains", List.of("even", "participant-1"));
+        return operands.entrySet().stream()
+                .flatMap(entry -> paths.stream()
+                        .flatMap(path -> entry.getValue().stream().map(operand -> Arguments.of(path, entry.getKey(), operand))));
+    }
+
+    @ParameterizedTest(name = "{0} {1} {2}")
+    @MethodSource("operatorQueries")
+    void query_eachOperator_shouldReturnSameResultAsFallback(String path, String operator, Object operand) {
+        var query = QuerySpec.Builder.newInstance().filter(criterion(path, operator, operand)).build();
+
+        List<Catalog> expected;
+        try {
+            expected = resolver.query(catalogs.stream(), query).toList();
+        } catch (RuntimeException e) {
+            assertThatThrownBy(() -> compiler.query(catalogs.stream(), query).toList()).isInstanceOf(RuntimeException.class);
+            return;
+        }
+        var result = compiler.query(catalogs.stream(), query).toList();
+
+        assertThat(result).containsExactlyElementsOf(expected);
+    }
+
+    @ParameterizedTest
+    @MethodSource("queries")
+    void query_shouldReturnSameResultAsQueryResolver(QuerySpec query) {
+        var expected = resolver.query(catalogs.stream(), query).toList();
+
+        var result = compiler.query(catalogs.stream(), query).toList();
+
+        assertThat(result).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void query_sameShape_shouldReusePlanWithNewOperands() {
+        var first = compiler.query(catalogs.stream(), QuerySpec.Builder.newInstance().filter(criterion("id", "=", "catalog-1")).build()).toList();
+        var second = compiler.query(catalogs.stream(), QuerySpec.Builder.newInstance().filter(criterion("id", "=", "catalog-2")).limit(1).build()).toList();
+
+        assertThat(first).extracting(Catalog::getId).containsExactly("catalog-1");
+        assertThat(second).extracting(Catalog::getId).containsExactly("catalog-2");
+        assertThat(compiler.getPlanCount()).isEqualTo(1);
+    }
+
+    @Test
+    void query_differentShapes_shouldCachePlanPerShape() {
+        compiler.query(catalogs.stream(), QuerySpec.Builder.newInstance().filter(criterion("id", "=", "catalog-1")).build()).toList();
+        compiler.query(catalogs.stream(), QuerySpec.Builder.newInstance().filter(criterion("id", "!=", "catalog-1")).build()).toList();
+        compiler.query(catalogs.stream(), QuerySpec.Builder.newInstance().filter(criterion("id", "=", "catalog-1")).sortField("id").build()).toList();
+
+        assertThat(compiler.getPlanCount()).isEqualTo(3);
+    }
+
+    @Test
+    void query_manyShapes_shouldKeepPlanCacheBounded() {
+        var bounded = new CatalogQueryCompiler(criterionOperatorRegistry, 4);
+
+        IntStream.range(0, 20).forEach(i -> bounded.query(catalogs.stream(),
+                QuerySpec.Builder.newInstance().filter(criterion("properties.property-" + i, "=", "value")).build()).toList());
+
+        assertThat(bounded.getPlanCount()).isEqualTo(4);
+    }
+
+    @Test
+    void query_evictedShape_shouldBeCompiledAgain() {
+        var bounded = new CatalogQueryCompiler(criterionOperatorRegistry, 1);
+        var byId = QuerySpec.Builder.newInstance().filter(criterion("id", "=", "catalog-3")).build();
+        var byParticipant = QuerySpec.Builder.newInstance().filter(criterion("participantId", "=", "participant-1")).build();
+
+        bounded.query(catalogs.stream(), byId).toList();
+        bounded.query(catalogs.stream(), byParticipant).toList();
+        var result = bounded.query(catalogs.stream(), byId).toList();
+
+        assertThat(result).extracting(Catalog::getId).containsExactly("catalog-3");
+        assertThat(bounded.getPlanCount()).isEqualTo(1);
+    }
+
+    private Catalog catalog(int i) {
+        var keywords = i % 2 == 0 ? List.of("even", "catalog") : List.of("odd", "catalog");
+        // the code is a string in most catalogs, but a number in some, so that compiled paths also meet other values
+        Object code = i % 4 == 0 ? i : "code-" + i % 3;
+        var properties = i % 5 == 0 ? Map.<String, Object>of("rank", i % 7, "keywords", keywords, "code", code) :
+                Map.<String, Object>of("name", "name-" + i % 6, "rank", i % 7, "keywords", keywords, "code", code);
+        return Catalog.Builder.newInstance()
+                .id("catalog-" + i)
+                .participantId("participant-" + i % 3)
+                .properties(properties)
+                .datasets(List.of(Dataset.Builder.newInstance().id("dataset-" + i).build()))
+                .build();
+    }
+}
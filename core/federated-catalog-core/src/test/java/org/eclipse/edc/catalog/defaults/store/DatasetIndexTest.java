@@ -0,0 +1,135 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.catalog.defaults.store;
+
+import org.eclipse.edc.catalog.spi.model.DatasetMatch;
+import org.eclipse.edc.catalog.store.DatasetIndex;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DatasetIndexTest {
+
+    private static final String TITLE = "http://purl.org/dc/terms/title";
+    private static final String KEYWORD = "http://www.w3.org/ns/dcat#keyword";
+
+    private final DatasetIndex index = new DatasetIndex(DatasetIndex.DEFAULT_PROPERTIES);
+
+    @Test
+    void search_shouldMatchAllKeywordsIgnoringCase() {
+        index.add("key-1", catalog("catalog-1",
+                dataset("dataset-1", Map.of(TITLE, "Weather Data Munich")),
+                dataset("dataset-2", Map.of(TITLE, "Weather Data Berlin"))));
+
+        var matches = index.search("weather munich", 0, 10);
+
+        assertThat(matches).extracting(m -> m.dataset().getId()).containsExactly("dataset-1");
+        assertThat(matches).extracting(DatasetMatch::catalogId).containsExactly("catalog-1");
+    }
+
+    @Test
+    void search_byId_shouldMatchWholeId() {
+        index.add("key-1", catalog("catalog-1", dataset("asset-42", Map.of()), dataset("asset-43", Map.of())));
+
+        assertThat(index.search("asset-42", 0, 10)).extracting(m -> m.dataset().getId()).containsExactly("asset-42");
+        assertThat(index.search("ASSET", 0, 10)).hasSize(2);
+    }
+
+    @Test
+    void search_keywordEqualsAnId_shouldAlsoMatchDatasetsContainingAllItsTokens() {
+        index.add("key-1", catalog("catalog-1",
+                dataset("report", Map.of(TITLE, "Sales report 2024")),
+                dataset("sales-2024", Map.of(TITLE, "Raw figures")),
+                dataset("forecast", Map.of(TITLE, "Sales forecast 2025"))));
+        index.add("key-2", catalog("catalog-2", dataset("summary", Map.of(KEYWORD, List.of("2024", "sales")))));
+
+        var matches = index.search("sales-2024", 0, 10);
+
+        assertThat(matches).extracting(m -> m.dataset().getId()).containsExactly("report", "sales-2024", "summary");
+        assertThat(index.search("sales-2024 raw", 0, 10)).extracting(m -> m.dataset().getId()).containsExactly("sales-2024");
+    }
+
+    @Test
+    void search_shouldTokenizeListAndMapValues() {
+        index.add("key-1", catalog("catalog-1",
+                dataset("dataset-1", Map.of(KEYWORD, List.of("traffic", Map.of("@value", "mobility"))))));
+
+        assertThat(index.search("mobility", 0, 10)).hasSize(1);
+        assertThat(index.search("traffic", 0, 10)).hasSize(1);
+    }
+
+    @Test
+    void search_shouldNotMatchPropertiesThatAreNotSearchable() {
+        index.add("key-1", catalog("catalog-1", dataset("dataset-1", Map.of("https://example.com/secret", "hidden"))));
+
+        assertThat(index.search("hidden", 0, 10)).isEmpty();
+    }
+
+    @Test
+    void search_subCatalog_shouldReturnOwningCatalogId() {
+        var subCatalog = Catalog.Builder.newInstance().id("sub-catalog").datasets(List.of(dataset("nested", Map.of(TITLE, "nested data"))))
+                .build();
+        index.add("key-1", catalog("catalog-1", dataset("top", Map.of(TITLE, "top data")), subCatalog));
+
+        var matches = index.search("nested", 0, 10);
+
+        assertThat(matches).extracting(DatasetMatch::catalogId).containsExactly("sub-catalog");
+        assertThat(index.search("data", 0, 10)).hasSize(2);
+    }
+
+    @Test
+    void search_shouldPage() {
+        index.add("key-1", catalog("catalog-1",
+                dataset("dataset-1", Map.of(TITLE, "data")),
+                dataset("dataset-2", Map.of(TITLE, "data")),
+                dataset("dataset-3", Map.of(TITLE, "data"))));
+
+        assertThat(index.search("data", 1, 1)).extracting(m -> m.dataset().getId()).containsExactly("dataset-2");
+        assertThat(index.search("data", 3, 10)).isEmpty();
+    }
+
+    @Test
+    void add_sameKey_shouldReplaceDatasets() {
+        index.add("key-1", catalog("catalog-1", dataset("dataset-1", Map.of(TITLE, "old"))));
+
+        index.add("key-1", catalog("catalog-1", dataset("dataset-1", Map.of(TITLE, "new"))));
+
+        assertThat(index.search("old", 0, 10)).isEmpty();
+        assertThat(index.search("new", 0, 10)).hasSize(1);
+    }
+
+    @Test
+    void remove_shouldRemoveAllTokens() {
+        index.add("key-1", catalog("catalog-1", dataset("dataset-1", Map.of(TITLE, "data"))));
+
+        index.remove("key-1");
+
+        assertThat(index.search("data", 0, 10)).isEmpty();
+        assertThat(index.getTokenCount()).isZero();
+    }
+
+    private Catalog catalog(String id, Dataset... datasets) {
+        return Catalog.Builder.newInstance().id(id).participantId("participant").datasets(List.of(datasets)).build();
+    }
+
+    private Dataset dataset(String id, Map<String, Object> properties) {
+        return Dataset.Builder.newInstance().id(id).properties(properties).build();
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.catalog.defaults.store;
+
+import org.eclipse.edc.catalog.spi.FederatedCatalogCache;
+import org.eclipse.edc.catalog.spi.testfixtures.FederatedCatalogCacheTestBase;
+import org.eclipse.edc.catalog.store.CatalogIndex;
+import org.eclipse.edc.catalog.store.InMemoryFederatedCatalogCache;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
+import org.eclipse.edc.query.CriterionOperatorRegistryImpl;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.util.concurrency.LockManager;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryFederatedCatalogCacheSnapshotTest extends FederatedCatalogCacheTestBase {
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final InMemoryFederatedCatalogCache store = new InMemoryFederatedCatalogCache(new LockManager(lock), CriterionOperatorRegistryImpl.ofDefaults(),
+            CatalogIndex.DEFAULT_PATHS, null, true);
+
+    @Override
+    protected FederatedCatalogCache getStore() {
+        return store;
+    }
+
+    @Test
+    void query_writeLockHeld_shouldNotBlock() {
+        store.save(catalog("catalog-1"));
+        lock.writeLock().lock();
+        try {
+            var result = CompletableFuture.supplyAsync(() -> store.query(QuerySpec.none()));
+
+            assertThat(result).succeedsWithin(Duration.ofSeconds(5))
+                    .satisfies(catalogs -> assertThat(catalogs).extracting(Catalog::getId).containsExactly("catalog-1"));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Test
+    void query_shouldReturnCatalogsInStableOrder() {
+        IntStream.range(0, 100).forEach(i -> store.save(catalog("catalog-" + i)));
+        var page = QuerySpec.Builder.newInstance().offset(20).limit(10).build();
+        var before = store.query(page).stream().map(Catalog::getId).toList();
+
+        store.save(catalog("catalog-5"));
+
+        assertThat(store.query(page)).extracting(Catalog::getId).containsExactlyElementsOf(before);
+    }
+
+    @Test
+    void deleteExpired_shouldPublishSnapshotWithoutExpiredCatalogs() {
+        store.save(catalog("catalog-1"));
+        store.expireAll();
+        store.save(catalog("catalog-2"));
+
+        store.deleteExpired();
+
+        assertThat(store.query(QuerySpec.none())).extracting(Catalog::getId).containsExactly("catalog-2");
+    }
+
+    @Test
+    void deleteExpired_moreEntriesThanBatch_shouldNeverExposePartiallyPurgedSnapshot() {
+        IntStream.range(0, 2_000).forEach(i -> store.save(catalog("catalog-" + i)));
+        store.expireAll();
+
+        var purge = CompletableFuture.runAsync(store::deleteExpired);
+        while (!purge.isDone()) {
+            assertThat(store.query(QuerySpec.max()).size()).isIn(0, 2_000);
+        }
+
+        assertThat(purge).succeedsWithin(Duration.ofSeconds(5));
+        assertThat(store.query(QuerySpec.max())).isEmpty();
+    }
+
+    private Catalog catalog(String id) {
+        return Catalog.Builder.newInstance().id(id).participantId("participant").build();
+    }
+}
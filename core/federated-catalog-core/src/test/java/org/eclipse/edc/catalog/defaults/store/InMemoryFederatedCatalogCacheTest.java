@@ -17,18 +17,83 @@ package org.eclipse.edc.catalog.defaults.store;
 
 import org.eclipse.edc.catalog.spi.FederatedCatalogCache;
 import org.eclipse.edc.catalog.spi.testfixtures.FederatedCatalogCacheTestBase;
+import org.eclipse.edc.catalog.store.CatalogIndex;
+import org.eclipse.edc.catalog.store.DatasetIndex;
 import org.eclipse.edc.catalog.store.InMemoryFederatedCatalogCache;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
+import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
 import org.eclipse.edc.query.CriterionOperatorRegistryImpl;
+import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.util.concurrency.LockManager;
+import org.junit.jupiter.api.Test;
 
+import java.util.List;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
 
 class InMemoryFederatedCatalogCacheTest extends FederatedCatalogCacheTestBase {
 
-    private final InMemoryFederatedCatalogCache store = new InMemoryFederatedCatalogCache(new LockManager(new ReentrantReadWriteLock()), CriterionOperatorRegistryImpl.ofDefaults());
+    private final InMemoryFederatedCatalogCache store = new InMemoryFederatedCatalogCache(new LockManager(new ReentrantReadWriteLock()), CriterionOperatorRegistryImpl.ofDefaults(),
+            Stream.concat(CatalogIndex.DEFAULT_PATHS.stream(), Stream.of("properties.name", "dataServices.endpointUrl")).toList(),
+            new DatasetIndex(DatasetIndex.DEFAULT_PROPERTIES));
     
     @Override
     protected FederatedCatalogCache getStore() {
         return store;
     }
+
+    @Test
+    void searchDatasets_shouldFollowSavedAndExpiredCatalogs() {
+        store.save(catalog("catalog-1", "old-dataset"), 1);
+        store.save(catalog("catalog-2", "other-dataset"), 1);
+        store.save(catalog("catalog-1", "new-dataset"), 2);
+
+        store.deleteExpired(2);
+
+        assertThat(store.searchDatasets("dataset", 0, 10).getContent())
+                .extracting(match -> match.dataset().getId())
+                .containsExactly("new-dataset");
+    }
+
+    @Test
+    void searchDatasets_withoutDatasetIndex_shouldFail() {
+        var unindexed = new InMemoryFederatedCatalogCache(new LockManager(new ReentrantReadWriteLock()), CriterionOperatorRegistryImpl.ofDefaults(),
+                CatalogIndex.DEFAULT_PATHS, null);
+        unindexed.save(catalog("catalog-1", "dataset-1"));
+
+        assertThat(unindexed.searchDatasets("dataset", 0, 10).failed()).isTrue();
+    }
+
+    @Test
+    void deleteExpired_moreEntriesThanBatch_shouldPurgeAllExpired() {
+        IntStream.range(0, 1000).forEach(i -> store.save(catalog("catalog-" + i, "dataset-" + i)));
+        store.expireAll();
+        store.save(catalog("catalog-7", "dataset-7"));
+
+        store.deleteExpired();
+
+        assertThat(store.query(QuerySpec.none())).extracting(Catalog::getId).containsExactly("catalog-7");
+        assertThat(store.searchDatasets("dataset", 0, 10).getContent()).extracting(match -> match.dataset().getId()).containsExactly("dataset-7");
+    }
+
+    @Test
+    void expireAll_twice_shouldKeepEntriesSavedInBetweenUntilNextDelete() {
+        store.save(catalog("catalog-1", "dataset-1"));
+        store.expireAll();
+        store.save(catalog("catalog-2", "dataset-2"));
+        store.expireAll();
+
+        store.deleteExpired();
+
+        assertThat(store.query(QuerySpec.none())).isEmpty();
+    }
+
+    private Catalog catalog(String id, String datasetId) {
+        return Catalog.Builder.newInstance().id(id).participantId("participant")
+                .datasets(List.of(Dataset.Builder.newInstance().id(datasetId).build()))
+                .build();
+    }
 }
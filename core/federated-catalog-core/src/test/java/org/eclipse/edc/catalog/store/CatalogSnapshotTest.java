@@ -0,0 +1,134 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.catalog.store;
+
+import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CatalogSnapshotTest {
+
+    @Test
+    void with_shouldIterateCatalogsInKeyOrder() {
+        var snapshot = CatalogSnapshot.EMPTY.with(Map.of("b", catalog("b"), "c", catalog("c"), "a", catalog("a")), Set.of());
+
+        assertThat(snapshot.values()).extracting(Catalog::getId).containsExactly("a", "b", "c");
+        assertThat(snapshot.get("b")).extracting(Catalog::getId).isEqualTo("b");
+        assertThat(snapshot.get("d")).isNull();
+        assertThat(snapshot.size()).isEqualTo(3);
+    }
+
+    @Test
+    void with_noChanges_shouldReturnSameSnapshot() {
+        var snapshot = CatalogSnapshot.EMPTY.with(Map.of("a", catalog("a")), Set.of());
+
+        assertThat(snapshot.with(Map.of(), Set.of())).isSameAs(snapshot);
+        assertThat(snapshot.with(Map.of(), Set.of("unknown"))).isSameAs(snapshot);
+        assertThat(snapshot.with(Map.of("a", snapshot.get("a")), Set.of())).isSameAs(snapshot);
+    }
+
+    @Test
+    void with_singleChange_shouldShareAllOtherEntries() {
+        var catalogs = IntStream.range(0, 10_000).mapToObj(i -> catalog("catalog-" + i))
+                .collect(Collectors.toMap(Catalog::getId, Function.identity()));
+        var snapshot = CatalogSnapshot.EMPTY.with(catalogs, Set.of());
+
+        var saved = snapshot.with(Map.of("catalog-42", catalog("catalog-42")), Set.of());
+        var removed = snapshot.with(Map.of(), Set.of("catalog-4711"));
+
+        // only the nodes on the path to the changed key, and those rotated while rebalancing, are copied
+        assertThat(sharedNodes(saved, snapshot)).isGreaterThan(10_000 - 50);
+        assertThat(sharedNodes(removed, snapshot)).isGreaterThan(9_999 - 50);
+        assertThat(snapshot.size()).isEqualTo(10_000);
+        assertThat(removed.size()).isEqualTo(9_999);
+        assertThat(removed.get("catalog-4711")).isNull();
+        assertThat(snapshot.get("catalog-4711")).isNotNull();
+    }
+
+    @Test
+    void with_randomChanges_shouldMatchSortedMap() {
+        var random = new Random(42);
+        var expected = new TreeMap<String, Catalog>();
+        var snapshot = CatalogSnapshot.EMPTY;
+        for (var round = 0; round < 200; round++) {
+            var puts = new TreeMap<String, Catalog>();
+            var removals = new HashSet<String>();
+            for (var i = 0; i < 20; i++) {
+                var key = "catalog-" + random.nextInt(500);
+                if (random.nextInt(3) == 0) {
+                    removals.add(key);
+                    puts.remove(key);
+                } else {
+                    puts.put(key, catalog(key));
+                    removals.remove(key);
+                }
+            }
+            removals.forEach(expected::remove);
+            expected.putAll(puts);
+
+            snapshot = snapshot.with(puts, removals);
+
+            assertThat(snapshot.size()).isEqualTo(expected.size());
+            assertThat(snapshot.values().toList()).containsExactlyElementsOf(List.copyOf(expected.values()));
+        }
+    }
+
+    /**
+     * Counts the tree nodes of the snapshot that are the same instances as in the other snapshot. The nodes are private to the
+     * snapshot, so they are reached by reflection.
+     */
+    private int sharedNodes(CatalogSnapshot snapshot, CatalogSnapshot other) {
+        Set<Object> nodes = Collections.newSetFromMap(new IdentityHashMap<>());
+        nodesOf(field(other, "root"), nodes);
+        Set<Object> shared = Collections.newSetFromMap(new IdentityHashMap<>());
+        nodesOf(field(snapshot, "root"), shared);
+        shared.retainAll(nodes);
+        return shared.size();
+    }
+
+    private void nodesOf(Object node, Set<Object> nodes) {
+        if (node != null && nodes.add(node)) {
+            nodesOf(field(node, "left"), nodes);
+            nodesOf(field(node, "right"), nodes);
+        }
+    }
+
+    private Object field(Object target, String name) {
+        try {
+            var field = target.getClass().getDeclaredField(name);
+            field.setAccessible(true);
+            return field.get(target);
+        } catch (ReflectiveOperationException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private Catalog catalog(String id) {
+        return Catalog.Builder.newInstance().id(id).participantId("participant").build();
+    }
+}
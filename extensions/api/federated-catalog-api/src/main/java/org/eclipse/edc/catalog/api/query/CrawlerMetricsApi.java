@@ -0,0 +1,35 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.catalog.api.query;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.eclipse.edc.crawler.spi.model.CrawlerMetricsSnapshot;
+
+@Tag(name = "Crawler Metrics")
+public interface CrawlerMetricsApi {
+
+    @Operation(description = "Obtains the performance metrics of the crawlers of this cache instance, e.g. the fetch latency, " +
+            "the number of pages, bytes and datasets per target node, and the depth of the crawler queues",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "The current crawler metrics",
+                            content = @Content(schema = @Schema(implementation = CrawlerMetricsSnapshot.class)))
+            }
+    )
+    CrawlerMetricsSnapshot getMetrics();
+}
@@ -0,0 +1,39 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.catalog.api.query;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import org.eclipse.edc.crawler.spi.CrawlerMetrics;
+import org.eclipse.edc.crawler.spi.model.CrawlerMetricsSnapshot;
+
+@Produces({ MediaType.APPLICATION_JSON })
+@Path("/v1alpha/crawler/metrics")
+public class CrawlerMetricsApiController implements CrawlerMetricsApi {
+
+    private final CrawlerMetrics metrics;
+
+    public CrawlerMetricsApiController(CrawlerMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    @GET
+    public CrawlerMetricsSnapshot getMetrics() {
+        return metrics.getSnapshot();
+    }
+}
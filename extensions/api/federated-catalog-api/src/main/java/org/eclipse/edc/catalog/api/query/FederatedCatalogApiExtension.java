@@ -16,6 +16,7 @@ package org.eclipse.edc.catalog.api.query;
 
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import org.eclipse.edc.catalog.spi.QueryService;
+import org.eclipse.edc.crawler.spi.CrawlerMetrics;
 import org.eclipse.edc.jsonld.spi.JsonLd;
 import org.eclipse.edc.runtime.metamodel.annotation.Configuration;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
@@ -71,6 +72,8 @@ public class FederatedCatalogApiExtension implements ServiceExtension {
     private ApiVersionService apiVersionService;
     @Inject
     private PortMappingRegistry portMappingRegistry;
+    @Inject(required = false)
+    private CrawlerMetrics crawlerMetrics;
 
     @Override
     public String name() {
@@ -86,6 +89,9 @@ public class FederatedCatalogApiExtension implements ServiceExtension {
 
         var catalogController = new FederatedCatalogApiController(queryService, transformerRegistry);
         webService.registerResource(CATALOG_QUERY, catalogController);
+        if (crawlerMetrics != null) {
+            webService.registerResource(CATALOG_QUERY, new CrawlerMetricsApiController(crawlerMetrics));
+        }
         webService.registerResource(CATALOG_QUERY, new ObjectMapperProvider(typeManager, JSON_LD));
         webService.registerResource(CATALOG_QUERY, new JerseyJsonLdInterceptor(jsonLd, typeManager, JSON_LD, CATALOG_QUERY_SCOPE));
 
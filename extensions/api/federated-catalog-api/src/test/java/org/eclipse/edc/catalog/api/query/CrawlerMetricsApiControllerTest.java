@@ -0,0 +1,68 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.catalog.api.query;
+
+import io.restassured.specification.RequestSpecification;
+import org.eclipse.edc.crawler.spi.CrawlerMetrics;
+import org.eclipse.edc.crawler.spi.model.CrawlerMetricsSnapshot;
+import org.eclipse.edc.crawler.spi.model.CrawlerMetricsSnapshot.NodeMetrics;
+import org.eclipse.edc.crawler.spi.model.CrawlerMetricsSnapshot.TimerSnapshot;
+import org.eclipse.edc.junit.annotations.ApiTest;
+import org.eclipse.edc.web.jersey.testfixtures.RestControllerTestBase;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static io.restassured.RestAssured.given;
+import static io.restassured.http.ContentType.JSON;
+import static org.hamcrest.CoreMatchers.is;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ApiTest
+class CrawlerMetricsApiControllerTest extends RestControllerTestBase {
+    private static final String PATH = "/v1alpha/crawler/metrics";
+    private final CrawlerMetrics metrics = mock();
+
+    @Test
+    void getMetrics() {
+        var latency = new TimerSnapshot(2, 30, 20, Map.of("10", 1L, "25", 1L));
+        var node = new NodeMetrics(1, 0, 0, 0, 2, 2048, 150, latency, TimerSnapshot.EMPTY, TimerSnapshot.EMPTY);
+        when(metrics.getSnapshot()).thenReturn(new CrawlerMetricsSnapshot(Map.of("node-1", node), TimerSnapshot.EMPTY,
+                Map.of("crawler.executor.queue.depth", 3L)));
+
+        baseRequest()
+                .get(PATH)
+                .then()
+                .log().ifValidationFails()
+                .statusCode(200)
+                .contentType(JSON)
+                .body("nodes.'node-1'.pages", is(2))
+                .body("nodes.'node-1'.bytes", is(2048))
+                .body("nodes.'node-1'.fetchLatency.maxMillis", is(20))
+                .body("gauges.'crawler.executor.queue.depth'", is(3));
+    }
+
+    @Override
+    protected Object controller() {
+        return new CrawlerMetricsApiController(metrics);
+    }
+
+    private RequestSpecification baseRequest() {
+        return given()
+                .baseUri("http://localhost:" + port)
+                .when();
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.catalog.membership.sql;
+
+import static java.lang.String.format;
+
+public abstract class BaseSqlDialectStatements implements CrawlerMembershipStatements {
+
+    @Override
+    public String getHeartbeatTemplate() {
+        return format("INSERT INTO %s (%s, %s) VALUES (?, ?) ON CONFLICT (%s) DO UPDATE SET %s = EXCLUDED.%s",
+                getCrawlerMembershipTable(), getReplicaIdColumn(), getLastHeartbeatColumn(),
+                getReplicaIdColumn(), getLastHeartbeatColumn(), getLastHeartbeatColumn());
+    }
+
+    @Override
+    public String getFindAliveTemplate() {
+        return format("SELECT %s FROM %s WHERE %s >= ?", getReplicaIdColumn(), getCrawlerMembershipTable(), getLastHeartbeatColumn());
+    }
+
+    @Override
+    public String getDeleteExpiredTemplate() {
+        return format("DELETE FROM %s WHERE %s < ?", getCrawlerMembershipTable(), getLastHeartbeatColumn());
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.catalog.membership.sql;
+
+import org.eclipse.edc.sql.statement.SqlStatements;
+
+public interface CrawlerMembershipStatements extends SqlStatements {
+
+    default String getCrawlerMembershipTable() {
+        return "edc_crawler_membership";
+    }
+
+    default String getReplicaIdColumn() {
+        return "replica_id";
+    }
+
+    default String getLastHeartbeatColumn() {
+        return "last_heartbeat";
+    }
+
+    /**
+     * Inserts or updates the heartbeat of a replica. Parameters: replica id, last heartbeat.
+     */
+    String getHeartbeatTemplate();
+
+    /**
+     * Selects all replicas whose last heartbeat is not older than the given epoch millis.
+     */
+    String getFindAliveTemplate();
+
+    /**
+     * Deletes all replicas whose last heartbeat is older than the given epoch millis.
+     */
+    String getDeleteExpiredTemplate();
+}
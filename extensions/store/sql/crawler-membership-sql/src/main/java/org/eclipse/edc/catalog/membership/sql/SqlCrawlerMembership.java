@@ -0,0 +1,69 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.catalog.membership.sql;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.crawler.spi.CrawlerMembership;
+import org.eclipse.edc.spi.persistence.EdcPersistenceException;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.store.AbstractSqlStore;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * {@link CrawlerMembership} that records the heartbeats of all replicas that use the same database in a table.
+ */
+public class SqlCrawlerMembership extends AbstractSqlStore implements CrawlerMembership {
+
+    private final CrawlerMembershipStatements statements;
+    private final String replicaId;
+    private final Clock clock;
+
+    public SqlCrawlerMembership(DataSourceRegistry dataSourceRegistry, String dataSourceName, TransactionContext transactionContext,
+                                ObjectMapper objectMapper, QueryExecutor queryExecutor, CrawlerMembershipStatements statements,
+                                String replicaId, Clock clock) {
+        super(dataSourceRegistry, dataSourceName, transactionContext, objectMapper, queryExecutor);
+        this.statements = statements;
+        this.replicaId = replicaId;
+        this.clock = clock;
+    }
+
+    @Override
+    public String getReplicaId() {
+        return replicaId;
+    }
+
+    @Override
+    public Set<String> heartbeat(Duration timeout) {
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var now = clock.millis();
+                var oldest = now - timeout.toMillis();
+                queryExecutor.execute(connection, statements.getHeartbeatTemplate(), replicaId, now);
+                queryExecutor.execute(connection, statements.getDeleteExpiredTemplate(), oldest);
+                return queryExecutor.query(connection, true, rs -> rs.getString(statements.getReplicaIdColumn()), statements.getFindAliveTemplate(), oldest)
+                        .collect(Collectors.toSet());
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+}
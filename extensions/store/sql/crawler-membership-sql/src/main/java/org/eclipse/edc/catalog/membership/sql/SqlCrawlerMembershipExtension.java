@@ -0,0 +1,76 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.catalog.membership.sql;
+
+import org.eclipse.edc.catalog.membership.sql.schema.postgres.PostgresDialectStatements;
+import org.eclipse.edc.crawler.spi.CrawlerMembership;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Provides;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.bootstrapper.SqlSchemaBootstrapper;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+
+import java.time.Clock;
+
+/**
+ * Registers a {@link CrawlerMembership}, which makes the federated catalog partition the target nodes among all replicas
+ * that use the same database. Only add this extension if all replicas share the same database.
+ */
+@Provides(CrawlerMembership.class)
+@Extension(value = "SQL crawler membership")
+public class SqlCrawlerMembershipExtension implements ServiceExtension {
+
+    @Setting(description = "The datasource to be used", defaultValue = DataSourceRegistry.DEFAULT_DATASOURCE, key = "edc.sql.store.crawlermembership.datasource")
+    private String dataSourceName;
+
+    @Inject
+    private DataSourceRegistry dataSourceRegistry;
+    @Inject
+    private TransactionContext trxContext;
+    @Inject(required = false)
+    private CrawlerMembershipStatements statements;
+    @Inject
+    private TypeManager typeManager;
+    @Inject
+    private Clock clock;
+
+    @Inject
+    private QueryExecutor queryExecutor;
+
+    @Inject
+    private SqlSchemaBootstrapper sqlSchemaBootstrapper;
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        var membership = new SqlCrawlerMembership(dataSourceRegistry, dataSourceName, trxContext, typeManager.getMapper(), queryExecutor,
+                getStatementImpl(), context.getRuntimeId(), clock);
+        context.registerService(CrawlerMembership.class, membership);
+        sqlSchemaBootstrapper.addStatementFromResource(dataSourceName, "crawler-membership-schema.sql");
+    }
+
+    /**
+     * returns an externally-provided sql statement dialect, or postgres as a default
+     */
+    private CrawlerMembershipStatements getStatementImpl() {
+        return statements != null ? statements : new PostgresDialectStatements();
+    }
+
+}
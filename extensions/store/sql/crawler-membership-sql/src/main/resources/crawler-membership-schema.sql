@@ -0,0 +1,22 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+-- only intended for and tested with Postgres!
+CREATE TABLE IF NOT EXISTS edc_crawler_membership
+(
+    replica_id     VARCHAR PRIMARY KEY NOT NULL,
+    last_heartbeat BIGINT  NOT NULL
+);
+
+COMMENT ON COLUMN edc_crawler_membership.last_heartbeat IS 'Epoch milliseconds of the last heartbeat of the replica';
@@ -0,0 +1,87 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.catalog.membership.sql;
+
+import org.eclipse.edc.catalog.membership.sql.schema.postgres.PostgresDialectStatements;
+import org.eclipse.edc.json.JacksonTypeManager;
+import org.eclipse.edc.junit.annotations.PostgresqlIntegrationTest;
+import org.eclipse.edc.junit.testfixtures.TestUtils;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.testfixtures.PostgresqlStoreSetupExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.time.Clock;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@PostgresqlIntegrationTest
+@ExtendWith(PostgresqlStoreSetupExtension.class)
+class SqlCrawlerMembershipTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final CrawlerMembershipStatements statements = new PostgresDialectStatements();
+    private final Clock clock = mock();
+
+    private SqlCrawlerMembership replica1;
+    private SqlCrawlerMembership replica2;
+
+    @BeforeEach
+    void setup(PostgresqlStoreSetupExtension extension, QueryExecutor queryExecutor) {
+        when(clock.millis()).thenReturn(100_000L);
+        replica1 = createMembership(extension, queryExecutor, "replica-1");
+        replica2 = createMembership(extension, queryExecutor, "replica-2");
+
+        var schema = TestUtils.getResourceFileContentAsString("crawler-membership-schema.sql");
+        extension.runQuery(schema);
+    }
+
+    @AfterEach
+    void tearDown(PostgresqlStoreSetupExtension extension) {
+        extension.runQuery("DROP TABLE " + statements.getCrawlerMembershipTable());
+    }
+
+    @Test
+    void heartbeat_shouldReturnSelf() {
+        assertThat(replica1.heartbeat(TIMEOUT)).containsExactly("replica-1");
+    }
+
+    @Test
+    void heartbeat_shouldReturnAllAliveReplicas() {
+        replica1.heartbeat(TIMEOUT);
+
+        assertThat(replica2.heartbeat(TIMEOUT)).containsExactlyInAnyOrder("replica-1", "replica-2");
+    }
+
+    @Test
+    void heartbeat_shouldNotReturnExpiredReplicas() {
+        replica1.heartbeat(TIMEOUT);
+
+        when(clock.millis()).thenReturn(100_000L + TIMEOUT.toMillis() + 1);
+
+        assertThat(replica2.heartbeat(TIMEOUT)).containsExactly("replica-2");
+    }
+
+    private SqlCrawlerMembership createMembership(PostgresqlStoreSetupExtension extension, QueryExecutor queryExecutor, String replicaId) {
+        return new SqlCrawlerMembership(extension.getDataSourceRegistry(), extension.getDatasourceName(), extension.getTransactionContext(),
+                new JacksonTypeManager().getMapper(), queryExecutor, statements, replicaId, clock);
+    }
+}
@@ -29,11 +29,6 @@ public abstract class BaseSqlDialectStatements implements FederatedCatalogCacheS
         this.operatorTranslator = operatorTranslator;
     }
 
-    @Override
-    public String getFindByIdTemplate() {
-        return format("SELECT * FROM %s WHERE %s = ?", getFederatedCatalogTable(), getIdColumn());
-    }
-
     @Override
     public String getUpdateAsMarkedTemplate() {
         return format("UPDATE %s SET %s = ?", getFederatedCatalogTable(), getMarkedColumn());
@@ -46,19 +41,25 @@ public abstract class BaseSqlDialectStatements implements FederatedCatalogCacheS
     }
 
     @Override
-    public String getInsertTemplate() {
-        return executeStatement()
-                .column(getIdColumn())
-                .jsonColumn(getCatalogColumn())
-                .column(getMarkedColumn())
-                .insertInto(getFederatedCatalogTable());
+    public String getDeleteByGenerationTemplate() {
+        return format("DELETE FROM %s WHERE %s < ?", getFederatedCatalogTable(), getGenerationColumn());
+    }
+
+    @Override
+    public String getDeleteByIdAndGenerationTemplate() {
+        return format("DELETE FROM %s WHERE %s = ? AND %s < ?", getFederatedCatalogTable(), getIdColumn(), getGenerationColumn());
+    }
+
+    @Override
+    public String getSelectByGenerationTemplate() {
+        return format("SELECT %s, %s FROM %s WHERE %s < ?", getIdColumn(), getGenerationColumn(), getFederatedCatalogTable(), getGenerationColumn());
     }
 
     @Override
-    public String getUpdateTemplate() {
+    public String getTouchTemplate() {
         return executeStatement()
-                .jsonColumn(getCatalogColumn())
                 .column(getMarkedColumn())
+                .column(getGenerationColumn())
                 .update(getFederatedCatalogTable(), getIdColumn());
     }
 
@@ -36,16 +36,36 @@ public interface FederatedCatalogCacheStatements extends SqlStatements {
         return "marked";
     }
 
-    String getFindByIdTemplate();
+    default String getGenerationColumn() {
+        return "generation";
+    }
 
     String getUpdateAsMarkedTemplate();
 
     String getDeleteByMarkedTemplate();
 
+    String getDeleteByGenerationTemplate();
+
+    /**
+     * Deletes the catalog with the given id if it was saved during a generation older than the given one.
+     */
+    String getDeleteByIdAndGenerationTemplate();
+
+    /**
+     * Selects the id and generation of all catalogs that were saved during a generation older than the given one.
+     */
+    String getSelectByGenerationTemplate();
 
-    String getInsertTemplate();
+    /**
+     * Inserts a catalog, or replaces the catalog with the same id and clears its mark. The syntax of upserts is specific to
+     * each database, so there is no default implementation.
+     */
+    String getUpsertTemplate();
 
-    String getUpdateTemplate();
+    /**
+     * Sets the generation of the catalog with the given id and clears its mark, without rewriting the catalog.
+     */
+    String getTouchTemplate();
 
     SqlQueryStatement createQuery(QuerySpec query);
 
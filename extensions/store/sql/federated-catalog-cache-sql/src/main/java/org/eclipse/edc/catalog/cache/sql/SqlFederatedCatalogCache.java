@@ -25,10 +25,11 @@ import org.eclipse.edc.sql.store.AbstractSqlStore;
 import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 
-import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 
 import static java.util.Optional.ofNullable;
 
@@ -44,19 +45,42 @@ public class SqlFederatedCatalogCache extends AbstractSqlStore implements Federa
 
     @Override
     public void save(Catalog catalog) {
+        save(catalog, System.currentTimeMillis());
+    }
 
+    @Override
+    public void save(Catalog catalog, long generation) {
+        saveAll(List.of(catalog), generation);
+    }
+
+    /**
+     * Upserts all catalogs in a single transaction, with one statement per catalog.
+     */
+    @Override
+    public void saveAll(Collection<Catalog> catalogs, long generation) {
+        if (catalogs.isEmpty()) {
+            return;
+        }
         transactionContext.execute(() -> {
             try (var connection = getConnection()) {
-                var id = ofNullable(catalog.getProperties().get(CatalogConstants.PROPERTY_ORIGINATOR))
-                        .map(Object::toString)
-                        .orElse(catalog.getId());
-
-                if (findByIdInternal(connection, id) == null) {
-                    insertInternal(connection, id, catalog);
-                } else {
-                    updateInternal(connection, id, catalog);
+                var stmt = statements.getUpsertTemplate();
+                for (var catalog : catalogs) {
+                    var id = ofNullable(catalog.getProperties().get(CatalogConstants.PROPERTY_ORIGINATOR))
+                            .map(Object::toString)
+                            .orElse(catalog.getId());
+                    queryExecutor.execute(connection, stmt, id, toJson(catalog), false, generation);
                 }
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
 
+    @Override
+    public boolean touch(String id, long generation) {
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                return queryExecutor.execute(connection, statements.getTouchTemplate(), false, generation, id) > 0;
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
@@ -88,35 +112,62 @@ public class SqlFederatedCatalogCache extends AbstractSqlStore implements Federa
     }
 
     @Override
-    public void expireAll() {
+    public void deleteExpired(long generation) {
         transactionContext.execute(() -> {
             try (var connection = getConnection()) {
-                var stmt = statements.getUpdateAsMarkedTemplate();
-                queryExecutor.execute(connection, stmt, true);
+                var stmt = statements.getDeleteByGenerationTemplate();
+                queryExecutor.execute(connection, stmt, generation);
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
         });
-
     }
 
-    private Catalog findByIdInternal(Connection connection, String id) {
-        var stmt = statements.getFindByIdTemplate();
-        return queryExecutor.single(connection, false, this::mapResultSet, stmt, id);
+    /**
+     * Selects the ids and generations of all entries older than the given generation, and deletes those that are not
+     * retained one by one, all in a single transaction. Only ids and generations are read, not the catalogs.
+     */
+    @Override
+    public void deleteExpired(long generation, Map<String, Long> retained) {
+        if (retained.isEmpty()) {
+            deleteExpired(generation);
+            return;
+        }
+        transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var expired = queryExecutor.query(connection, true, this::mapGeneration, statements.getSelectByGenerationTemplate(), generation).toList();
+                var stmt = statements.getDeleteByIdAndGenerationTemplate();
+                for (var entry : expired) {
+                    var horizon = Math.min(generation, retained.getOrDefault(entry.getKey(), generation));
+                    if (entry.getValue() < horizon) {
+                        queryExecutor.execute(connection, stmt, entry.getKey(), horizon);
+                    }
+                }
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
     }
 
-    private void insertInternal(Connection connection, String id, Catalog catalog) {
-        var stmt = statements.getInsertTemplate();
-        queryExecutor.execute(connection, stmt, id, toJson(catalog), false);
-    }
+    @Override
+    public void expireAll() {
+        transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var stmt = statements.getUpdateAsMarkedTemplate();
+                queryExecutor.execute(connection, stmt, true);
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
 
-    private void updateInternal(Connection connection, String id, Catalog catalog) {
-        var stmt = statements.getUpdateTemplate();
-        queryExecutor.execute(connection, stmt, toJson(catalog), false, id);
     }
 
     private Catalog mapResultSet(ResultSet resultSet) throws Exception {
         var json = resultSet.getString(statements.getCatalogColumn());
         return fromJson(json, Catalog.class);
     }
+
+    private Map.Entry<String, Long> mapGeneration(ResultSet resultSet) throws SQLException {
+        return Map.entry(resultSet.getString(statements.getIdColumn()), resultSet.getLong(statements.getGenerationColumn()));
+    }
 }
@@ -38,6 +38,14 @@ public class PostgresDialectStatements extends BaseSqlDialectStatements {
     }
 
 
+    @Override
+    public String getUpsertTemplate() {
+        return format("INSERT INTO %1$s (%2$s, %3$s, %4$s, %5$s) VALUES (?, ?%6$s, ?, ?) " +
+                        "ON CONFLICT (%2$s) DO UPDATE SET %3$s = EXCLUDED.%3$s, %4$s = EXCLUDED.%4$s, %5$s = EXCLUDED.%5$s",
+                getFederatedCatalogTable(), getIdColumn(), getCatalogColumn(), getMarkedColumn(), getGenerationColumn(),
+                getFormatAsJsonOperator());
+    }
+
     @Override
     public SqlQueryStatement createQuery(QuerySpec querySpec) {
         if (querySpec.containsAnyLeftOperand("datasets")) {
@@ -17,5 +17,12 @@ CREATE TABLE IF NOT EXISTS edc_federated_catalog
 (
     id                    VARCHAR PRIMARY KEY NOT NULL,
     catalog               JSON,
-    marked                BOOLEAN DEFAULT FALSE
+    marked                BOOLEAN DEFAULT FALSE,
+    generation            BIGINT  DEFAULT 0
 );
+
+ALTER TABLE edc_federated_catalog ADD COLUMN IF NOT EXISTS generation BIGINT DEFAULT 0;
+
+CREATE INDEX IF NOT EXISTS edc_federated_catalog_generation_idx ON edc_federated_catalog (generation);
+
+COMMENT ON COLUMN edc_federated_catalog.generation IS 'ID of the crawl generation during which the catalog was last saved';
@@ -0,0 +1,49 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.catalog.queue.sql;
+
+import static java.lang.String.format;
+
+public abstract class BaseSqlDialectStatements implements WorkItemQueueStatements {
+
+    @Override
+    public String getUpsertTemplate() {
+        return format("INSERT INTO %s (%s, %s, %s, %s) VALUES (?, ?, ?, ?) ON CONFLICT (%s) DO UPDATE SET %s = EXCLUDED.%s, %s = EXCLUDED.%s",
+                getWorkItemQueueTable(), getIdColumn(), getUrlColumn(), getProtocolColumn(), getNextRunAtColumn(),
+                getIdColumn(), getUrlColumn(), getUrlColumn(), getProtocolColumn(), getProtocolColumn());
+    }
+
+    @Override
+    public String getClaimTemplate() {
+        var dueItems = format("SELECT %s FROM %s WHERE %s <= ? AND (%s IS NULL OR %s < ?) ORDER BY %s LIMIT ? FOR UPDATE SKIP LOCKED",
+                getIdColumn(), getWorkItemQueueTable(), getNextRunAtColumn(), getLeaseExpiresAtColumn(), getLeaseExpiresAtColumn(),
+                getNextRunAtColumn());
+        return format("UPDATE %s SET %s = ?, %s = ? WHERE %s IN (%s) RETURNING *",
+                getWorkItemQueueTable(), getLeaseHolderColumn(), getLeaseExpiresAtColumn(), getIdColumn(), dueItems);
+    }
+
+    @Override
+    public String getCompleteTemplate() {
+        return format("UPDATE %s SET %s = NULL, %s = NULL, %s = ? WHERE %s = ? AND %s = ?",
+                getWorkItemQueueTable(), getLeaseHolderColumn(), getLeaseExpiresAtColumn(), getNextRunAtColumn(), getIdColumn(),
+                getLeaseHolderColumn());
+    }
+
+    @Override
+    public String getDeleteTemplate() {
+        return executeStatement()
+                .delete(getWorkItemQueueTable(), getIdColumn());
+    }
+}
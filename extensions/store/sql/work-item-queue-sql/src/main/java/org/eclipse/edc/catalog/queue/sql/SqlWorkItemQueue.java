@@ -0,0 +1,109 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.catalog.queue.sql;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.crawler.spi.WorkItem;
+import org.eclipse.edc.crawler.spi.WorkItemQueue;
+import org.eclipse.edc.spi.persistence.EdcPersistenceException;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.store.AbstractSqlStore;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * {@link WorkItemQueue} that is shared by all replicas that use the same database. Items are claimed with
+ * {@code SELECT ... FOR UPDATE SKIP LOCKED}, so concurrent replicas never claim the same item, and never block each other.
+ */
+public class SqlWorkItemQueue extends AbstractSqlStore implements WorkItemQueue {
+
+    private final WorkItemQueueStatements statements;
+    private final String leaseHolder;
+    private final Clock clock;
+
+    public SqlWorkItemQueue(DataSourceRegistry dataSourceRegistry, String dataSourceName, TransactionContext transactionContext,
+                            ObjectMapper objectMapper, QueryExecutor queryExecutor, WorkItemQueueStatements statements,
+                            String leaseHolder, Clock clock) {
+        super(dataSourceRegistry, dataSourceName, transactionContext, objectMapper, queryExecutor);
+        this.statements = statements;
+        this.leaseHolder = leaseHolder;
+        this.clock = clock;
+    }
+
+    @Override
+    public void offer(List<WorkItem> items) {
+        transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var stmt = statements.getUpsertTemplate();
+                var now = clock.millis();
+                for (var item : items) {
+                    queryExecutor.execute(connection, stmt, item.getId(), item.getUrl(), item.getProtocol(), now);
+                }
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public List<WorkItem> claim(int max, Duration lease) {
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var now = clock.millis();
+                var stmt = statements.getClaimTemplate();
+                return queryExecutor.query(connection, true, this::mapResultSet, stmt, leaseHolder, now + lease.toMillis(), now, now, max).toList();
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public void complete(WorkItem item, Duration delay) {
+        transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var stmt = statements.getCompleteTemplate();
+                queryExecutor.execute(connection, stmt, clock.millis() + delay.toMillis(), item.getId(), leaseHolder);
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public void remove(String id) {
+        transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                queryExecutor.execute(connection, statements.getDeleteTemplate(), id);
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    private WorkItem mapResultSet(ResultSet resultSet) throws Exception {
+        return new WorkItem(
+                resultSet.getString(statements.getIdColumn()),
+                resultSet.getString(statements.getUrlColumn()),
+                resultSet.getString(statements.getProtocolColumn())
+        );
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.catalog.queue.sql;
+
+import org.eclipse.edc.catalog.queue.sql.schema.postgres.PostgresDialectStatements;
+import org.eclipse.edc.crawler.spi.WorkItemQueue;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Provides;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.bootstrapper.SqlSchemaBootstrapper;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+
+import java.time.Clock;
+
+/**
+ * Registers a {@link WorkItemQueue} that lets multiple federated catalog replicas share the crawl work. Only add this
+ * extension if all replicas use the same database.
+ */
+@Provides(WorkItemQueue.class)
+@Extension(value = "SQL work item queue")
+public class SqlWorkItemQueueExtension implements ServiceExtension {
+
+    @Setting(description = "The datasource to be used", defaultValue = DataSourceRegistry.DEFAULT_DATASOURCE, key = "edc.sql.store.workitemqueue.datasource")
+    private String dataSourceName;
+
+    @Inject
+    private DataSourceRegistry dataSourceRegistry;
+    @Inject
+    private TransactionContext trxContext;
+    @Inject(required = false)
+    private WorkItemQueueStatements statements;
+    @Inject
+    private TypeManager typeManager;
+    @Inject
+    private Clock clock;
+
+    @Inject
+    private QueryExecutor queryExecutor;
+
+    @Inject
+    private SqlSchemaBootstrapper sqlSchemaBootstrapper;
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        var queue = new SqlWorkItemQueue(dataSourceRegistry, dataSourceName, trxContext, typeManager.getMapper(), queryExecutor,
+                getStatementImpl(), context.getRuntimeId(), clock);
+        context.registerService(WorkItemQueue.class, queue);
+        sqlSchemaBootstrapper.addStatementFromResource(dataSourceName, "work-item-queue-schema.sql");
+    }
+
+    /**
+     * returns an externally-provided sql statement dialect, or postgres as a default
+     */
+    private WorkItemQueueStatements getStatementImpl() {
+        return statements != null ? statements : new PostgresDialectStatements();
+    }
+
+}
@@ -0,0 +1,66 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.catalog.queue.sql;
+
+import org.eclipse.edc.sql.statement.SqlStatements;
+
+public interface WorkItemQueueStatements extends SqlStatements {
+
+    default String getWorkItemQueueTable() {
+        return "edc_work_item_queue";
+    }
+
+    default String getIdColumn() {
+        return "id";
+    }
+
+    default String getUrlColumn() {
+        return "url";
+    }
+
+    default String getProtocolColumn() {
+        return "protocol";
+    }
+
+    default String getNextRunAtColumn() {
+        return "next_run_at";
+    }
+
+    default String getLeaseHolderColumn() {
+        return "lease_holder";
+    }
+
+    default String getLeaseExpiresAtColumn() {
+        return "lease_expires_at";
+    }
+
+    /**
+     * Inserts an item, or updates url and protocol of an existing item. Parameters: id, url, protocol, next run at.
+     */
+    String getUpsertTemplate();
+
+    /**
+     * Leases due items that are not leased by anybody else and returns them. Parameters: lease holder, lease expires at,
+     * now, now, limit.
+     */
+    String getClaimTemplate();
+
+    /**
+     * Releases the lease of an item and re-schedules it. Parameters: next run at, id, lease holder.
+     */
+    String getCompleteTemplate();
+
+    String getDeleteTemplate();
+}
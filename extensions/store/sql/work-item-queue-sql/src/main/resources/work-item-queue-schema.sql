@@ -0,0 +1,30 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+-- only intended for and tested with Postgres!
+CREATE TABLE IF NOT EXISTS edc_work_item_queue
+(
+    id               VARCHAR PRIMARY KEY NOT NULL,
+    url              VARCHAR NOT NULL,
+    protocol         VARCHAR,
+    next_run_at      BIGINT  NOT NULL,
+    lease_holder     VARCHAR,
+    lease_expires_at BIGINT
+);
+
+CREATE INDEX IF NOT EXISTS edc_work_item_queue_next_run_at_idx ON edc_work_item_queue (next_run_at);
+
+COMMENT ON COLUMN edc_work_item_queue.next_run_at IS 'Epoch milliseconds after which the item is due';
+COMMENT ON COLUMN edc_work_item_queue.lease_holder IS 'Runtime id of the replica that currently crawls the item';
+COMMENT ON COLUMN edc_work_item_queue.lease_expires_at IS 'Epoch milliseconds after which the lease can be claimed by another replica';
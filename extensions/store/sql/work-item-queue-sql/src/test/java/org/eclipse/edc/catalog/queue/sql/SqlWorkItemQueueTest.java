@@ -0,0 +1,161 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.catalog.queue.sql;
+
+import org.eclipse.edc.catalog.queue.sql.schema.postgres.PostgresDialectStatements;
+import org.eclipse.edc.crawler.spi.WorkItem;
+import org.eclipse.edc.json.JacksonTypeManager;
+import org.eclipse.edc.junit.annotations.PostgresqlIntegrationTest;
+import org.eclipse.edc.junit.testfixtures.TestUtils;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.testfixtures.PostgresqlStoreSetupExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@PostgresqlIntegrationTest
+@ExtendWith(PostgresqlStoreSetupExtension.class)
+class SqlWorkItemQueueTest {
+
+    private static final Duration LEASE = Duration.ofSeconds(60);
+
+    private final WorkItemQueueStatements statements = new PostgresDialectStatements();
+    private final Clock clock = mock();
+
+    private SqlWorkItemQueue replica1;
+    private SqlWorkItemQueue replica2;
+
+    @BeforeEach
+    void setup(PostgresqlStoreSetupExtension extension, QueryExecutor queryExecutor) {
+        when(clock.millis()).thenReturn(1000L);
+        replica1 = createQueue(extension, queryExecutor, "replica-1");
+        replica2 = createQueue(extension, queryExecutor, "replica-2");
+
+        var schema = TestUtils.getResourceFileContentAsString("work-item-queue-schema.sql");
+        extension.runQuery(schema);
+    }
+
+    @AfterEach
+    void tearDown(PostgresqlStoreSetupExtension extension) {
+        extension.runQuery("DROP TABLE " + statements.getWorkItemQueueTable());
+    }
+
+    @Test
+    void claim_shouldReturnOfferedItems() {
+        replica1.offer(List.of(item("node-1"), item("node-2")));
+
+        var claimed = replica1.claim(10, LEASE);
+
+        assertThat(claimed).extracting(WorkItem::getId).containsExactlyInAnyOrder("node-1", "node-2");
+        assertThat(claimed).allSatisfy(item -> assertThat(item.getUrl()).isEqualTo("http://test.com/" + item.getId()));
+    }
+
+    @Test
+    void claim_shouldRespectMax() {
+        replica1.offer(items(5));
+
+        assertThat(replica1.claim(2, LEASE)).hasSize(2);
+        assertThat(replica1.claim(10, LEASE)).hasSize(3);
+    }
+
+    @Test
+    void claim_shouldNotReturnItemsLeasedByOtherReplica() {
+        replica1.offer(items(10));
+        replica2.offer(items(10));
+
+        var claimed1 = replica1.claim(6, LEASE);
+        var claimed2 = replica2.claim(10, LEASE);
+
+        assertThat(claimed1).hasSize(6);
+        assertThat(claimed2).hasSize(4)
+                .extracting(WorkItem::getId)
+                .doesNotContainAnyElementsOf(claimed1.stream().map(WorkItem::getId).toList());
+    }
+
+    @Test
+    void claim_leaseExpired_shouldBeClaimedAgain() {
+        replica1.offer(List.of(item("node-1")));
+        replica1.claim(1, LEASE);
+
+        when(clock.millis()).thenReturn(1000L + LEASE.toMillis() + 1);
+
+        assertThat(replica2.claim(1, LEASE)).extracting(WorkItem::getId).containsExactly("node-1");
+    }
+
+    @Test
+    void complete_shouldRescheduleItem() {
+        replica1.offer(List.of(item("node-1")));
+        var claimed = replica1.claim(1, LEASE);
+
+        replica1.complete(claimed.get(0), Duration.ofSeconds(10));
+
+        assertThat(replica2.claim(1, LEASE)).isEmpty();
+        when(clock.millis()).thenReturn(11_000L);
+        assertThat(replica2.claim(1, LEASE)).extracting(WorkItem::getId).containsExactly("node-1");
+    }
+
+    @Test
+    void complete_leasedByOtherReplica_shouldNotReschedule() {
+        replica1.offer(List.of(item("node-1")));
+        var claimed = replica1.claim(1, LEASE);
+
+        replica2.complete(claimed.get(0), Duration.ofSeconds(10));
+
+        when(clock.millis()).thenReturn(1000L + LEASE.toMillis() + 1);
+        assertThat(replica2.claim(1, LEASE)).hasSize(1);
+    }
+
+    @Test
+    void offer_existingItem_shouldKeepScheduleAndLease() {
+        replica1.offer(List.of(item("node-1")));
+        replica1.claim(1, LEASE);
+
+        replica2.offer(List.of(new WorkItem("node-1", "http://changed.com", "test-protocol")));
+
+        assertThat(replica2.claim(1, LEASE)).isEmpty();
+    }
+
+    @Test
+    void remove_shouldDeleteItem() {
+        replica1.offer(List.of(item("node-1")));
+
+        replica1.remove("node-1");
+
+        assertThat(replica1.claim(1, LEASE)).isEmpty();
+    }
+
+    private SqlWorkItemQueue createQueue(PostgresqlStoreSetupExtension extension, QueryExecutor queryExecutor, String leaseHolder) {
+        return new SqlWorkItemQueue(extension.getDataSourceRegistry(), extension.getDatasourceName(), extension.getTransactionContext(),
+                new JacksonTypeManager().getMapper(), queryExecutor, statements, leaseHolder, clock);
+    }
+
+    private List<WorkItem> items(int count) {
+        return IntStream.range(0, count).mapToObj(i -> item("node-" + i)).toList();
+    }
+
+    private WorkItem item(String id) {
+        return new WorkItem(id, "http://test.com/" + id, "test-protocol");
+    }
+}
@@ -21,6 +21,8 @@ include(":core:common:lib:catalog-util-lib")
 include(":extensions:api:federated-catalog-api")
 include(":extensions:store:sql:target-node-directory-sql")
 include(":extensions:store:sql:federated-catalog-cache-sql")
+include(":extensions:store:sql:work-item-queue-sql")
+include(":extensions:store:sql:crawler-membership-sql")
 include(":launchers:catalog-dcp")
 include(":launchers:catalog-mocked")
 include(":system-tests:bom-tests")
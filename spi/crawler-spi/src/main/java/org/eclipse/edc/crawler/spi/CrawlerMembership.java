@@ -0,0 +1,41 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.crawler.spi;
+
+import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Keeps track of the crawler replicas that are currently alive, so that they can split the {@link TargetNode}s among
+ * each other. Every replica periodically sends a heartbeat; replicas whose last heartbeat is too old are considered gone.
+ */
+@ExtensionPoint
+public interface CrawlerMembership {
+
+    /**
+     * The ID of this replica.
+     */
+    String getReplicaId();
+
+    /**
+     * Announces that this replica is alive.
+     *
+     * @param timeout replicas whose last heartbeat is older than this are not returned
+     * @return the IDs of all replicas that are alive, including this one
+     */
+    Set<String> heartbeat(Duration timeout);
+}
@@ -0,0 +1,114 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.crawler.spi;
+
+import org.eclipse.edc.crawler.spi.model.CrawlerMetricsSnapshot;
+import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongSupplier;
+
+/**
+ * Records performance metrics of the crawlers, e.g. to size the number of crawlers or to spot slow counterparties. Metrics
+ * are recorded per target node, where the node is identified by its {@link TargetNode#id()}. Pages of sub-catalogs are
+ * attributed to the node whose catalog referenced them.
+ * <p>
+ * All methods are called concurrently by the crawlers and must not block. The default implementations do nothing.
+ */
+@ExtensionPoint
+public interface CrawlerMetrics {
+
+    /**
+     * Metrics that records nothing.
+     */
+    CrawlerMetrics NOOP = new CrawlerMetrics() {
+    };
+
+    /**
+     * A page of a catalog was received from a node.
+     *
+     * @param nodeId  the node ID
+     * @param latency the time between sending the request and receiving the response
+     * @param bytes   the size of the response payload
+     */
+    default void pageFetched(String nodeId, Duration latency, long bytes) {
+    }
+
+    /**
+     * A page of a catalog was parsed and transformed.
+     *
+     * @param nodeId   the node ID
+     * @param datasets the number of datasets on the page, including sub-catalogs
+     * @param duration the time it took to parse, expand and transform the page
+     */
+    default void pageTransformed(String nodeId, int datasets, Duration duration) {
+    }
+
+    /**
+     * A catalog, or a batch of catalogs, was saved to the cache.
+     *
+     * @param duration the time it took to save the catalog or the batch
+     */
+    default void catalogSaved(Duration duration) {
+    }
+
+    /**
+     * A crawl of a node has completed, either successfully or not.
+     *
+     * @param nodeId   the node ID
+     * @param duration the time from the start of the crawl until its completion, including saving the catalog
+     * @param success  whether the crawl succeeded
+     */
+    default void crawlCompleted(String nodeId, Duration duration, boolean success) {
+    }
+
+    /**
+     * A failed crawl of a node was scheduled for a retry.
+     */
+    default void retryScheduled(String nodeId) {
+    }
+
+    /**
+     * A crawl of a node did not complete within its deadline and was cancelled. The crawl is also reported as failed through
+     * {@link #crawlCompleted(String, Duration, boolean)}.
+     */
+    default void crawlTimedOut(String nodeId) {
+    }
+
+    /**
+     * Registers a gauge, whose value is read whenever a snapshot is taken. A gauge with the same name is replaced.
+     *
+     * @param name   the name of the gauge, e.g. {@code executor.queue.depth}
+     * @param gauge  supplies the current value
+     */
+    default void registerGauge(String name, LongSupplier gauge) {
+    }
+
+    /**
+     * Drops the metrics of all nodes that are not contained in the given set, e.g. because they were removed from the
+     * {@link TargetNodeDirectory}.
+     */
+    default void retainOnly(Set<String> nodeIds) {
+    }
+
+    /**
+     * Returns the metrics recorded so far.
+     */
+    default CrawlerMetricsSnapshot getSnapshot() {
+        return new CrawlerMetricsSnapshot(Map.of(), CrawlerMetricsSnapshot.TimerSnapshot.EMPTY, Map.of());
+    }
+}
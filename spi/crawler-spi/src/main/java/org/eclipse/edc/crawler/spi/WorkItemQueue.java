@@ -0,0 +1,59 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.crawler.spi;
+
+import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * A queue of {@link WorkItem}s that is shared by multiple crawler replicas. Every replica offers the nodes it knows of, and
+ * then claims due items. A claimed item is leased to the claiming replica, so that no other replica crawls the same node
+ * until the item is completed or the lease has expired.
+ * <p>
+ * If no queue is registered, every replica crawls all nodes of the {@link TargetNodeDirectory}.
+ */
+@ExtensionPoint
+public interface WorkItemQueue {
+
+    /**
+     * Adds the given items to the queue, so that they are due immediately. Items that are already queued are updated, but
+     * keep their schedule and their lease.
+     */
+    void offer(List<WorkItem> items);
+
+    /**
+     * Claims due items that are not leased by any replica.
+     *
+     * @param max   the maximum number of items to claim
+     * @param lease how long the items are leased to this replica
+     * @return the claimed items, may be empty
+     */
+    List<WorkItem> claim(int max, Duration lease);
+
+    /**
+     * Releases the lease of a claimed item, and schedules it to be due again after the given delay.
+     *
+     * @param item  the claimed item
+     * @param delay the delay after which the item is due again
+     */
+    void complete(WorkItem item, Duration delay);
+
+    /**
+     * Removes an item from the queue, e.g. because the node was removed from the directory.
+     */
+    void remove(String id);
+}
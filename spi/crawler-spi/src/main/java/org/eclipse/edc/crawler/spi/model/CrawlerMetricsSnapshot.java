@@ -0,0 +1,61 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.crawler.spi.model;
+
+import org.eclipse.edc.crawler.spi.CrawlerMetrics;
+
+import java.util.Map;
+
+/**
+ * Point-in-time view of the {@link CrawlerMetrics}.
+ *
+ * @param nodes    the metrics of every target node, keyed by node ID
+ * @param saveTime the time it took to save catalogs to the cache
+ * @param gauges   the current values of all registered gauges, keyed by name
+ */
+public record CrawlerMetricsSnapshot(Map<String, NodeMetrics> nodes, TimerSnapshot saveTime, Map<String, Long> gauges) {
+
+    /**
+     * Metrics of a single target node. All counters are cumulative since the start of the runtime.
+     *
+     * @param crawls        the number of completed crawls, including failed ones
+     * @param failures      the number of failed crawls
+     * @param retries       the number of retries that were scheduled
+     * @param timeouts      the number of crawls that were cancelled because they exceeded their deadline
+     * @param pages         the number of pages fetched
+     * @param bytes         the number of bytes received
+     * @param datasets      the number of datasets parsed
+     * @param fetchLatency  the latency of fetching a single page
+     * @param transformTime the time it took to parse and transform a single page
+     * @param crawlTime     the duration of a crawl, from its start until the catalog was saved
+     */
+    public record NodeMetrics(long crawls, long failures, long retries, long timeouts, long pages, long bytes, long datasets,
+                              TimerSnapshot fetchLatency, TimerSnapshot transformTime, TimerSnapshot crawlTime) {
+    }
+
+    /**
+     * Distribution of recorded durations.
+     *
+     * @param count       the number of recorded durations
+     * @param totalMillis the sum of all recorded durations
+     * @param maxMillis   the longest recorded duration
+     * @param histogram   the number of recorded durations per bucket, keyed by the upper bound of the bucket in milliseconds
+     *                    (inclusive), in ascending order. The last bucket is keyed {@code +Inf}.
+     */
+    public record TimerSnapshot(long count, long totalMillis, long maxMillis, Map<String, Long> histogram) {
+
+        public static final TimerSnapshot EMPTY = new TimerSnapshot(0, 0, 0, Map.of());
+    }
+}
@@ -16,9 +16,25 @@ package org.eclipse.edc.crawler.spi.model;
 
 
 import org.eclipse.edc.crawler.spi.CrawlerAction;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Instant;
 
 /**
  * {@link CrawlerAction}s accept {@code UpdateRequests} to execute
+ *
+ * @param generation the id of the crawl run during which the request is executed, or 0 if it is not part of a crawl run.
+ *                   Actions may share work between the requests of the same generation.
+ * @param deadline   the instant after which the crawl of the node is abandoned, or null if it has no deadline. Actions should not
+ *                   wait for resources beyond it.
  */
-public record UpdateRequest(String nodeId, String nodeUrl, String protocol) {
+public record UpdateRequest(String nodeId, String nodeUrl, String protocol, long generation, @Nullable Instant deadline) {
+
+    public UpdateRequest(String nodeId, String nodeUrl, String protocol) {
+        this(nodeId, nodeUrl, protocol, 0);
+    }
+
+    public UpdateRequest(String nodeId, String nodeUrl, String protocol, long generation) {
+        this(nodeId, nodeUrl, protocol, generation, null);
+    }
 }
@@ -18,6 +18,7 @@ package org.eclipse.edc.crawler.spi.model;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import org.eclipse.edc.crawler.spi.CrawlerAction;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * {@link CrawlerAction}s return {@code UpdateResponse} objects after it completes. Contains information about the {@code source}, i.e. where the response comes from
@@ -26,10 +27,23 @@ import org.eclipse.edc.crawler.spi.CrawlerAction;
  */
 public abstract class UpdateResponse {
     private final String source;
+    private final String contentHash;
+    private final long generation;
+
+    public UpdateResponse(String source) {
+        this(source, null);
+    }
+
+    public UpdateResponse(String source, String contentHash) {
+        this(source, contentHash, 0);
+    }
 
     @JsonCreator
-    public UpdateResponse(@JsonProperty("source") String source) {
+    public UpdateResponse(@JsonProperty("source") String source, @JsonProperty("contentHash") String contentHash,
+                          @JsonProperty("generation") long generation) {
         this.source = source;
+        this.contentHash = contentHash;
+        this.generation = generation;
     }
 
     /**
@@ -38,4 +52,21 @@ public abstract class UpdateResponse {
     public String getSource() {
         return source;
     }
+
+    /**
+     * A fingerprint of the raw content that was received, which is used to detect whether the content has changed since
+     * the last crawl. May be null if the {@link CrawlerAction} does not compute one.
+     */
+    @Nullable
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    /**
+     * The id of the crawl generation whose {@link UpdateRequest} produced this response, or 0
+     * if it is not known.
+     */
+    public long getGeneration() {
+        return generation;
+    }
 }
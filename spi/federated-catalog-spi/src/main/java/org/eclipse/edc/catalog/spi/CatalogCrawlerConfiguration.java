@@ -27,43 +27,182 @@ public record CatalogCrawlerConfiguration(
         @Setting(
                 description = "Determines whether catalog crawling is globally enabled or disabled",
                 key = "edc.catalog.cache.execution.enabled",
-                defaultValue = "true")
+                defaultValue = DEFAULT_ENABLED)
         boolean enabled,
 
         @Setting(
                 description = "The number of crawlers (execution threads) that should be used. The engine will re-use crawlers when necessary.",
                 key = "edc.catalog.cache.partition.num.crawlers",
-                defaultValue = "2")
+                defaultValue = DEFAULT_NUM_CRAWLERS)
         int numCrawlers,
 
         @Setting(
                 description = "The time to elapse between two crawl runs",
                 key = "edc.catalog.cache.execution.period.seconds",
-                defaultValue = "60")
+                defaultValue = DEFAULT_PERIOD_SECONDS)
         long periodSeconds,
 
         @Setting(
                 description = "The initial delay for the cache crawler engine",
                 key = "edc.catalog.cache.execution.delay.seconds",
                 required = false,
-                defaultValue = "0")
+                defaultValue = DEFAULT_DELAY_SECONDS)
         int delaySeconds,
 
         @Setting(
                 description = "How many retries will be executed in case of crawler failure",
                 key = "edc.catalog.cache.retry.retries.max",
-                defaultValue = "5")
+                defaultValue = DEFAULT_MAX_RETRIES)
         int maxRetries,
 
         @Setting(
-                description = "How many seconds the crawler will await after a failure before retry",
+                description = "How many seconds the crawler will await after a failure before retry. The delay doubles with every " +
+                        "further retry, and is jittered randomly between half and the full delay",
                 key = "edc.catalog.cache.retry.delay.seconds",
-                defaultValue = "10")
-        int retryDelaySeconds
+                defaultValue = DEFAULT_RETRY_DELAY_SECONDS)
+        int retryDelaySeconds,
+
+        @Setting(
+                description = "How crawlers are executed. 'platform' runs them on a fixed pool of 'edc.catalog.cache.partition.num.crawlers' threads, " +
+                        "'virtual' runs every work item on its own virtual thread (requires Java 21+)",
+                key = "edc.catalog.cache.execution.mode",
+                defaultValue = EXECUTION_MODE_PLATFORM)
+        String executionMode,
+
+        @Setting(
+                description = "Maximum number of concurrent crawls against the same target node. 0 means unlimited",
+                key = "edc.catalog.cache.bulkhead.node.max.inflight",
+                defaultValue = DEFAULT_MAX_INFLIGHT)
+        int maxInflightPerNode,
+
+        @Setting(
+                description = "Maximum number of concurrent crawls against the same target host. 0 means unlimited",
+                key = "edc.catalog.cache.bulkhead.host.max.inflight",
+                defaultValue = DEFAULT_MAX_INFLIGHT)
+        int maxInflightPerHost,
+
+        @Setting(
+                description = "How long a crawl run (generation) may take before the next run is allowed to start. The stale entries of a " +
+                        "run that timed out are not purged",
+                key = "edc.catalog.cache.execution.generation.timeout.seconds",
+                defaultValue = DEFAULT_GENERATION_TIMEOUT_SECONDS)
+        long generationTimeoutSeconds,
+
+        @Setting(
+                description = "Whether every target node is crawled at its own interval, which adapts to how often the node's catalog changes. " +
+                        "Nodes are only checked on every execution period, so the period should not be larger than the minimum interval",
+                key = "edc.catalog.cache.execution.adaptive.enabled",
+                defaultValue = DEFAULT_ADAPTIVE_SCHEDULING)
+        boolean adaptiveScheduling,
+
+        @Setting(
+                description = "The minimum interval between two crawls of the same target node, if adaptive scheduling is enabled",
+                key = "edc.catalog.cache.execution.adaptive.interval.min.seconds",
+                defaultValue = DEFAULT_ADAPTIVE_MIN_INTERVAL_SECONDS)
+        long adaptiveMinIntervalSeconds,
+
+        @Setting(
+                description = "The maximum interval between two crawls of the same target node, if adaptive scheduling is enabled",
+                key = "edc.catalog.cache.execution.adaptive.interval.max.seconds",
+                defaultValue = DEFAULT_ADAPTIVE_MAX_INTERVAL_SECONDS)
+        long adaptiveMaxIntervalSeconds,
+
+        @Setting(
+                description = "The maximum delay between two retries, in seconds",
+                key = "edc.catalog.cache.retry.delay.max.seconds",
+                defaultValue = DEFAULT_RETRY_MAX_DELAY_SECONDS)
+        int retryMaxDelaySeconds,
+
+        @Setting(
+                description = "After how many consecutive failed crawls (i.e. crawls that exhausted all retries) a target node is not " +
+                        "crawled anymore until its circuit breaker cool-down has elapsed. 0 disables the circuit breaker",
+                key = "edc.catalog.cache.circuitbreaker.failures.threshold",
+                defaultValue = DEFAULT_CIRCUIT_BREAKER_FAILURE_THRESHOLD)
+        int circuitBreakerFailureThreshold,
+
+        @Setting(
+                description = "The initial cool-down of an open circuit breaker, in seconds. Doubles every time a probe crawl fails",
+                key = "edc.catalog.cache.circuitbreaker.cooldown.seconds",
+                defaultValue = DEFAULT_CIRCUIT_BREAKER_COOLDOWN_SECONDS)
+        long circuitBreakerCooldownSeconds,
+
+        @Setting(
+                description = "The maximum cool-down of an open circuit breaker, in seconds",
+                key = "edc.catalog.cache.circuitbreaker.cooldown.max.seconds",
+                defaultValue = DEFAULT_CIRCUIT_BREAKER_MAX_COOLDOWN_SECONDS)
+        long circuitBreakerMaxCooldownSeconds,
+
+        @Setting(
+                description = "How often every crawler replica is placed on the consistent hash ring that partitions the target nodes " +
+                        "among replicas. Only used if a crawler membership is available",
+                key = "edc.catalog.cache.partition.virtual.nodes",
+                defaultValue = DEFAULT_PARTITION_VIRTUAL_NODES)
+        int partitionVirtualNodes,
+
+        @Setting(
+                description = "After how many seconds without heartbeat a crawler replica is removed from the consistent hash ring. " +
+                        "Should be a multiple of the execution period",
+                key = "edc.catalog.cache.partition.heartbeat.timeout.seconds",
+                defaultValue = DEFAULT_PARTITION_HEARTBEAT_TIMEOUT_SECONDS)
+        long partitionHeartbeatTimeoutSeconds,
+
+        @Setting(
+                description = "How long the crawl of a single target node, including all its pages and sub-catalogs, may take before it is " +
+                        "cancelled and counts as failed. 0 disables the limit",
+                key = "edc.catalog.cache.execution.crawl.timeout.seconds",
+                defaultValue = DEFAULT_CRAWL_TIMEOUT_SECONDS)
+        long crawlTimeoutSeconds,
+
+        @Setting(
+                description = "How long the crawler waits on shutdown for the crawl run in progress to complete, before its outstanding " +
+                        "crawls are cancelled",
+                key = "edc.catalog.cache.execution.shutdown.timeout.seconds",
+                defaultValue = DEFAULT_SHUTDOWN_TIMEOUT_SECONDS)
+        long shutdownTimeoutSeconds
 
 ) {
+    public static final String EXECUTION_MODE_PLATFORM = "platform";
+    public static final String EXECUTION_MODE_VIRTUAL = "virtual";
+
+    private static final String DEFAULT_ENABLED = "true";
+    private static final String DEFAULT_NUM_CRAWLERS = "2";
+    private static final String DEFAULT_PERIOD_SECONDS = "60";
+    private static final String DEFAULT_DELAY_SECONDS = "0";
+    private static final String DEFAULT_MAX_RETRIES = "5";
+    private static final String DEFAULT_RETRY_DELAY_SECONDS = "10";
+    private static final String DEFAULT_MAX_INFLIGHT = "0";
+    private static final String DEFAULT_GENERATION_TIMEOUT_SECONDS = "600";
+    private static final String DEFAULT_ADAPTIVE_SCHEDULING = "false";
+    private static final String DEFAULT_ADAPTIVE_MIN_INTERVAL_SECONDS = "60";
+    private static final String DEFAULT_ADAPTIVE_MAX_INTERVAL_SECONDS = "3600";
+    private static final String DEFAULT_RETRY_MAX_DELAY_SECONDS = "300";
+    private static final String DEFAULT_CIRCUIT_BREAKER_FAILURE_THRESHOLD = "3";
+    private static final String DEFAULT_CIRCUIT_BREAKER_COOLDOWN_SECONDS = "300";
+    private static final String DEFAULT_CIRCUIT_BREAKER_MAX_COOLDOWN_SECONDS = "21600";
+    private static final String DEFAULT_PARTITION_VIRTUAL_NODES = "100";
+    private static final String DEFAULT_PARTITION_HEARTBEAT_TIMEOUT_SECONDS = "180";
+    private static final String DEFAULT_CRAWL_TIMEOUT_SECONDS = "300";
+    private static final String DEFAULT_SHUTDOWN_TIMEOUT_SECONDS = "30";
+
     private static final int LOW_EXECUTION_PERIOD_SECONDS_THRESHOLD = 10;
 
+    private static final CatalogCrawlerConfiguration DEFAULTS = Builder.newInstance().build();
+
+    /**
+     * Creates a configuration that uses the default values for all tuning parameters.
+     */
+    public CatalogCrawlerConfiguration(boolean enabled, int numCrawlers, long periodSeconds, int delaySeconds, int maxRetries, int retryDelaySeconds) {
+        this(enabled, numCrawlers, periodSeconds, delaySeconds, maxRetries, retryDelaySeconds, DEFAULTS.executionMode, DEFAULTS.maxInflightPerNode,
+                DEFAULTS.maxInflightPerHost, DEFAULTS.generationTimeoutSeconds, DEFAULTS.adaptiveScheduling, DEFAULTS.adaptiveMinIntervalSeconds,
+                DEFAULTS.adaptiveMaxIntervalSeconds, DEFAULTS.retryMaxDelaySeconds, DEFAULTS.circuitBreakerFailureThreshold,
+                DEFAULTS.circuitBreakerCooldownSeconds, DEFAULTS.circuitBreakerMaxCooldownSeconds, DEFAULTS.partitionVirtualNodes,
+                DEFAULTS.partitionHeartbeatTimeoutSeconds, DEFAULTS.crawlTimeoutSeconds, DEFAULTS.shutdownTimeoutSeconds);
+    }
+
+    public boolean isVirtualExecution() {
+        return EXECUTION_MODE_VIRTUAL.equalsIgnoreCase(executionMode());
+    }
+
     public Optional<String> checkPeriodSeconds() {
         if (periodSeconds() < LOW_EXECUTION_PERIOD_SECONDS_THRESHOLD) {
             var message = format("An execution period of %d seconds is very low (threshold = %d). This might result in the work queue to be ever growing." +
@@ -73,4 +212,152 @@ public record CatalogCrawlerConfiguration(
 
         return Optional.empty();
     }
+
+    /**
+     * Builds a configuration from the same default values as the settings, e.g. for tests that only change a few of them.
+     */
+    public static final class Builder {
+
+        private boolean enabled = Boolean.parseBoolean(DEFAULT_ENABLED);
+        private int numCrawlers = Integer.parseInt(DEFAULT_NUM_CRAWLERS);
+        private long periodSeconds = Long.parseLong(DEFAULT_PERIOD_SECONDS);
+        private int delaySeconds = Integer.parseInt(DEFAULT_DELAY_SECONDS);
+        private int maxRetries = Integer.parseInt(DEFAULT_MAX_RETRIES);
+        private int retryDelaySeconds = Integer.parseInt(DEFAULT_RETRY_DELAY_SECONDS);
+        private String executionMode = EXECUTION_MODE_PLATFORM;
+        private int maxInflightPerNode = Integer.parseInt(DEFAULT_MAX_INFLIGHT);
+        private int maxInflightPerHost = Integer.parseInt(DEFAULT_MAX_INFLIGHT);
+        private long generationTimeoutSeconds = Long.parseLong(DEFAULT_GENERATION_TIMEOUT_SECONDS);
+        private boolean adaptiveScheduling = Boolean.parseBoolean(DEFAULT_ADAPTIVE_SCHEDULING);
+        private long adaptiveMinIntervalSeconds = Long.parseLong(DEFAULT_ADAPTIVE_MIN_INTERVAL_SECONDS);
+        private long adaptiveMaxIntervalSeconds = Long.parseLong(DEFAULT_ADAPTIVE_MAX_INTERVAL_SECONDS);
+        private int retryMaxDelaySeconds = Integer.parseInt(DEFAULT_RETRY_MAX_DELAY_SECONDS);
+        private int circuitBreakerFailureThreshold = Integer.parseInt(DEFAULT_CIRCUIT_BREAKER_FAILURE_THRESHOLD);
+        private long circuitBreakerCooldownSeconds = Long.parseLong(DEFAULT_CIRCUIT_BREAKER_COOLDOWN_SECONDS);
+        private long circuitBreakerMaxCooldownSeconds = Long.parseLong(DEFAULT_CIRCUIT_BREAKER_MAX_COOLDOWN_SECONDS);
+        private int partitionVirtualNodes = Integer.parseInt(DEFAULT_PARTITION_VIRTUAL_NODES);
+        private long partitionHeartbeatTimeoutSeconds = Long.parseLong(DEFAULT_PARTITION_HEARTBEAT_TIMEOUT_SECONDS);
+        private long crawlTimeoutSeconds = Long.parseLong(DEFAULT_CRAWL_TIMEOUT_SECONDS);
+        private long shutdownTimeoutSeconds = Long.parseLong(DEFAULT_SHUTDOWN_TIMEOUT_SECONDS);
+
+        private Builder() {
+        }
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder enabled(boolean enabled) {
+            this.enabled = enabled;
+            return this;
+        }
+
+        public Builder numCrawlers(int numCrawlers) {
+            this.numCrawlers = numCrawlers;
+            return this;
+        }
+
+        public Builder periodSeconds(long periodSeconds) {
+            this.periodSeconds = periodSeconds;
+            return this;
+        }
+
+        public Builder delaySeconds(int delaySeconds) {
+            this.delaySeconds = delaySeconds;
+            return this;
+        }
+
+        public Builder maxRetries(int maxRetries) {
+            this.maxRetries = maxRetries;
+            return this;
+        }
+
+        public Builder retryDelaySeconds(int retryDelaySeconds) {
+            this.retryDelaySeconds = retryDelaySeconds;
+            return this;
+        }
+
+        public Builder executionMode(String executionMode) {
+            this.executionMode = executionMode;
+            return this;
+        }
+
+        public Builder maxInflightPerNode(int maxInflightPerNode) {
+            this.maxInflightPerNode = maxInflightPerNode;
+            return this;
+        }
+
+        public Builder maxInflightPerHost(int maxInflightPerHost) {
+            this.maxInflightPerHost = maxInflightPerHost;
+            return this;
+        }
+
+        public Builder generationTimeoutSeconds(long generationTimeoutSeconds) {
+            this.generationTimeoutSeconds = generationTimeoutSeconds;
+            return this;
+        }
+
+        public Builder adaptiveScheduling(boolean adaptiveScheduling) {
+            this.adaptiveScheduling = adaptiveScheduling;
+            return this;
+        }
+
+        public Builder adaptiveMinIntervalSeconds(long adaptiveMinIntervalSeconds) {
+            this.adaptiveMinIntervalSeconds = adaptiveMinIntervalSeconds;
+            return this;
+        }
+
+        public Builder adaptiveMaxIntervalSeconds(long adaptiveMaxIntervalSeconds) {
+            this.adaptiveMaxIntervalSeconds = adaptiveMaxIntervalSeconds;
+            return this;
+        }
+
+        public Builder retryMaxDelaySeconds(int retryMaxDelaySeconds) {
+            this.retryMaxDelaySeconds = retryMaxDelaySeconds;
+            return this;
+        }
+
+        public Builder circuitBreakerFailureThreshold(int circuitBreakerFailureThreshold) {
+            this.circuitBreakerFailureThreshold = circuitBreakerFailureThreshold;
+            return this;
+        }
+
+        public Builder circuitBreakerCooldownSeconds(long circuitBreakerCooldownSeconds) {
+            this.circuitBreakerCooldownSeconds = circuitBreakerCooldownSeconds;
+            return this;
+        }
+
+        public Builder circuitBreakerMaxCooldownSeconds(long circuitBreakerMaxCooldownSeconds) {
+            this.circuitBreakerMaxCooldownSeconds = circuitBreakerMaxCooldownSeconds;
+            return this;
+        }
+
+        public Builder partitionVirtualNodes(int partitionVirtualNodes) {
+            this.partitionVirtualNodes = partitionVirtualNodes;
+            return this;
+        }
+
+        public Builder partitionHeartbeatTimeoutSeconds(long partitionHeartbeatTimeoutSeconds) {
+            this.partitionHeartbeatTimeoutSeconds = partitionHeartbeatTimeoutSeconds;
+            return this;
+        }
+
+        public Builder crawlTimeoutSeconds(long crawlTimeoutSeconds) {
+            this.crawlTimeoutSeconds = crawlTimeoutSeconds;
+            return this;
+        }
+
+        public Builder shutdownTimeoutSeconds(long shutdownTimeoutSeconds) {
+            this.shutdownTimeoutSeconds = shutdownTimeoutSeconds;
+            return this;
+        }
+
+        public CatalogCrawlerConfiguration build() {
+            return new CatalogCrawlerConfiguration(enabled, numCrawlers, periodSeconds, delaySeconds, maxRetries, retryDelaySeconds, executionMode,
+                    maxInflightPerNode, maxInflightPerHost, generationTimeoutSeconds, adaptiveScheduling, adaptiveMinIntervalSeconds,
+                    adaptiveMaxIntervalSeconds, retryMaxDelaySeconds, circuitBreakerFailureThreshold, circuitBreakerCooldownSeconds,
+                    circuitBreakerMaxCooldownSeconds, partitionVirtualNodes, partitionHeartbeatTimeoutSeconds, crawlTimeoutSeconds,
+                    shutdownTimeoutSeconds);
+        }
+    }
 }
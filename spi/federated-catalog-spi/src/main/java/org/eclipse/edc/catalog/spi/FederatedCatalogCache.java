@@ -14,14 +14,22 @@
 
 package org.eclipse.edc.catalog.spi;
 
+import org.eclipse.edc.catalog.spi.model.DatasetMatch;
 import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
 import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
 import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.result.StoreResult;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Internal datastore where all the catalogs from all the other connectors are stored by the FederatedCatalogCache.
+ * <p>
+ * Entries can be tracked by crawl generation: every crawl run has a generation id, which is monotonically increasing
+ * across runs and restarts (the crawler uses the start time of the run in epoch milliseconds). After a run has completed,
+ * all entries that were not saved during that run are removed in one step using {@link #deleteExpired(long)}.
  */
 @ExtensionPoint
 public interface FederatedCatalogCache {
@@ -31,6 +39,40 @@ public interface FederatedCatalogCache {
      */
     void save(Catalog catalog);
 
+    /**
+     * Adds or replaces a {@link Catalog} and records the crawl generation during which it was obtained.
+     *
+     * @param catalog    the catalog
+     * @param generation the id of the crawl generation
+     */
+    default void save(Catalog catalog, long generation) {
+        save(catalog);
+    }
+
+    /**
+     * Adds or replaces multiple {@link Catalog}s obtained during the same crawl generation. Implementations should save them
+     * in a single transaction, the default implementation saves them one by one.
+     *
+     * @param catalogs   the catalogs
+     * @param generation the id of the crawl generation
+     */
+    default void saveAll(Collection<Catalog> catalogs, long generation) {
+        catalogs.forEach(catalog -> save(catalog, generation));
+    }
+
+    /**
+     * Records that the entry with the given id was obtained again during the given crawl generation, without rewriting it.
+     * This is used for catalogs whose content did not change since they were last saved. The default implementation does
+     * not support this, callers then save the catalog again.
+     *
+     * @param id         the id of the entry, i.e. the originator of the catalog
+     * @param generation the id of the crawl generation
+     * @return true if the entry exists and was refreshed, false otherwise
+     */
+    default boolean touch(String id, long generation) {
+        return false;
+    }
+
     /**
      * Queries the store for {@code ContractOffer}s
      *
@@ -39,11 +81,52 @@ public interface FederatedCatalogCache {
      */
     Collection<Catalog> query(QuerySpec query);
 
+    /**
+     * Searches the datasets of all cached catalogs, including those of sub-catalogs, for the given keywords. A dataset matches
+     * if every keyword occurs in its ID or in one of its searchable properties, ignoring case. The default implementation does
+     * not support searching and returns a failure.
+     *
+     * @param keywords the keywords, separated by whitespace
+     * @param offset   the number of matches to skip
+     * @param limit    the maximum number of matches to return
+     * @return the matching datasets, or a failure if the cache does not support searching
+     */
+    default StoreResult<List<DatasetMatch>> searchDatasets(String keywords, int offset, int limit) {
+        return StoreResult.generalError("%s does not support searching datasets".formatted(getClass().getSimpleName()));
+    }
+
     /**
      * Deletes all entries from the cache that are marked as "expired"
      */
     void deleteExpired();
 
+    /**
+     * Deletes all entries that were last saved during a crawl generation older than the given one.
+     * <p>
+     * The default implementation falls back to mark-and-sweep: it deletes entries that were marked after the previous
+     * generation and have not been saved since, and then marks all remaining entries.
+     *
+     * @param generation the id of the oldest generation whose entries are retained
+     */
+    default void deleteExpired(long generation) {
+        deleteExpired();
+        expireAll();
+    }
+
+    /**
+     * Deletes all entries that were last saved during a crawl generation older than the given one, except for the entries in
+     * {@code retained}, which are only deleted if they were last saved during a generation older than the one they are mapped to.
+     * This way, the entries of nodes that were not crawled again are retained, without retaining all other stale entries.
+     * <p>
+     * The default implementation retains the entries of all generations since the oldest retained one.
+     *
+     * @param generation the id of the oldest generation whose entries are retained
+     * @param retained   the id of the oldest generation whose entry is retained, by entry id
+     */
+    default void deleteExpired(long generation, Map<String, Long> retained) {
+        deleteExpired(Math.min(generation, retained.values().stream().mapToLong(Long::longValue).min().orElse(generation)));
+    }
+
     /**
      * Marks all entries as "expired", i.e. marks them for deletion
      */
@@ -14,12 +14,14 @@
 
 package org.eclipse.edc.catalog.spi;
 
+import org.eclipse.edc.catalog.spi.model.DatasetMatch;
 import org.eclipse.edc.connector.controlplane.asset.spi.domain.Asset;
 import org.eclipse.edc.connector.controlplane.catalog.spi.Catalog;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.ServiceResult;
 
 import java.util.Collection;
+import java.util.List;
 
 /**
  * Accepts a {@link QuerySpec} and fetches a collection of {@link Asset} that conform to that query.
@@ -28,4 +30,16 @@ import java.util.Collection;
 public interface QueryService {
 
     ServiceResult<Collection<Catalog>> getCatalog(QuerySpec query);
+
+    /**
+     * Searches the datasets of the cached catalogs for the given keywords, see {@link FederatedCatalogCache#searchDatasets(String, int, int)}.
+     *
+     * @param keywords the keywords, separated by whitespace
+     * @param offset   the number of matches to skip
+     * @param limit    the maximum number of matches to return
+     * @return the matching datasets with the ID of the catalog that lists them
+     */
+    default ServiceResult<List<DatasetMatch>> searchDatasets(String keywords, int offset, int limit) {
+        return ServiceResult.unexpected("Dataset search is not supported");
+    }
 }
@@ -22,9 +22,18 @@ import org.eclipse.edc.crawler.spi.model.UpdateResponse;
 public class CatalogUpdateResponse extends UpdateResponse {
     private final Catalog catalog;
 
+    public CatalogUpdateResponse(String source, Catalog catalog) {
+        this(source, catalog, null);
+    }
+
+    public CatalogUpdateResponse(String source, Catalog catalog, String contentHash) {
+        this(source, catalog, contentHash, 0);
+    }
+
     @JsonCreator
-    public CatalogUpdateResponse(@JsonProperty("source") String source, @JsonProperty("catalog") Catalog catalog) {
-        super(source);
+    public CatalogUpdateResponse(@JsonProperty("source") String source, @JsonProperty("catalog") Catalog catalog,
+                                 @JsonProperty("contentHash") String contentHash, @JsonProperty("generation") long generation) {
+        super(source, contentHash, generation);
         this.catalog = catalog;
     }
 
@@ -0,0 +1,26 @@
+/*
+ *  Copyright (c) 2026 Think-it GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Think-it GmbH - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.catalog.spi.model;
+
+import org.eclipse.edc.connector.controlplane.catalog.spi.Dataset;
+
+/**
+ * A dataset that matched a dataset search.
+ *
+ * @param catalogId the ID of the catalog that lists the dataset, which may be a sub-catalog of a crawled catalog
+ * @param dataset   the dataset
+ */
+public record DatasetMatch(String catalogId, Dataset dataset) {
+}
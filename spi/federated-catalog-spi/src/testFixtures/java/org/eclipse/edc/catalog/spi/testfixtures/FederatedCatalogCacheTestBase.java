@@ -27,6 +27,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -128,6 +129,62 @@ public abstract class FederatedCatalogCacheTestBase {
                     .anySatisfy(co -> assertThat(co.getDatasets().get(0).getId()).isEqualTo(assetId1))
                     .anySatisfy(co -> assertThat(co.getDatasets().get(0).getId()).isEqualTo(assetId2));
         }
+
+        @Test
+        void saveAll_shouldSaveAllCatalogs() {
+            var entry1 = createCatalog(UUID.randomUUID().toString(), createAsset(UUID.randomUUID().toString()));
+            var entry2 = createCatalog(UUID.randomUUID().toString(), createAsset(UUID.randomUUID().toString()));
+
+            getStore().saveAll(List.of(entry1, entry2), 1);
+
+            assertThat(getStore().query(QuerySpec.none()))
+                    .extracting(Catalog::getId)
+                    .containsExactlyInAnyOrder(entry1.getId(), entry2.getId());
+        }
+
+        @Test
+        void saveAll_shouldReplaceExistingAndUpdateGeneration() {
+            var id = UUID.randomUUID().toString();
+            var assetId = UUID.randomUUID().toString();
+            var other = createCatalog(UUID.randomUUID().toString(), createAsset(UUID.randomUUID().toString()));
+            getStore().save(createCatalog(id, createAsset(UUID.randomUUID().toString())), 1);
+            getStore().save(other, 1);
+
+            getStore().saveAll(List.of(createCatalog(id, createAsset(assetId))), 2);
+            getStore().deleteExpired(2);
+
+            assertThat(getStore().query(QuerySpec.none()))
+                    .hasSize(1)
+                    .allSatisfy(co -> {
+                        assertThat(co.getId()).isEqualTo(id);
+                        assertThat(co.getDatasets().get(0).getId()).isEqualTo(assetId);
+                    });
+        }
+
+        @Test
+        void touch_shouldUpdateGenerationAndKeepCatalog() {
+            var id = UUID.randomUUID().toString();
+            var assetId = UUID.randomUUID().toString();
+            getStore().save(createCatalog(id, createAsset(assetId)), 1);
+            getStore().save(createCatalog(UUID.randomUUID().toString(), createAsset(UUID.randomUUID().toString())), 1);
+
+            assertThat(getStore().touch("https://test.source/" + id, 2)).isTrue();
+            getStore().deleteExpired(2);
+
+            assertThat(getStore().query(QuerySpec.none()))
+                    .hasSize(1)
+                    .allSatisfy(co -> {
+                        assertThat(co.getId()).isEqualTo(id);
+                        assertThat(co.getDatasets().get(0).getId()).isEqualTo(assetId);
+                    });
+        }
+
+        @Test
+        void touch_notExists_shouldReturnFalse() {
+            assertThat(getStore().touch("https://test.source/" + UUID.randomUUID(), 2)).isFalse();
+
+            assertThat(getStore().query(QuerySpec.none())).isEmpty();
+        }
     }
 
     @Nested
@@ -260,5 +317,52 @@ public abstract class FederatedCatalogCacheTestBase {
                     .doesNotContain(entry1, entry2);
 
         }
+
+        @Test
+        void deleteExpired_shouldDeleteOlderGenerations() {
+            var entry1 = createCatalog(UUID.randomUUID().toString(), createAsset(UUID.randomUUID().toString()));
+            var entry2 = createCatalog(UUID.randomUUID().toString(), createAsset(UUID.randomUUID().toString()));
+            var entry3 = createCatalog(UUID.randomUUID().toString(), createAsset(UUID.randomUUID().toString()));
+
+            getStore().save(entry1, 1);
+            getStore().save(entry2, 2);
+            getStore().save(entry3, 3);
+
+            getStore().deleteExpired(2);
+
+            assertThat(getStore().query(QuerySpec.none())).hasSize(2)
+                    .extracting(Catalog::getId)
+                    .containsExactlyInAnyOrder(entry2.getId(), entry3.getId());
+        }
+
+        @Test
+        void deleteExpired_shouldRetainEntriesSavedAgain() {
+            var entry = createCatalog(UUID.randomUUID().toString(), createAsset(UUID.randomUUID().toString()));
+
+            getStore().save(entry, 1);
+            getStore().save(entry, 2);
+            getStore().deleteExpired(2);
+
+            assertThat(getStore().query(QuerySpec.none())).hasSize(1);
+        }
+
+        @Test
+        void deleteExpired_withRetainedEntries_shouldOnlyRetainThose() {
+            var notDue = createCatalog(UUID.randomUUID().toString(), createAsset(UUID.randomUUID().toString()));
+            var tooOld = createCatalog(UUID.randomUUID().toString(), createAsset(UUID.randomUUID().toString()));
+            var removed = createCatalog(UUID.randomUUID().toString(), createAsset(UUID.randomUUID().toString()));
+            var crawled = createCatalog(UUID.randomUUID().toString(), createAsset(UUID.randomUUID().toString()));
+
+            getStore().save(notDue, 1);
+            getStore().save(tooOld, 1);
+            getStore().save(removed, 2);
+            getStore().save(crawled, 3);
+
+            getStore().deleteExpired(3, Map.of("https://test.source/" + notDue.getId(), 1L, "https://test.source/" + tooOld.getId(), 2L));
+
+            assertThat(getStore().query(QuerySpec.none()))
+                    .extracting(Catalog::getId)
+                    .containsExactlyInAnyOrder(notDue.getId(), crawled.getId());
+        }
     }
 }